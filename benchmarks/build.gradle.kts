@@ -0,0 +1,57 @@
+plugins {
+    id("org.spongepowered.gradle.vanilla")
+    id("implementation-structure")
+}
+
+val commonProject = parent!!
+val organization: String by project
+val projectUrl: String by project
+
+description = "JMH benchmarks for the hot paths of SpongeCommon, run against the unit test stubs instead of a server"
+
+val applaunch = commonProject.sourceSets.named("applaunch")
+val launch = commonProject.sourceSets.named("launch")
+val commonMain = commonProject.sourceSets.named("main")
+val commonTest = commonProject.sourceSets.named("test")
+
+val benchmarksMain by sourceSets.named("main") {
+    spongeImpl.applyNamedDependencyOnOutput(commonProject, applaunch.get(), this, project, this.implementationConfigurationName)
+    spongeImpl.applyNamedDependencyOnOutput(commonProject, launch.get(), this, project, this.implementationConfigurationName)
+    spongeImpl.applyNamedDependencyOnOutput(commonProject, commonMain.get(), this, project, this.implementationConfigurationName)
+    // The stubbed game, registries and plugin platform of the unit tests
+    spongeImpl.applyNamedDependencyOnOutput(commonProject, commonTest.get(), this, project, this.implementationConfigurationName)
+}
+
+dependencies {
+    val jmhVersion: String by project
+    val mockitoVersion: String by project
+
+    implementation(project(commonProject.path))
+    implementation(project(commonProject.path, configuration = "launch"))
+    implementation("org.mockito:mockito-core:$mockitoVersion")
+
+    implementation("org.openjdk.jmh:jmh-core:$jmhVersion")
+    annotationProcessor("org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
+}
+
+indraSpotlessLicenser {
+    licenseHeaderFile(rootProject.file("HEADER.txt"))
+
+    property("name", "Sponge")
+    property("organization", organization)
+    property("url", projectUrl)
+}
+
+// Runs the benchmarks, JMH options can be passed through with -PjmhArgs="<regex> -f 1 -wi 3"
+tasks.register("jmh", JavaExec::class) {
+    group = "sponge"
+    description = "Run the JMH benchmarks"
+    dependsOn(tasks.named("classes"))
+
+    classpath(benchmarksMain.runtimeClasspath)
+    mainClass.set("org.openjdk.jmh.Main")
+    val jmhArgs = project.findProperty("jmhArgs") as String?
+    if (jmhArgs != null) {
+        args(jmhArgs.split(' ').filter { it.isNotBlank() })
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.benchmark;
+
+import com.google.inject.Guice;
+import org.mockito.Mockito;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.data.value.Value;
+import org.spongepowered.api.registry.RegistryKey;
+import org.spongepowered.api.registry.RegistryType;
+import org.spongepowered.api.registry.RegistryTypes;
+import org.spongepowered.api.util.mirror.Mirror;
+import org.spongepowered.api.util.rotation.Rotation;
+import org.spongepowered.api.util.rotation.Rotations;
+import org.spongepowered.api.util.transformation.Transformation;
+import org.spongepowered.api.world.biome.Biome;
+import org.spongepowered.api.world.schematic.PaletteReference;
+import org.spongepowered.api.world.schematic.PaletteType;
+import org.spongepowered.api.world.volume.stream.StreamOptions;
+import org.spongepowered.common.applaunch.AppLaunch;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.data.value.SpongeValueFactory;
+import org.spongepowered.common.launch.Launch;
+import org.spongepowered.common.registry.SpongeBuilderProvider;
+import org.spongepowered.common.registry.SpongeFactoryProvider;
+import org.spongepowered.common.registry.SpongeRegistryKey;
+import org.spongepowered.common.registry.SpongeRegistryType;
+import org.spongepowered.common.test.TestLaunch;
+import org.spongepowered.common.test.TestPluginPlatform;
+import org.spongepowered.common.test.stub.StubGame;
+import org.spongepowered.common.test.stub.StubKey;
+import org.spongepowered.common.test.stub.StubModule;
+import org.spongepowered.common.test.stub.block.StubBlock;
+import org.spongepowered.common.test.stub.registry.StubRegistryFactory;
+import org.spongepowered.common.test.stub.registry.StubbedRegistry;
+import org.spongepowered.common.test.stub.util.StubMirror;
+import org.spongepowered.common.test.stub.util.StubRotations;
+import org.spongepowered.common.test.stub.world.schematic.StubBlockStatePaletteType;
+import org.spongepowered.common.test.stub.world.schematic.StubPaletteType;
+import org.spongepowered.common.util.transformation.SpongeTransformationBuilder;
+import org.spongepowered.common.world.schematic.SpongePaletteReferenceFactory;
+import org.spongepowered.common.world.volume.stream.SpongeStreamOptionsBuilder;
+
+/**
+ * Sets up the same stubbed game the unit tests run against, so that the
+ * benchmarks can exercise the common implementation without a server.
+ */
+public final class BenchmarkBootstrap {
+
+    private static boolean initialized;
+    private static StubbedRegistry<BlockType> blockTypes;
+
+    public static synchronized void init() {
+        if (BenchmarkBootstrap.initialized) {
+            return;
+        }
+        BenchmarkBootstrap.initialized = true;
+
+        if (AppLaunch.pluginPlatform() == null) {
+            final TestPluginPlatform platform = new TestPluginPlatform();
+            AppLaunch.setPluginPlatform(platform);
+            Launch.setInstance(new TestLaunch(platform));
+            SpongeConfigs.getCommon();
+        }
+
+        // Statically injects the stub game into Sponge
+        Guice.createInjector(new StubModule());
+        final StubGame game = (StubGame) Sponge.game();
+
+        final SpongeFactoryProvider factoryProvider = game.factoryProvider();
+        final SpongeBuilderProvider builderProvider = game.builderProvider();
+        factoryProvider.registerFactory(RegistryType.Factory.class, new SpongeRegistryType.FactoryImpl());
+        factoryProvider.registerFactory(RegistryKey.Factory.class, new SpongeRegistryKey.FactoryImpl());
+        factoryProvider.registerFactory(PaletteReference.Factory.class, new SpongePaletteReferenceFactory());
+        factoryProvider.registerFactory(ResourceKey.Factory.class, new StubRegistryFactory());
+        factoryProvider.registerFactory(Value.Factory.class, new SpongeValueFactory());
+        builderProvider.register(Transformation.Builder.class, SpongeTransformationBuilder::new);
+        builderProvider.register(StreamOptions.Builder.class, SpongeStreamOptionsBuilder::new);
+
+        final StubbedRegistry<Rotation> rotation = new StubbedRegistry<>(
+            () -> RegistryTypes.ROTATION,
+            (k) -> Rotations.NONE.get()
+        );
+        final StubbedRegistry<BlockType> blockTypes = new StubbedRegistry<>(
+            () -> RegistryTypes.BLOCK_TYPE,
+            StubBlock::new
+        );
+        final StubbedRegistry<Biome> biomes = new StubbedRegistry<>(
+            () -> RegistryTypes.BIOME,
+            (key) -> Mockito.mock(Biome.class)
+        );
+        final StubbedRegistry<PaletteType<?, ?>> paletteTypes = new StubbedRegistry<>(
+            () -> RegistryTypes.PALETTE_TYPE,
+            (key) -> new StubPaletteType<>()
+        );
+        final StubbedRegistry<Mirror> mirror = new StubbedRegistry<>(
+            () -> RegistryTypes.MIRROR,
+            (k) -> Mockito.mock(Mirror.class)
+        );
+        game.register(rotation);
+        game.register(blockTypes);
+        game.register(biomes);
+        game.register(paletteTypes);
+        game.register(mirror);
+        StubRotations.registerDefaults(rotation);
+        StubMirror.registerDefaults(mirror);
+        paletteTypes.register(new StubKey("sponge", "block_state_palette"), new StubBlockStatePaletteType());
+
+        BenchmarkBootstrap.blockTypes = blockTypes;
+    }
+
+    /**
+     * Gets the stubbed block type registry, new block types are created on
+     * demand by {@link StubbedRegistry#createEntry(String, String)}.
+     *
+     * @return The block type registry
+     */
+    public static StubbedRegistry<BlockType> blockTypes() {
+        BenchmarkBootstrap.init();
+        return BenchmarkBootstrap.blockTypes;
+    }
+
+    private BenchmarkBootstrap() {
+    }
+}
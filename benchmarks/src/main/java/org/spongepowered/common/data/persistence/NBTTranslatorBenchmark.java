@@ -0,0 +1,154 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.DoubleTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.StringTag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.common.benchmark.BenchmarkBootstrap;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Translates a player sized compound to a data view and back again with the
+ * {@link NBTTranslator}, both eagerly and lazily.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NBTTranslatorBenchmark {
+
+    private static final DataQuery WALK_SPEED = DataQuery.of("abilities", "walkSpeed");
+
+    @Param({"4", "36"})
+    public int items;
+
+    private CompoundTag compound;
+    private DataContainer container;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.init();
+        this.compound = NBTTranslatorBenchmark.createCompound(this.items);
+        this.container = NBTTranslator.INSTANCE.translateFrom(this.compound);
+    }
+
+    private static CompoundTag createCompound(final int items) {
+        final CompoundTag compound = new CompoundTag();
+        compound.putIntArray("UUID", new int[] {1, 2, 3, 4});
+        compound.putInt("XpLevel", 30);
+        compound.putFloat("Health", 20.0F);
+        final ListTag pos = new ListTag();
+        pos.add(DoubleTag.valueOf(128.5));
+        pos.add(DoubleTag.valueOf(64.0));
+        pos.add(DoubleTag.valueOf(-256.5));
+        compound.put("Pos", pos);
+
+        final CompoundTag abilities = new CompoundTag();
+        abilities.putBoolean("flying", false);
+        abilities.putFloat("walkSpeed", 0.1F);
+        abilities.putFloat("flySpeed", 0.05F);
+        compound.put("abilities", abilities);
+
+        final ListTag inventory = new ListTag();
+        for (int i = 0; i < items; i++) {
+            final CompoundTag item = new CompoundTag();
+            item.putByte("Slot", (byte) i);
+            item.putString("id", "minecraft:diamond_sword");
+            item.putByte("Count", (byte) 1);
+            final CompoundTag tag = new CompoundTag();
+            tag.putInt("Damage", i);
+            final CompoundTag display = new CompoundTag();
+            display.putString("Name", "{\"text\":\"Sword " + i + "\"}");
+            final ListTag lore = new ListTag();
+            lore.add(StringTag.valueOf("{\"text\":\"Benchmark\"}"));
+            display.put("Lore", lore);
+            tag.put("display", display);
+            final ListTag enchantments = new ListTag();
+            final CompoundTag sharpness = new CompoundTag();
+            sharpness.putString("id", "minecraft:sharpness");
+            sharpness.putShort("lvl", (short) 5);
+            enchantments.add(sharpness);
+            tag.put("Enchantments", enchantments);
+            item.put("tag", tag);
+            inventory.add(item);
+        }
+        compound.put("Inventory", inventory);
+        return compound;
+    }
+
+    @Benchmark
+    public DataContainer compoundToView() {
+        return NBTTranslator.INSTANCE.translateFrom(this.compound);
+    }
+
+    @Benchmark
+    public DataContainer compoundToLazyView() {
+        return NBTTranslator.INSTANCE.translateLazily(this.compound);
+    }
+
+    @Benchmark
+    public CompoundTag viewToCompound() {
+        return NBTTranslator.INSTANCE.translate(this.container);
+    }
+
+    @Benchmark
+    public CompoundTag roundTrip() {
+        return NBTTranslator.INSTANCE.translate(NBTTranslator.INSTANCE.translateFrom(this.compound));
+    }
+
+    @Benchmark
+    public CompoundTag lazyRoundTrip() {
+        return NBTTranslator.INSTANCE.translate(NBTTranslator.INSTANCE.translateLazily(this.compound));
+    }
+
+    @Benchmark
+    public Optional<Double> lazyNestedRead() {
+        return NBTTranslator.INSTANCE.translateLazily(this.compound).getDouble(NBTTranslatorBenchmark.WALK_SPEED);
+    }
+
+    @Benchmark
+    public DataContainer copyView() {
+        return this.container.copy();
+    }
+}
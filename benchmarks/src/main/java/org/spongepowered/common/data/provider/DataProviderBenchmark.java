@@ -0,0 +1,142 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.provider;
+
+import io.leangen.geantyref.TypeFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.data.DataHolder;
+import org.spongepowered.api.data.DataProvider;
+import org.spongepowered.api.data.DataTransactionResult;
+import org.spongepowered.api.data.Key;
+import org.spongepowered.api.data.value.Value;
+import org.spongepowered.common.benchmark.BenchmarkBootstrap;
+import org.spongepowered.common.data.holder.SpongeMutableDataHolder;
+import org.spongepowered.common.data.key.SpongeKey;
+import org.spongepowered.common.test.stub.StubKey;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gets and offers keys on a data holder whose providers are resolved through
+ * a {@link DataProviderRegistry}, the way the mixed in data holders do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataProviderBenchmark {
+
+    // Other keys registered next to the benchmarked one, like the default providers would be
+    private static final int FILLER_KEYS = 256;
+
+    private DataProviderRegistry registry;
+    private SpongeKey<Value<Integer>, Integer> key;
+    private BenchmarkHolder holder;
+    private int next;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.init();
+        this.registry = new DataProviderRegistry();
+        for (int i = 0; i < DataProviderBenchmark.FILLER_KEYS; i++) {
+            this.registry.register(new LevelProvider(DataProviderBenchmark.createKey("filler" + i)));
+        }
+        this.key = DataProviderBenchmark.createKey("level");
+        this.registry.register(new LevelProvider(this.key));
+        this.holder = new BenchmarkHolder(this.registry);
+    }
+
+    private static SpongeKey<Value<Integer>, Integer> createKey(final String name) {
+        return new SpongeKey<>(new StubKey("benchmark", name), TypeFactory.parameterizedClass(Value.class, Integer.class), Integer.class,
+            Comparator.naturalOrder(), Objects::equals, () -> 0);
+    }
+
+    @Benchmark
+    public DataProvider<Value<Integer>, Integer> getProvider() {
+        return this.registry.getProvider(this.key, BenchmarkHolder.class);
+    }
+
+    @Benchmark
+    public Optional<Integer> get() {
+        return this.holder.get(this.key);
+    }
+
+    @Benchmark
+    public Optional<Value<Integer>> getValue() {
+        return this.holder.getValue(this.key);
+    }
+
+    @Benchmark
+    public DataTransactionResult offer() {
+        return this.holder.offer(this.key, this.next++);
+    }
+
+    public static final class BenchmarkHolder implements SpongeMutableDataHolder {
+
+        private final DataProviderRegistry registry;
+        int level;
+
+        BenchmarkHolder(final DataProviderRegistry registry) {
+            this.registry = registry;
+        }
+
+        @Override
+        public <V extends Value<E>, E> DataProvider<V, E> impl$getProviderFor(final Key<V> key, final DataHolder dataHolder) {
+            return this.registry.getProvider(key, dataHolder.getClass());
+        }
+    }
+
+    static final class LevelProvider extends GenericMutableDataProvider<BenchmarkHolder, Integer> {
+
+        LevelProvider(final Key<Value<Integer>> key) {
+            super(key, BenchmarkHolder.class);
+        }
+
+        @Override
+        protected Optional<Integer> getFrom(final BenchmarkHolder dataHolder) {
+            return Optional.of(dataHolder.level);
+        }
+
+        @Override
+        protected boolean set(final BenchmarkHolder dataHolder, final Integer value) {
+            dataHolder.level = value;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.manager;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.Cause;
+import org.spongepowered.api.event.EventContext;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.filter.cause.First;
+import org.spongepowered.api.event.impl.AbstractEvent;
+import org.spongepowered.common.benchmark.BenchmarkBootstrap;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Posts an event to a number of listeners, with and without a cause filter
+ * on each of them, through the {@link SpongeEventManager}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventPostBenchmark {
+
+    @Param({"0", "1", "10", "50"})
+    public int listeners;
+
+    @Param({"false", "true"})
+    public boolean filtered;
+
+    private SpongeEventManager eventManager;
+    private BenchmarkEvent event;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.init();
+        this.eventManager = new SpongeEventManager();
+        final PluginContainer plugin = Mockito.mock(PluginContainer.class);
+        for (int i = 0; i < this.listeners; i++) {
+            this.eventManager.registerListeners(plugin, this.filtered ? new FilteredListener() : new PlainListener());
+        }
+        this.event = new BenchmarkEvent(Cause.of(EventContext.empty(), "benchmark"));
+    }
+
+    @Benchmark
+    public boolean post() {
+        return this.eventManager.post(this.event);
+    }
+
+    public static final class BenchmarkEvent extends AbstractEvent implements Cancellable {
+
+        private final Cause cause;
+        private boolean cancelled;
+
+        BenchmarkEvent(final Cause cause) {
+            this.cause = cause;
+        }
+
+        @Override
+        public Cause cause() {
+            return this.cause;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        @Override
+        public void setCancelled(final boolean cancel) {
+            this.cancelled = cancel;
+        }
+    }
+
+    public static final class PlainListener {
+
+        @Listener
+        public void onEvent(final BenchmarkEvent event) {
+        }
+    }
+
+    public static final class FilteredListener {
+
+        @Listener
+        public void onEvent(final BenchmarkEvent event, @First final String source) {
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.event.Cause;
+import org.spongepowered.api.event.CauseStackManager;
+import org.spongepowered.common.benchmark.BenchmarkBootstrap;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pushes and pops causes and cause frames on the {@link PhaseTracker} of the
+ * benchmark thread, which is a spin-off tracker bound to that thread.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CauseStackBenchmark {
+
+    @Param({"1", "4", "16"})
+    public int depth;
+
+    private PhaseTracker tracker;
+    private Object[] causes;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.init();
+        this.tracker = PhaseTracker.getInstance();
+        this.causes = new Object[this.depth];
+        for (int i = 0; i < this.depth; i++) {
+            this.causes[i] = "cause" + i;
+        }
+    }
+
+    @Benchmark
+    public Object pushPopCauses() {
+        final PhaseTracker tracker = this.tracker;
+        for (final Object cause : this.causes) {
+            tracker.pushCause(cause);
+        }
+        Object last = null;
+        for (int i = 0; i < this.causes.length; i++) {
+            last = tracker.popCause();
+        }
+        return last;
+    }
+
+    @Benchmark
+    public void pushPopFrame() {
+        try (final CauseStackManager.StackFrame frame = this.tracker.pushCauseFrame()) {
+            for (final Object cause : this.causes) {
+                frame.pushCause(cause);
+            }
+        }
+    }
+
+    @Benchmark
+    public Cause pushFrameAndBuildCause() {
+        try (final CauseStackManager.StackFrame frame = this.tracker.pushCauseFrame()) {
+            for (final Object cause : this.causes) {
+                frame.pushCause(cause);
+            }
+            return frame.currentCause();
+        }
+    }
+}
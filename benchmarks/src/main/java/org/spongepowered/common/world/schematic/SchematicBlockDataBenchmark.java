@@ -0,0 +1,147 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.schematic;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.world.schematic.Palette;
+import org.spongepowered.common.benchmark.BenchmarkBootstrap;
+import org.spongepowered.common.test.stub.registry.StubbedRegistry;
+import org.spongepowered.common.world.volume.buffer.archetype.SpongeArchetypeVolume;
+import org.spongepowered.common.world.volume.buffer.block.ArrayMutableBlockBuffer;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encodes the blocks of a volume into the varint block data of a schematic
+ * and decodes them back into a block buffer, the way the
+ * {@link SchematicTranslator} does. The palette itself is not serialized, as
+ * that requires the block state parser of a running game.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SchematicBlockDataBenchmark {
+
+    @Param({"16", "48"})
+    public int size;
+
+    @Param({"4", "256"})
+    public int paletteSize;
+
+    private SpongeArchetypeVolume volume;
+    private BlockState[] palette;
+    private byte[] blockData;
+
+    @Setup
+    public void setup() {
+        final StubbedRegistry<BlockType> blockTypes = BenchmarkBootstrap.blockTypes();
+        final BlockState[] states = new BlockState[this.paletteSize];
+        for (int i = 0; i < states.length; i++) {
+            states[i] = blockTypes.createEntry("minecraft", "benchmark_" + i).defaultState();
+        }
+        this.volume = new SpongeArchetypeVolume(Vector3i.ZERO, Vector3i.from(this.size), Sponge.game());
+        int i = 0;
+        for (int y = 0; y < this.size; y++) {
+            for (int z = 0; z < this.size; z++) {
+                for (int x = 0; x < this.size; x++) {
+                    // Runs of the same state, like the layers of a build
+                    this.volume.setBlock(x, y, z, states[(i++ / 8) % states.length]);
+                }
+            }
+        }
+        this.blockData = this.encode();
+
+        final Palette<BlockState, BlockType> palette = this.volume.getBlockPalette();
+        this.palette = new BlockState[palette.highestId() + 1];
+        for (int id = 0; id < this.palette.length; id++) {
+            this.palette[id] = palette.get(id, Sponge.game()).orElse(null);
+        }
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        final int size = this.size;
+        final Palette.Mutable<BlockState, BlockType> palette = this.volume.getBlockPalette().asMutable(Sponge.game());
+        final SchematicTranslator.VarIntBuffer buffer = new SchematicTranslator.VarIntBuffer(size * size * size);
+        BlockState last = null;
+        int lastId = 0;
+        for (int y = 0; y < size; y++) {
+            for (int z = 0; z < size; z++) {
+                for (int x = 0; x < size; x++) {
+                    final BlockState state = this.volume.block(x, y, z);
+                    if (state != last) {
+                        last = state;
+                        lastId = palette.orAssign(state);
+                    }
+                    buffer.write(lastId);
+                }
+            }
+        }
+        return buffer.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] encodeToStream() {
+        final int size = this.size;
+        final Palette.Mutable<BlockState, BlockType> palette = this.volume.getBlockPalette().asMutable(Sponge.game());
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream(size * size * size);
+        for (int y = 0; y < size; y++) {
+            for (int z = 0; z < size; z++) {
+                for (int x = 0; x < size; x++) {
+                    SchematicTranslator.writeIdToBuffer(buffer, palette.orAssign(this.volume.block(x, y, z)));
+                }
+            }
+        }
+        return buffer.toByteArray();
+    }
+
+    @Benchmark
+    public SpongeArchetypeVolume decode() {
+        final SpongeArchetypeVolume volume = new SpongeArchetypeVolume(Vector3i.ZERO, Vector3i.from(this.size), Sponge.game());
+        final ArrayMutableBlockBuffer blocks = volume.blockBuffer();
+        final int[] ids = blocks.assignAll(this.palette);
+        SchematicTranslator.readByteArrayData(this.size, this.size, Vector3i.ZERO, this.blockData,
+            (x, y, z, id) -> blocks.setId(x, y, z, ids[id]));
+        return volume;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume.buffer.archetype;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.world.volume.stream.StreamOptions;
+import org.spongepowered.common.benchmark.BenchmarkBootstrap;
+import org.spongepowered.common.test.stub.registry.StubbedRegistry;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads all blocks of a palette backed {@link SpongeArchetypeVolume}, both
+ * directly and through its block state volume stream.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlockBufferBenchmark {
+
+    @Param({"16", "48"})
+    public int size;
+
+    @Param({"4", "256"})
+    public int paletteSize;
+
+    private SpongeArchetypeVolume volume;
+
+    @Setup
+    public void setup() {
+        final StubbedRegistry<BlockType> blockTypes = BenchmarkBootstrap.blockTypes();
+        final BlockState[] states = new BlockState[this.paletteSize];
+        for (int i = 0; i < states.length; i++) {
+            states[i] = blockTypes.createEntry("minecraft", "benchmark_" + i).defaultState();
+        }
+        this.volume = new SpongeArchetypeVolume(Vector3i.ZERO, Vector3i.from(this.size), Sponge.game());
+        int i = 0;
+        for (int y = 0; y < this.size; y++) {
+            for (int z = 0; z < this.size; z++) {
+                for (int x = 0; x < this.size; x++) {
+                    this.volume.setBlock(x, y, z, states[i++ % states.length]);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void readBlocks(final Blackhole blackhole) {
+        final SpongeArchetypeVolume volume = this.volume;
+        for (int y = 0; y < this.size; y++) {
+            for (int z = 0; z < this.size; z++) {
+                for (int x = 0; x < this.size; x++) {
+                    blackhole.consume(volume.block(x, y, z));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void streamBlocks(final Blackhole blackhole) {
+        this.volume.blockStateStream(this.volume.min(), this.volume.max(), StreamOptions.lazily())
+            .forEach((volume, state, x, y, z) -> blackhole.consume(state));
+    }
+}
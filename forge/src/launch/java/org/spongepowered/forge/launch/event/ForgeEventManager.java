@@ -32,6 +32,7 @@
 import net.minecraftforge.eventbus.api.IEventBusInvokeDispatcher;
 import net.minecraftforge.eventbus.api.IEventListener;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.event.manager.ListenerInvoker;
 import org.spongepowered.common.event.manager.RegisteredListener;
 import org.spongepowered.common.event.manager.SpongeEventManager;
 import org.spongepowered.forge.launch.bridge.event.ForgeEventBridge_Forge;
@@ -39,7 +40,6 @@
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.List;
 import java.util.function.Consumer;
 
 @Singleton
@@ -154,8 +154,8 @@ private boolean postDualBus(final org.spongepowered.api.event.Event spongeEvent,
             final IEventBusInvokeDispatcher dispatcher) {
         try (final NoExceptionClosable ignored = this.preparePost(spongeEvent)) {
             final RegisteredListener.Cache listeners = this.getHandlerCache(spongeEvent);
-            final List<RegisteredListener<?>> beforeModifications = listeners.beforeModifications();
-            if (!beforeModifications.isEmpty()) {
+            final ListenerInvoker beforeModifications = listeners.beforeModificationsInvoker();
+            if (beforeModifications.size() != 0) {
                 // First, we fire the Sponge beforeModifications on the Sponge event
                 this.post(spongeEvent, beforeModifications);
 
@@ -173,7 +173,7 @@ private boolean postDualBus(final org.spongepowered.api.event.Event spongeEvent,
             }
 
             // and now we do our standard event listener stuff.
-            return this.post(spongeEvent, listeners.afterModifications());
+            return this.post(spongeEvent, listeners.afterModificationsInvoker());
         }
     }
 }
@@ -61,6 +61,7 @@ include(":SpongeVanilla")
 project(":SpongeVanilla").projectDir = file("vanilla")
 include("modlauncher-transformers")
 include("generator")
+include("benchmarks")
 
 val testPlugins = file("testplugins.settings.gradle.kts")
 if (testPlugins.exists()) {
@@ -0,0 +1,59 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.applaunch.config.common;
+
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+import org.spongepowered.configurate.objectmapping.meta.Setting;
+
+@ConfigSerializable
+public final class AsyncSchedulerCategory {
+
+    @Setting
+    @Comment("The executor used to run asynchronous tasks. Supported values:\n"
+             + "  - CACHED: Starts a new thread whenever no idle thread is available, without any limit\n"
+             + "  - BOUNDED: Uses a pool of at most 'maximum-threads' threads, further tasks are queued\n"
+             + "  - VIRTUAL: Runs every task on its own virtual thread. This requires a Java version with\n"
+             + "    virtual threads enabled, otherwise BOUNDED is used instead")
+    public Mode executor = Mode.CACHED;
+
+    @Setting("maximum-threads")
+    @Comment("The number of threads used by the BOUNDED executor.\n"
+             + "If 0 or less, four threads per available processor are used.")
+    public int maximumThreads = 0;
+
+    @Setting("plugin-concurrency-limit")
+    @Comment("The maximum number of asynchronous tasks a single plugin may execute at the same time.\n"
+             + "Further tasks of that plugin are held back until one of its running tasks completes.\n"
+             + "If 0 or less, plugins are not limited.")
+    public int pluginConcurrencyLimit = 0;
+
+    public enum Mode {
+        CACHED,
+        BOUNDED,
+        VIRTUAL
+    }
+
+}
@@ -83,6 +83,14 @@ public final class CommonConfig implements Config {
     @Setting("phase-tracker")
     public final PhaseTrackerCategory phaseTracker = new PhaseTrackerCategory();
 
+    @Setting("async-scheduler")
+    @Comment("Configuration options related to the executor running asynchronous scheduler tasks")
+    public final AsyncSchedulerCategory asyncScheduler = new AsyncSchedulerCategory();
+
+    @Setting
+    @Comment("Configuration options related to loading and caching offline user data")
+    public final UserCategory users = new UserCategory();
+
     @Setting("teleport-helper")
     @Comment("Blocks to blacklist for safe teleportation.")
     public final TeleportHelperCategory teleportHelper = new TeleportHelperCategory();
@@ -72,6 +72,9 @@ public final class OptimizationCategory {
            + "little to no benefit to the client. Because of the nature of the\n"
            + "change, the default will be 'false' due to the inability to pre-emptively\n"
            + "foretell whether mod compatibility will fail with these changes or not.\n"
+           + "Hoppers will also remember the containers they pull from and push into,\n"
+           + "skip containers that have not changed since they were found empty or full,\n"
+           + "and skip searching for items above them when there are none nearby.\n"
            + "Refer to: https://github.com/PaperMC/Paper/blob/8175ec916f31dcd130fe0884fe46bdc187d829aa/Spigot-Server-Patches/0269-Optimize-Hoppers.patch\n"
            + "for more details.")
     public boolean optimizeHoppers = false;
@@ -112,6 +115,17 @@ public final class OptimizationCategory {
         "are `persistent`. Does not drastically improve performance.")
     public boolean disableScheduledUpdatesForPersistentLeafBlocks = true;
 
+    @Setting("elide-unobserved-block-captures")
+    @Comment("If 'true', phases that no plugin could observe the block changes of\n"
+               + "skip recording them. Normally, every block change is snapshotted and\n"
+               + "batched into ChangeBlockEvents and NotifyNeighborBlockEvents, even\n"
+               + "when nothing listens to those events. With this enabled, the decision\n"
+               + "is made once when a phase starts, based on the registered listeners,\n"
+               + "and the block changes still perform all of their side effects in order.\n"
+               + "Phases with a creator or notifier always record, to keep block owners\n"
+               + "tracked. The default is 'false', as mods may rely on the captures.")
+    public boolean elideUnobservedBlockCaptures = false;
+
     @Setting("enable-lazydfu")
     @Comment("By default, Vanilla 'warms-up' all migration rules for\n"
             + "every Minecraft version when the game starts. This often\n"
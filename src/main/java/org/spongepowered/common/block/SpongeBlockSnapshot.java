@@ -292,7 +292,7 @@ public DataContainer toContainer() {
                 .container()
                 .set(Constants.Block.BLOCK_STATE, this.blockState);
         if (this.compound != null) {
-            container.set(Constants.Sponge.UNSAFE_NBT, NBTTranslator.INSTANCE.translateFrom(this.compound));
+            container.set(Constants.Sponge.UNSAFE_NBT, NBTTranslator.INSTANCE.translateLazily(this.compound));
         }
         return container;
     }
@@ -333,7 +333,7 @@ public BuilderImpl createBuilder() {
         if (this.compound == null) {
             return DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
         }
-        return NBTTranslator.INSTANCE.translate(this.compound);
+        return NBTTranslator.INSTANCE.translateLazily(this.compound);
     }
 
     @Override
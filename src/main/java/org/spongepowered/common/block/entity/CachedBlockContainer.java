@@ -0,0 +1,89 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.block.entity;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.CompoundContainer;
+import net.minecraft.world.Container;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Remembers the {@link Container} a hopper found at a position, for as long
+ * as the block entity backing it is still in place. Containers that are not
+ * backed by the block entity at the position, such as container entities or
+ * the containers some blocks create on demand, are never cached.
+ */
+public final class CachedBlockContainer {
+
+    private @Nullable BlockPos pos;
+    private @Nullable BlockState state;
+    private @Nullable BlockEntity blockEntity;
+    private @Nullable Container container;
+
+    /**
+     * Gets the cached container at the given position, if the block there
+     * has not changed since it was cached.
+     *
+     * @param level The level
+     * @param pos The position
+     * @return The container, or null if it has to be looked up again
+     */
+    public @Nullable Container get(final Level level, final BlockPos pos) {
+        if (this.container == null || !pos.equals(this.pos) || this.blockEntity.isRemoved() || level.getBlockState(pos) != this.state) {
+            return null;
+        }
+        return this.container;
+    }
+
+    /**
+     * Caches the container found at the given position.
+     *
+     * @param level The level
+     * @param pos The position
+     * @param container The container found, if any
+     */
+    public void set(final Level level, final BlockPos pos, final @Nullable Container container) {
+        final @Nullable BlockEntity blockEntity = container == null ? null : level.getBlockEntity(pos);
+        if (blockEntity == null || (blockEntity != container
+            && !(container instanceof CompoundContainer && ((CompoundContainer) container).contains((Container) blockEntity)))) {
+            this.invalidate();
+            return;
+        }
+        this.pos = pos.immutable();
+        this.state = level.getBlockState(pos);
+        this.blockEntity = blockEntity;
+        this.container = container;
+    }
+
+    public void invalidate() {
+        this.pos = null;
+        this.state = null;
+        this.blockEntity = null;
+        this.container = null;
+    }
+}
@@ -24,13 +24,18 @@
  */
 package org.spongepowered.common.bridge.data;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.data.DataManipulator;
 import org.spongepowered.api.data.DataTransactionResult;
 import org.spongepowered.api.data.Key;
 import org.spongepowered.api.data.value.Value;
 import org.spongepowered.common.data.DataUtil;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * A pointless but necessary class because the Forge workspace cannot handle calling to default
@@ -38,6 +43,42 @@
  */
 public final class DataHolderProcessor {
 
+    private static final ThreadLocal<@Nullable Set<SpongeDataHolderBridge>> deferredSyncs = new ThreadLocal<>();
+
+    /**
+     * Runs the given action with all custom data syncs back to the holders
+     * tag deferred until it completes, so a holder that is written several
+     * times is only serialized once.
+     *
+     * @param action The action to run
+     * @param <T> The result type
+     * @return The result of the action
+     */
+    public static <T> T batch(final Supplier<T> action) {
+        if (DataHolderProcessor.deferredSyncs.get() != null) {
+            return action.get();
+        }
+        final Set<SpongeDataHolderBridge> pending = Collections.newSetFromMap(new IdentityHashMap<>());
+        DataHolderProcessor.deferredSyncs.set(pending);
+        try {
+            return action.get();
+        } finally {
+            DataHolderProcessor.deferredSyncs.remove();
+            for (final SpongeDataHolderBridge bridge : pending) {
+                DataUtil.syncDataToTag(bridge);
+            }
+        }
+    }
+
+    private static void syncDataToTag(final SpongeDataHolderBridge bridge) {
+        final @Nullable Set<SpongeDataHolderBridge> pending = DataHolderProcessor.deferredSyncs.get();
+        if (pending != null) {
+            pending.add(bridge);
+        } else {
+            DataUtil.syncDataToTag(bridge);
+        }
+    }
+
     public static <E> Optional<E> bridge$get(final SpongeDataHolderBridge bridge, Key<? extends Value<E>> key) {
         return bridge.bridge$getManipulator().get(key);
     }
@@ -52,7 +93,7 @@ public final class DataHolderProcessor {
         manipulator.set(key, value);
         builder.success(manipulator.getValue(key).get().asImmutable());
 
-        DataUtil.syncDataToTag(bridge);
+        DataHolderProcessor.syncDataToTag(bridge);
 
         return builder.result(DataTransactionResult.Type.SUCCESS).build();
     }
@@ -63,7 +104,7 @@ public final class DataHolderProcessor {
         if (value.isPresent()) {
             manipulator.remove(key);
         }
-        DataUtil.syncDataToTag(bridge);
+        DataHolderProcessor.syncDataToTag(bridge);
         return value.map(Value::asImmutable).map(DataTransactionResult::successRemove)
                 .orElseGet(DataTransactionResult::successNoData);
     }
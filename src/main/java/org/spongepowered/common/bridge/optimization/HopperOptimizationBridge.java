@@ -27,4 +27,24 @@
 public interface HopperOptimizationBridge {
 
     void hopperBridge$setCancelDirtyUpdate(boolean canMarkDirty);
+
+    /**
+     * Gets whether this container was last found empty and has not been
+     * marked as changed since.
+     *
+     * @return Whether this container is known to be empty
+     */
+    boolean hopperBridge$isKnownEmpty();
+
+    void hopperBridge$markEmpty();
+
+    /**
+     * Gets whether this container was last found full and has not been
+     * marked as changed since.
+     *
+     * @return Whether this container is known to be full
+     */
+    boolean hopperBridge$isKnownFull();
+
+    void hopperBridge$markFull();
 }
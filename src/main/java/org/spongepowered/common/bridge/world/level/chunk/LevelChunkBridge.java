@@ -32,17 +32,15 @@
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.util.Direction;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.world.level.chunk.TrackedBlockTable;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface LevelChunkBridge {
 
-    Map<Short, PlayerTracker> bridge$getTrackedShortPlayerPositions();
-
-    Map<Integer, PlayerTracker> bridge$getTrackedIntPlayerPositions();
+    TrackedBlockTable bridge$getTrackedBlockTable();
 
     Optional<UUID> bridge$getBlockCreatorUUID(BlockPos pos);
 
@@ -54,10 +52,6 @@ public interface LevelChunkBridge {
 
     void bridge$addTrackedBlockPosition(Block block, BlockPos pos, UUID uuid, PlayerTracker.Type trackerType);
 
-    void bridge$setTrackedIntPlayerPositions(Map<Integer, PlayerTracker> trackedPlayerPositions);
-
-    void bridge$setTrackedShortPlayerPositions(Map<Short, PlayerTracker> trackedPlayerPositions);
-
     void bridge$setNeighbor(Direction direction, LevelChunk neighbor);
 
     void bridge$setNeighborChunk(int index, @Nullable LevelChunk chunk);
@@ -37,6 +37,8 @@ public interface MapItemSavedDataBridge {
 
     void bridge$updateWholeMap();
 
+    void bridge$markDirty(int minX, int minY, int maxX, int maxY);
+
     int bridge$getMapId();
 
     void bridge$setMapId(int id);
@@ -33,6 +33,7 @@
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import net.minecraft.nbt.CompoundTag;
 import org.apache.commons.lang3.ArrayUtils;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.ResourceKey;
@@ -46,6 +47,7 @@
 import org.spongepowered.api.registry.RegistryHolder;
 import org.spongepowered.api.registry.RegistryType;
 import org.spongepowered.api.util.Coerce;
+import org.spongepowered.common.data.persistence.NBTTranslator;
 import org.spongepowered.common.registry.provider.KeyProvider;
 
 import java.util.ArrayList;
@@ -71,6 +73,10 @@ public class MemoryDataView implements DataView {
     private final DataView parent;
     private final DataQuery path;
     private final DataView.SafetyMode safety;
+    // The compound this view reads through to, until it is first accessed
+    private volatile @Nullable CompoundTag unread;
+    // Whether the unread compound is being translated, guarded by this
+    private boolean readingUnread;
 
     MemoryDataView(final DataView.SafetyMode safety) {
         checkState(this instanceof DataContainer, "Cannot construct a root MemoryDataView without a container!");
@@ -88,6 +94,54 @@ private MemoryDataView(final DataView parent, final DataQuery path, final DataVi
         this.safety = Objects.requireNonNull(safety, "Safety mode");
     }
 
+    /**
+     * Makes this empty view read through to the given compound, which is
+     * only translated into this view once the view is first accessed. The
+     * compound must not be modified afterwards.
+     *
+     * <p>The translation is synchronized, so the view can still be read
+     * concurrently like any other view that isn't modified.</p>
+     *
+     * @param compound The compound
+     */
+    public final void readThrough(final CompoundTag compound) {
+        checkState(this.unread == null && this.map.isEmpty(), "Cannot read through to a compound from a view with data");
+        this.unread = Objects.requireNonNull(compound, "compound");
+    }
+
+    /**
+     * Gets the compound this view reads through to, if it wasn't accessed
+     * yet.
+     *
+     * @return The unread compound, or null if this view was accessed
+     */
+    public final @Nullable CompoundTag unreadCompound() {
+        return this.unread;
+    }
+
+    private Map<String, Object> map() {
+        if (this.unread != null) {
+            this.readUnread();
+        }
+        return this.map;
+    }
+
+    private synchronized void readUnread() {
+        final @Nullable CompoundTag unread = this.unread;
+        // The translation sets the values through this view, which gets here again
+        if (unread == null || this.readingUnread) {
+            return;
+        }
+        this.readingUnread = true;
+        try {
+            NBTTranslator.INSTANCE.addLazily(unread, this);
+        } finally {
+            this.readingUnread = false;
+            // Only cleared once the map is filled, other threads wait for the lock until then
+            this.unread = null;
+        }
+    }
+
     @Override
     public DataContainer container() {
         return this.container;
@@ -113,11 +167,11 @@ public Optional<DataView> parent() {
     public Set<DataQuery> keys(final boolean deep) {
         final ImmutableSet.Builder<DataQuery> builder = ImmutableSet.builder();
 
-        for (final Map.Entry<String, Object> entry : this.map.entrySet()) {
+        for (final Map.Entry<String, Object> entry : this.map().entrySet()) {
             builder.add(DataQuery.of(entry.getKey()));
         }
         if (deep) {
-            for (final Map.Entry<String, Object> entry : this.map.entrySet()) {
+            for (final Map.Entry<String, Object> entry : this.map().entrySet()) {
                 if (entry.getValue() instanceof DataView) {
                     for (final DataQuery query : ((DataView) entry.getValue()).keys(true)) {
                         builder.add(DataQuery.of(entry.getKey()).then(query));
@@ -149,7 +203,7 @@ public final boolean contains(final DataQuery path) {
 
         final String key = queryParts.get(0);
         if (queryParts.size() == 1) {
-            return this.map.containsKey(key);
+            return this.map().containsKey(key);
         }
         final Optional<DataView> subViewOptional = this.getUnsafeView(key);
         return subViewOptional.isPresent() && subViewOptional.get().contains(path.popFirst());
@@ -188,7 +242,7 @@ public Optional<Object> get(final DataQuery path) {
 
         final String key = queryParts.get(0);
         if (sz == 1) {
-            final Object object = this.map.get(key);
+            final Object object = this.map().get(key);
             if (object == null) {
                 return Optional.empty();
             }
@@ -241,7 +295,7 @@ public DataView set(final DataQuery path, final Object value) {
             final DataView subView;
             if (!subViewOptional.isPresent()) {
                 this.createView(subQuery);
-                subView = (DataView) this.map.get(key);
+                subView = (DataView) this.map().get(key);
             } else {
                 subView = subViewOptional.get();
             }
@@ -249,6 +303,15 @@ public DataView set(final DataQuery path, final Object value) {
             return this;
         }
 
+        if (value instanceof MemoryDataView) {
+            final @Nullable CompoundTag unread = ((MemoryDataView) value).unread;
+            if (unread != null && !this.map().containsKey(key)) {
+                // An unread view shares its compound, which is only translated once the new view is read
+                ((MemoryDataView) this.createView(path)).readThrough(unread);
+                return this;
+            }
+        }
+
         final Object serialized = DataSerializer.serialize(this.safetyMode(), value);
 
         checkArgument(this.isEmpty() || !this.equals(serialized), "Cannot insert self-referencing DataView!");
@@ -260,7 +323,7 @@ public DataView set(final DataQuery path, final Object value) {
                 this.set(path.then(oldKey), ((DataView) serialized).get(oldKey).get());
             }
         } else {
-            this.map.put(key, serialized);
+            this.map().put(key, serialized);
         }
 
         return this;
@@ -280,7 +343,7 @@ public DataView remove(final DataQuery path) {
             final DataView subView = subViewOptional.get();
             subView.remove(path.popFirst());
         } else {
-            this.map.remove(parts.get(0));
+            this.map().remove(parts.get(0));
         }
         return this;
     }
@@ -299,14 +362,14 @@ public DataView createView(final DataQuery path) {
 
         if (sz == 1) {
             final DataView result = new MemoryDataView(this, keyQuery, this.safety);
-            this.map.put(key, result);
+            this.map().put(key, result);
             return result;
         }
         final DataQuery subQuery = path.popFirst();
-        DataView subView = (DataView) this.map.get(key);
+        DataView subView = (DataView) this.map().get(key);
         if (subView == null) {
             subView = new MemoryDataView(this.parent, keyQuery, this.safety);
-            this.map.put(key, subView);
+            this.map().put(key, subView);
         }
         return subView.createView(subQuery);
     }
@@ -378,7 +441,7 @@ private Optional<DataView> getUnsafeView(final DataQuery path) {
     }
 
     private Optional<DataView> getUnsafeView(final String path) {
-        final Object object = this.map.get(path);
+        final Object object = this.map().get(path);
         if (!(object instanceof DataView)) {
             return Optional.empty();
         }
@@ -691,7 +754,8 @@ public DataContainer copy(final org.spongepowered.api.data.persistence.DataView.
 
     @Override
     public boolean isEmpty() {
-        return this.map.isEmpty();
+        final @Nullable CompoundTag unread = this.unread;
+        return unread != null ? unread.isEmpty() : this.map.isEmpty();
     }
 
     @Override
@@ -701,7 +765,7 @@ public org.spongepowered.api.data.persistence.DataView.SafetyMode safetyMode() {
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.map, this.path);
+        return Objects.hash(this.map(), this.path);
     }
 
     @Override
@@ -714,7 +778,7 @@ public boolean equals(final @Nullable Object obj) {
         }
         final MemoryDataView other = (MemoryDataView) obj;
 
-        return com.google.common.base.Objects.equal(this.map.entrySet(), other.map.entrySet())
+        return com.google.common.base.Objects.equal(this.map().entrySet(), other.map().entrySet())
             && com.google.common.base.Objects.equal(this.path, other.path);
     }
 
@@ -725,6 +789,6 @@ public String toString() {
             helper.add("path", this.path);
         }
         helper.add("safety", this.safety.name());
-        return helper.add("map", this.map).toString();
+        return helper.add("map", this.map()).toString();
     }
 }
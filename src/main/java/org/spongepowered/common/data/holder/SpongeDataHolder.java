@@ -36,6 +36,7 @@
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -102,6 +103,34 @@ default <E, V extends Value<E>> Optional<V> getValue(final Key<V> key) {
         return this.impl$apply(key, DataProvider::value, Optional::empty);
     }
 
+    /**
+     * Gets the values of all the given keys in a single pass, resolving the
+     * delegate data holders only once. Keys without a value are left out.
+     *
+     * @param keys The keys to get the values for
+     * @return The values, by key, in iteration order of the keys
+     */
+    @SuppressWarnings("unchecked")
+    default Map<Key<?>, Object> getAll(final Iterable<? extends Key<?>> keys) {
+        requireNonNull(keys, "keys");
+        final List<DataHolder> dataHolders = this.impl$delegateDataHolder();
+        final Map<Key<?>, Object> values = new LinkedHashMap<>();
+        for (final Key<?> key : keys) {
+            final Key<Value<Object>> valueKey = (Key<Value<Object>>) key;
+            for (final DataHolder dataHolder : dataHolders) {
+                final DataProvider<Value<Object>, Object> provider = this.impl$getProviderFor(valueKey, dataHolder);
+                if (provider.isSupported(dataHolder)) {
+                    final Optional<Object> value = provider.get(dataHolder);
+                    if (value.isPresent()) {
+                        values.put(key, value.get());
+                    }
+                    break;
+                }
+            }
+        }
+        return values;
+    }
+
     default Map<Key<?>, Object> impl$getMappedValues() {
         return this.impl$delegateDataHolder().stream()
                 .flatMap(dh -> this.impl$getAllProviders(dh).stream()
@@ -36,6 +36,7 @@
 import org.spongepowered.api.data.value.MergeFunction;
 import org.spongepowered.api.data.value.Value;
 import org.spongepowered.api.data.value.ValueContainer;
+import org.spongepowered.common.bridge.data.DataHolderProcessor;
 import org.spongepowered.common.data.key.SpongeKey;
 import org.spongepowered.common.util.DataUtil;
 
@@ -211,6 +212,42 @@ default <K, V> DataTransactionResult removeAll(Key<? extends MapValue<K, V>> key
         }, DataTransactionResult::failNoData);
     }
 
+    /**
+     * Offers all the given values in a single pass and combines the outcome
+     * into one {@link DataTransactionResult}. Providers are resolved against
+     * the same delegate data holder for every key, and custom data is only
+     * written back to the holders tag once all values are offered.
+     *
+     * @param values The values to offer, by key
+     * @return The combined transaction result
+     */
+    default DataTransactionResult offerAll(final Map<? extends Key<?>, ?> values) {
+        requireNonNull(values, "values");
+        if (values.isEmpty()) {
+            return DataTransactionResult.successNoData();
+        }
+        final List<Mutable> dataHolders = this.impl$mutableDelegateDataHolder();
+        final @Nullable Mutable dataHolder = dataHolders.isEmpty() ? null : dataHolders.get(0);
+        return DataHolderProcessor.batch(() -> {
+            final DataTransactionResult.Builder builder = DataTransactionResult.builder();
+            boolean success = false;
+            for (final Map.Entry<? extends Key<?>, ?> entry : values.entrySet()) {
+                final Key<Value<Object>> key = (Key<Value<Object>>) entry.getKey();
+                final @Nullable DataProvider<Value<Object>, Object> provider = dataHolder == null ? null : this.impl$getProviderFor(key, dataHolder);
+                if (provider == null || !provider.isSupported(dataHolder)) {
+                    builder.reject(Value.immutableOf(key, entry.getValue()));
+                    continue;
+                }
+                final DataTransactionResult result = provider.offer(dataHolder, entry.getValue());
+                builder.absorbResult(result);
+                if (result.isSuccessful()) {
+                    success = true;
+                }
+            }
+            return builder.result(success ? DataTransactionResult.Type.SUCCESS : DataTransactionResult.Type.FAILURE).build();
+        });
+    }
+
     @Override
     default DataTransactionResult remove(Key<?> key) {
         return this.impl$applyTransaction((Key) key, DataProvider::remove, DataTransactionResult::failNoData);
@@ -40,11 +40,15 @@
 
 import java.lang.reflect.Type;
 import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiPredicate;
 import java.util.function.Supplier;
 
 public final class SpongeKey<V extends Value<E>, E> extends AbstractResourceKeyed implements Key<V> {
 
+    private static final AtomicInteger nextIndex = new AtomicInteger();
+
+    private final int index;
     private final Type valueType;
     private final Type elementType;
     private final Comparator<? super E> elementComparator;
@@ -58,6 +62,7 @@ public SpongeKey(final ResourceKey key, final Type valueType, final Type element
             final BiPredicate<? super E, ? super E> elementIncludesTester, final Supplier<E> defaultValueSupplier) {
         super(key);
 
+        this.index = SpongeKey.nextIndex.getAndIncrement();
         this.valueType = valueType;
         this.elementType = elementType;
         this.elementComparator = elementComparator;
@@ -93,6 +98,25 @@ public <H extends DataHolder> void registerEvent(final PluginContainer plugin, f
         ((SpongeDataManager) Sponge.game().dataManager()).registerKeyListener(new KeyBasedDataListener<>(plugin, holderFilter, this, listener));
     }
 
+    /**
+     * Gets the dense index of this key, assigned in order of construction.
+     * Used to look up data providers from flat arrays.
+     *
+     * @return The index
+     */
+    public int getIndex() {
+        return this.index;
+    }
+
+    /**
+     * Gets the number of keys constructed so far, all indices are below this.
+     *
+     * @return The key count
+     */
+    public static int getKeyCount() {
+        return SpongeKey.nextIndex.get();
+    }
+
     public ValueConstructor<V, E> getValueConstructor() {
         return this.valueConstructor;
     }
@@ -43,12 +43,15 @@
 import net.minecraft.nbt.ShortTag;
 import net.minecraft.nbt.StringTag;
 import net.minecraft.nbt.Tag;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.data.persistence.DataContainer;
 import org.spongepowered.api.data.persistence.DataQuery;
 import org.spongepowered.api.data.persistence.DataSerializable;
 import org.spongepowered.api.data.persistence.DataTranslator;
 import org.spongepowered.api.data.persistence.DataView;
 import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.common.data.MemoryDataContainer;
+import org.spongepowered.common.data.MemoryDataView;
 import org.spongepowered.common.util.Constants;
 
 import java.util.List;
@@ -63,6 +66,12 @@ public final class NBTTranslator implements DataTranslator<CompoundTag> {
 
     private static CompoundTag containerToCompound(final DataView container) {
         checkNotNull(container);
+        if (container instanceof MemoryDataView) {
+            final @Nullable CompoundTag unread = ((MemoryDataView) container).unreadCompound();
+            if (unread != null) {
+                return unread.copy();
+            }
+        }
         CompoundTag compound = new CompoundTag();
         NBTTranslator.containerToCompound(container, compound);
         return compound;
@@ -73,12 +82,23 @@ private static void containerToCompound(final DataView container, final Compound
         // from the instance of checks.
         checkNotNull(container);
         checkNotNull(compound);
-        for (Map.Entry<DataQuery, Object> entry : container.values(false).entrySet()) {
-            Object value = entry.getValue();
-            String key = entry.getKey().asString('.');
+        if (container instanceof MemoryDataView) {
+            final @Nullable CompoundTag unread = ((MemoryDataView) container).unreadCompound();
+            if (unread != null) {
+                // Nothing was read from the view yet, so its compound is still exactly what it holds
+                for (String key : unread.getAllKeys()) {
+                    compound.put(key, unread.get(key).copy());
+                }
+                return;
+            }
+        }
+        // Iterate the keys rather than the values, so that nested views are kept as they are instead of being read into maps
+        for (DataQuery query : container.keys(false)) {
+            Object value = container.get(query).get();
+            String key = query.asString('.');
             if (value instanceof DataView) {
                 CompoundTag inner = new CompoundTag();
-                NBTTranslator.containerToCompound(container.getView(entry.getKey()).get(), inner);
+                NBTTranslator.containerToCompound((DataView) value, inner);
                 compound.put(key, inner);
             } else if (value instanceof Boolean) {
                 compound.put(key + NBTTranslator.BOOLEAN_IDENTIFIER, ByteTag.valueOf((Boolean) value));
@@ -175,8 +195,15 @@ private static DataContainer getViewFromCompound(CompoundTag compound) {
         return container;
     }
 
+    private static DataContainer getLazyViewFromCompound(CompoundTag compound) {
+        checkNotNull(compound);
+        final MemoryDataContainer container = new MemoryDataContainer(DataView.SafetyMode.NO_DATA_CLONED);
+        container.readThrough(compound);
+        return container;
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private static void setInternal(Tag base, byte type, DataView view, String key) {
+    private static void setInternal(Tag base, byte type, DataView view, String key, boolean lazy) {
         checkNotNull(base);
         checkNotNull(view);
         checkNotNull(key);
@@ -217,13 +244,18 @@ private static void setInternal(Tag base, byte type, DataView view, String key)
                 int count = list.size();
                 List objectList = Lists.newArrayListWithCapacity(count);
                 for (final Tag inbt : list) {
-                    objectList.add(NBTTranslator.fromTagBase(inbt, listType));
+                    objectList.add(NBTTranslator.fromTagBase(inbt, listType, lazy));
                 }
                 view.set(of(key), objectList);
                 break;
             case Constants.NBT.TAG_COMPOUND:
                 DataView internalView = view.createView(of(key));
                 CompoundTag compound = (CompoundTag) base;
+                if (lazy && internalView instanceof MemoryDataView) {
+                    // Only translated once the nested view is read
+                    ((MemoryDataView) internalView).readThrough(compound);
+                    break;
+                }
                 for (String internalKey : compound.getAllKeys()) {
                     Tag internalBase = compound.get(internalKey);
                     byte internalType = internalBase.getId();
@@ -231,7 +263,7 @@ private static void setInternal(Tag base, byte type, DataView view, String key)
                     // Reasoning: This avoids creating a new DataContainer which would
                     // then be copied in to the owning DataView anyways. We can internally
                     // set the actual data directly to the child view instead.
-                    NBTTranslator.setInternal(internalBase, internalType, internalView, internalKey);
+                    NBTTranslator.setInternal(internalBase, internalType, internalView, internalKey, lazy);
                 }
                 break;
             case Constants.NBT.TAG_INT_ARRAY:
@@ -246,7 +278,7 @@ private static void setInternal(Tag base, byte type, DataView view, String key)
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private static Object fromTagBase(Tag base, byte type) {
+    private static Object fromTagBase(Tag base, byte type, boolean lazy) {
         switch (type) {
             case Constants.NBT.TAG_BYTE:
                 return ((ByteTag) base).getAsByte();
@@ -270,11 +302,11 @@ private static Object fromTagBase(Tag base, byte type) {
                 int count = list.size();
                 List objectList = Lists.newArrayListWithCapacity(count);
                 for (Tag inbt : list) {
-                    objectList.add(NBTTranslator.fromTagBase(inbt, listType));
+                    objectList.add(NBTTranslator.fromTagBase(inbt, listType, lazy));
                 }
                 return objectList;
             case Constants.NBT.TAG_COMPOUND:
-                return NBTTranslator.getViewFromCompound((CompoundTag) base);
+                return lazy ? NBTTranslator.getLazyViewFromCompound((CompoundTag) base) : NBTTranslator.getViewFromCompound((CompoundTag) base);
             case Constants.NBT.TAG_INT_ARRAY:
                 return ((IntArrayTag) base).getAsIntArray();
             case Constants.NBT.TAG_LONG_ARRAY:
@@ -292,6 +324,30 @@ public DataContainer translateFrom(CompoundTag node) {
         return NBTTranslator.getViewFromCompound(node);
     }
 
+    /**
+     * Translates the compound into a container which reads through to the
+     * compound, only translating each nested compound once it is read. This
+     * avoids translating all of the compound when only a few values are
+     * read, or when the container is translated back without being read.
+     *
+     * <p>The compound must not be modified afterwards, as the container may
+     * still read from it. Reading the container from several threads at once
+     * is safe, each nested compound is translated only once.</p>
+     *
+     * @param node The compound
+     * @return The container
+     */
+    public DataContainer translateLazily(CompoundTag node) {
+        return NBTTranslator.getLazyViewFromCompound(node);
+    }
+
+    public void addLazily(CompoundTag compound, MemoryDataView view) {
+        for (String key : compound.getAllKeys()) {
+            Tag base = compound.get(key);
+            NBTTranslator.setInternal(base, base.getId(), view, key, true);
+        }
+    }
+
     @Override
     public TypeToken<CompoundTag> token() {
         return NBTTranslator.TOKEN;
@@ -312,7 +368,7 @@ public DataView addTo(CompoundTag compound, DataView container) {
         for (String key : compound.getAllKeys()) {
             Tag base = compound.get(key);
             byte type = base.getId();
-            NBTTranslator.setInternal(base, type, container, key); // gotta love recursion
+            NBTTranslator.setInternal(base, type, container, key, false); // gotta love recursion
         }
         return container;
     }
@@ -55,7 +55,7 @@ private static BufferedReader createBufferedReader(final Reader reader) {
     @Override
     public DataContainer read(final String input) throws InvalidDataException, IOException {
         try {
-            return NBTTranslator.INSTANCE.translate(TagParser.parseTag(input));
+            return NBTTranslator.INSTANCE.translateLazily(TagParser.parseTag(input));
         } catch (final CommandSyntaxException e) {
             throw new InvalidDataException(e);
         }
@@ -64,7 +64,7 @@ public DataContainer read(final String input) throws InvalidDataException, IOExc
     @Override
     public DataContainer readFrom(final Reader input) throws InvalidDataException {
         try {
-            return NBTTranslator.INSTANCE.translate(
+            return NBTTranslator.INSTANCE.translateLazily(
                     TagParser.parseTag(SNBTDataFormat.createBufferedReader(input).lines().collect(Collectors.joining("\n"))));
         } catch (final CommandSyntaxException e) {
             throw new InvalidDataException(e);
@@ -74,7 +74,7 @@ public DataContainer readFrom(final Reader input) throws InvalidDataException {
     @Override
     public DataContainer readFrom(final InputStream input) throws InvalidDataFormatException {
         try {
-            return NBTTranslator.INSTANCE.translate(TagParser.parseTag(
+            return NBTTranslator.INSTANCE.translateLazily(TagParser.parseTag(
                     new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)).lines().collect(Collectors.joining("\n"))));
         } catch (final CommandSyntaxException e) {
             throw new InvalidDataException(e);
@@ -41,6 +41,7 @@
 import org.spongepowered.common.data.provider.map.MapInfoDataProviders;
 import org.spongepowered.common.data.provider.nbt.NBTDataProviders;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -81,7 +82,25 @@ public int hashCode() {
         }
 
     }
+    /**
+     * The delegate providers of a single data holder type, indexed by
+     * {@link SpongeKey#getIndex()}. Slots are filled in on first use and the
+     * whole table is discarded when the registry changes.
+     */
+    private static final class HolderProviders {
+
+        volatile DataProvider<?, ?>[] providers = new DataProvider<?, ?>[0];
+        volatile int generation = -1;
+    }
+
     private final Multimap<Key<?>, DataProvider<?,?>> dataProviders = HashMultimap.create();
+    private final ClassValue<HolderProviders> holderProviders = new ClassValue<HolderProviders>() {
+        @Override
+        protected HolderProviders computeValue(final Class<?> type) {
+            return new HolderProviders();
+        }
+    };
+    private volatile int generation;
     private final Map<LookupKey, DataProvider<?,?>> dataProviderCache = new ConcurrentHashMap<>();
     private final Map<Class<?>, DataProviderLookup> dataProviderLookupCache = new ConcurrentHashMap<>();
 
@@ -191,7 +210,36 @@ public Collection<DataProvider<?,?>> getAllProviders(final Class<?> dataHolderTy
      */
     @SuppressWarnings({"unchecked"})
     public <V extends Value<E>, E> DataProvider<V, E> getProvider(final Key<V> key, final Class<?> dataHolderType) {
-        return (DataProvider<V, E>) this.dataProviderCache.computeIfAbsent(new LookupKey(dataHolderType, key), this::loadProvider);
+        if (!(key instanceof SpongeKey)) {
+            return (DataProvider<V, E>) this.dataProviderCache.computeIfAbsent(new LookupKey(dataHolderType, key), this::loadProvider);
+        }
+        final int index = ((SpongeKey<V, E>) key).getIndex();
+        final HolderProviders holder = this.holderProviders.get(dataHolderType);
+        final int generation = this.generation;
+        if (holder.generation == generation) {
+            final DataProvider<?, ?>[] providers = holder.providers;
+            if (index < providers.length) {
+                final DataProvider<?, ?> provider = providers[index];
+                if (provider != null) {
+                    return (DataProvider<V, E>) provider;
+                }
+            }
+        }
+        final DataProvider<?, ?> provider = this.dataProviderCache.computeIfAbsent(new LookupKey(dataHolderType, key), this::loadProvider);
+        synchronized (holder) {
+            DataProvider<?, ?>[] providers = holder.providers;
+            if (holder.generation != generation) {
+                providers = new DataProvider<?, ?>[Math.max(SpongeKey.getKeyCount(), index + 1)];
+            } else if (index >= providers.length) {
+                providers = Arrays.copyOf(providers, Math.max(SpongeKey.getKeyCount(), index + 1));
+            } else {
+                providers = providers.clone();
+            }
+            providers[index] = provider;
+            holder.providers = providers;
+            holder.generation = generation;
+        }
+        return (DataProvider<V, E>) provider;
     }
 
     /**
@@ -203,6 +251,7 @@ public void register(final DataProvider<?,?> provider) {
         this.dataProviders.put(provider.key(), provider);
         this.dataProviderCache.clear();
         this.dataProviderLookupCache.clear();
+        this.generation++;
     }
 
     public void registerDefaultProviders() {
@@ -127,7 +127,7 @@ public int contentVersion() {
 
     @Override
     public DataContainer toContainer() {
-        final DataContainer unsafeNbt = NBTTranslator.INSTANCE.translateFrom(this.compound == null ? new CompoundTag() : this.compound);
+        final DataContainer unsafeNbt = NBTTranslator.INSTANCE.translateLazily(this.compound == null ? new CompoundTag() : this.compound);
         final DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED)
                 .set(Queries.CONTENT_VERSION, this.contentVersion())
                 .set(Queries.WORLD_KEY, this.worldKey.formatted())
@@ -256,7 +256,7 @@ public EntityArchetype createArchetype() {
         if (this.compound == null) {
             return DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
         }
-        return NBTTranslator.INSTANCE.translate(this.compound);
+        return NBTTranslator.INSTANCE.translateLazily(this.compound);
     }
 
     @Override
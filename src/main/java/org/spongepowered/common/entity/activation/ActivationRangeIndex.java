@@ -0,0 +1,170 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity.activation;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.phys.AABB;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Per world index of the chunks covered by the activation range of at least
+ * one player.
+ *
+ * <p>Every chunk keeps the players whose activation volume overlaps it, so
+ * overlapping volumes are merged and each chunk is visited once per tick no
+ * matter how many players surround it. A player's coverage is only rebuilt
+ * when the chunk bounds of its volume change.</p>
+ *
+ * @param <P> The type of the players
+ */
+public final class ActivationRangeIndex<P> {
+
+    // How far entities may have strayed outside of the chunk holding them
+    private static final int CHUNK_MARGIN = 2;
+
+    private final Long2ObjectOpenHashMap<List<P>> coveredChunks = new Long2ObjectOpenHashMap<>();
+    private final Reference2ObjectOpenHashMap<P, int[]> playerBounds = new Reference2ObjectOpenHashMap<>();
+    private final Set<P> seen = new ReferenceOpenHashSet<>();
+    private final Function<? super P, AABB> boundingBox;
+
+    /**
+     * @param boundingBox Gets the current bounding box of a player
+     */
+    public ActivationRangeIndex(final Function<? super P, AABB> boundingBox) {
+        this.boundingBox = boundingBox;
+    }
+
+    /**
+     * Brings the index up to date with the given players.
+     *
+     * @param players The players currently in the world
+     * @param range The activation range in blocks
+     */
+    public void update(final List<? extends P> players, final int range) {
+        this.seen.clear();
+        for (final P player : players) {
+            this.seen.add(player);
+            final AABB box = this.boundingBox.apply(player);
+            final int minX = Mth.floor((box.minX - range) / 16.0D);
+            final int maxX = Mth.floor((box.maxX + range) / 16.0D);
+            final int minZ = Mth.floor((box.minZ - range) / 16.0D);
+            final int maxZ = Mth.floor((box.maxZ + range) / 16.0D);
+
+            final int[] bounds = this.playerBounds.get(player);
+            if (bounds != null) {
+                if (bounds[0] == minX && bounds[1] == maxX && bounds[2] == minZ && bounds[3] == maxZ) {
+                    continue;
+                }
+                this.uncover(player, bounds);
+                bounds[0] = minX;
+                bounds[1] = maxX;
+                bounds[2] = minZ;
+                bounds[3] = maxZ;
+                this.cover(player, bounds);
+            } else {
+                final int[] newBounds = new int[] {minX, maxX, minZ, maxZ};
+                this.playerBounds.put(player, newBounds);
+                this.cover(player, newBounds);
+            }
+        }
+
+        if (this.playerBounds.size() != this.seen.size()) {
+            for (final ObjectIterator<Reference2ObjectMap.Entry<P, int[]>> it = this.playerBounds.reference2ObjectEntrySet().fastIterator(); it.hasNext(); ) {
+                final Reference2ObjectMap.Entry<P, int[]> entry = it.next();
+                if (!this.seen.contains(entry.getKey())) {
+                    this.uncover(entry.getKey(), entry.getValue());
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the covered chunks, keyed by {@link ChunkPos#asLong(int, int)}, along
+     * with the players covering each of them.
+     *
+     * @return The covered chunks
+     */
+    public Long2ObjectMap<List<P>> coveredChunks() {
+        return this.coveredChunks;
+    }
+
+    /**
+     * Gets the smallest activation range at which the given bounding box of a
+     * player horizontally reaches every entity held by the given chunk, so
+     * those entities can be activated without testing them one by one.
+     *
+     * @param box The bounding box of the player
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @return The activation range
+     */
+    public static int coveringRange(final AABB box, final int chunkX, final int chunkZ) {
+        final int minX = (chunkX << 4) - ActivationRangeIndex.CHUNK_MARGIN;
+        final int maxX = (chunkX << 4) + 16 + ActivationRangeIndex.CHUNK_MARGIN;
+        final int minZ = (chunkZ << 4) - ActivationRangeIndex.CHUNK_MARGIN;
+        final int maxZ = (chunkZ << 4) + 16 + ActivationRangeIndex.CHUNK_MARGIN;
+        final int rangeX = Math.max(Mth.floor(box.minX - minX) + 1, Mth.ceil(maxX - box.maxX));
+        final int rangeZ = Math.max(Mth.floor(box.minZ - minZ) + 1, Mth.ceil(maxZ - box.maxZ));
+        return Math.max(0, Math.max(rangeX, rangeZ));
+    }
+
+    private void cover(final P player, final int[] bounds) {
+        for (int x = bounds[0]; x <= bounds[1]; x++) {
+            for (int z = bounds[2]; z <= bounds[3]; z++) {
+                final long key = ChunkPos.asLong(x, z);
+                List<P> covering = this.coveredChunks.get(key);
+                if (covering == null) {
+                    covering = new ArrayList<>(1);
+                    this.coveredChunks.put(key, covering);
+                }
+                covering.add(player);
+            }
+        }
+    }
+
+    private void uncover(final P player, final int[] bounds) {
+        for (int x = bounds[0]; x <= bounds[1]; x++) {
+            for (int z = bounds[2]; z <= bounds[3]; z++) {
+                final long key = ChunkPos.asLong(x, z);
+                final List<P> covering = this.coveredChunks.get(key);
+                if (covering != null && covering.remove(player) && covering.isEmpty()) {
+                    this.coveredChunks.remove(key);
+                }
+            }
+        }
+    }
+}
@@ -168,6 +168,19 @@ private SpongeUserData(final GameProfile profile, final CompoundTag tag) {
         SubjectHelper.applySubject((SubjectBridge) (Object) this, PermissionService.SUBJECTS_USER);
     }
 
+    /**
+     * Gets a rough measure of the memory held by this user, used to bound
+     * the user cache: one, plus the number of top level tags and inventory
+     * entries of its player data.
+     *
+     * @return The weight
+     */
+    public int weight() {
+        return 1 + this.compound.size()
+            + this.compound.getList(Constants.Entity.Player.INVENTORY, Constants.NBT.TAG_COMPOUND).size()
+            + this.compound.getList(Constants.Entity.Player.ENDERCHEST_INVENTORY, Constants.NBT.TAG_COMPOUND).size();
+    }
+
     public User asUser() {
         return ((SpongeServer) SpongeCommon.server()).userManager().asUser(this);
     }
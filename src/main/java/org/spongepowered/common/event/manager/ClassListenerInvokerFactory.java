@@ -0,0 +1,252 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.manager;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.objectweb.asm.Opcodes.AALOAD;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.ATHROW;
+import static org.objectweb.asm.Opcodes.BIPUSH;
+import static org.objectweb.asm.Opcodes.DUP;
+import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.ICONST_0;
+import static org.objectweb.asm.Opcodes.ILOAD;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.NEW;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.SIPUSH;
+import static org.objectweb.asm.Opcodes.V1_8;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.event.gen.DefineableClassLoader;
+import org.spongepowered.common.event.gen.LoaderClassWriter;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates {@link ListenerInvoker}s which hold every listener in its own
+ * field and dispatch to it through its own call site. This keeps each call
+ * site monomorphic, whereas iterating over a list of listeners funnels every
+ * listener of every event through a single megamorphic call.
+ *
+ * <p>A class is generated per list of listeners, so that the call sites of
+ * one class only ever see the listeners of a single cache. Caches that are
+ * baked again with the same listeners reuse the class as long as it's still
+ * in use.</p>
+ *
+ * <p>Every class is defined in a class loader of its own, since caches are
+ * baked again whenever a listener is registered or unregistered. Once no
+ * baked cache uses a class anymore, it's unloaded along with its loader.</p>
+ */
+public final class ClassListenerInvokerFactory implements ListenerInvoker.Factory {
+
+    /**
+     * Listener counts above this are dispatched through a plain array
+     * instead, to keep the generated methods at a reasonable size.
+     */
+    static final int MAX_GENERATED_LISTENERS = 256;
+
+    private static final String BASE_INVOKER = Type.getInternalName(ListenerInvoker.class);
+    private static final String REGISTERED_LISTENER = Type.getInternalName(RegisteredListener.class);
+    private static final String EVENT_LISTENER = Type.getInternalName(EventListener.class);
+    private static final String EVENT_LISTENER_DESCRIPTOR = Type.getDescriptor(EventListener.class);
+    private static final String CONSTRUCTOR_DESCRIPTOR = "([" + Type.getDescriptor(RegisteredListener.class) + ")V";
+    private static final String INVOKE_METHOD_DESCRIPTOR = "(I" + Type.getDescriptor(Event.class) + ")V";
+    private static final String HANDLE_METHOD_DESCRIPTOR = '(' + Type.getDescriptor(Event.class) + ")V";
+
+    private final ClassLoader parentLoader;
+    private final LoadingCache<ListenerKey, Class<? extends ListenerInvoker>> cache = Caffeine.newBuilder()
+        .weakValues()
+        .build(this::createClass);
+    private final AtomicInteger classCounter = new AtomicInteger();
+
+    private final String targetPackage;
+
+    public ClassListenerInvokerFactory(final String targetPackage, final ClassLoader parentLoader) {
+        checkNotNull(targetPackage, "targetPackage");
+        checkArgument(!targetPackage.isEmpty(), "targetPackage cannot be empty");
+        this.targetPackage = targetPackage + '.';
+        this.parentLoader = checkNotNull(parentLoader, "parentLoader");
+    }
+
+    @Override
+    public ListenerInvoker create(final List<RegisteredListener<?>> listeners) {
+        final RegisteredListener<?>[] array = listeners.toArray(new RegisteredListener<?>[0]);
+        if (array.length == 0 || array.length > ClassListenerInvokerFactory.MAX_GENERATED_LISTENERS) {
+            return new ListenerInvoker.Simple(array);
+        }
+        try {
+            return this.cache.get(new ListenerKey(array))
+                .getConstructor(RegisteredListener[].class)
+                .newInstance((Object) array);
+        } catch (final Exception e) {
+            SpongeCommon.logger().error("Failed to create listener invoker for {} listeners, falling back to array dispatch", array.length, e);
+            return new ListenerInvoker.Simple(array);
+        }
+    }
+
+    Class<? extends ListenerInvoker> createClass(final ListenerKey key) {
+        final String name = this.targetPackage + "ListenerInvoker_" + this.classCounter.incrementAndGet();
+        // A throwaway loader, which only the generated class references
+        final DefineableClassLoader classLoader = new DefineableClassLoader(this.parentLoader);
+        return classLoader.defineClass(name, ClassListenerInvokerFactory.generateClass(name, key.listeners.length));
+    }
+
+    private static byte[] generateClass(String name, final int size) {
+        name = name.replace('.', '/');
+
+        final ClassWriter cw = new LoaderClassWriter(ListenerInvoker.class.getClassLoader(), ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+        MethodVisitor mv;
+
+        cw.visit(V1_8, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, name, null, ClassListenerInvokerFactory.BASE_INVOKER, null);
+        for (int i = 0; i < size; i++) {
+            cw.visitField(ACC_PRIVATE + ACC_FINAL, "l" + i, ClassListenerInvokerFactory.EVENT_LISTENER_DESCRIPTOR, null, null).visitEnd();
+        }
+        {
+            mv = cw.visitMethod(ACC_PUBLIC, "<init>", ClassListenerInvokerFactory.CONSTRUCTOR_DESCRIPTOR, null, null);
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitMethodInsn(INVOKESPECIAL, ClassListenerInvokerFactory.BASE_INVOKER, "<init>", ClassListenerInvokerFactory.CONSTRUCTOR_DESCRIPTOR, false);
+            for (int i = 0; i < size; i++) {
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitVarInsn(ALOAD, 1);
+                ClassListenerInvokerFactory.visitIntConstant(mv, i);
+                mv.visitInsn(AALOAD);
+                mv.visitMethodInsn(INVOKEVIRTUAL, ClassListenerInvokerFactory.REGISTERED_LISTENER, "getListener",
+                    "()" + ClassListenerInvokerFactory.EVENT_LISTENER_DESCRIPTOR, false);
+                mv.visitFieldInsn(PUTFIELD, name, "l" + i, ClassListenerInvokerFactory.EVENT_LISTENER_DESCRIPTOR);
+            }
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        {
+            mv = cw.visitMethod(ACC_PUBLIC, "invoke", ClassListenerInvokerFactory.INVOKE_METHOD_DESCRIPTOR, null,
+                new String[] { "java/lang/Exception" });
+            mv.visitCode();
+            final Label outOfBounds = new Label();
+            final Label[] cases = new Label[size];
+            for (int i = 0; i < size; i++) {
+                cases[i] = new Label();
+            }
+            mv.visitVarInsn(ILOAD, 1);
+            mv.visitTableSwitchInsn(0, size - 1, outOfBounds, cases);
+            for (int i = 0; i < size; i++) {
+                // Every listener gets its own call site, which the JIT can then inline
+                mv.visitLabel(cases[i]);
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitFieldInsn(GETFIELD, name, "l" + i, ClassListenerInvokerFactory.EVENT_LISTENER_DESCRIPTOR);
+                mv.visitVarInsn(ALOAD, 2);
+                mv.visitMethodInsn(INVOKEINTERFACE, ClassListenerInvokerFactory.EVENT_LISTENER, "handle",
+                    ClassListenerInvokerFactory.HANDLE_METHOD_DESCRIPTOR, true);
+                mv.visitInsn(RETURN);
+            }
+            mv.visitLabel(outOfBounds);
+            mv.visitTypeInsn(NEW, "java/lang/IndexOutOfBoundsException");
+            mv.visitInsn(DUP);
+            mv.visitMethodInsn(INVOKESPECIAL, "java/lang/IndexOutOfBoundsException", "<init>", "()V", false);
+            mv.visitInsn(ATHROW);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        cw.visitEnd();
+
+        return cw.toByteArray();
+    }
+
+    /**
+     * Identifies a list of listeners by the identity of each listener.
+     */
+    static final class ListenerKey {
+
+        final EventListener<?>[] listeners;
+        private final int hashCode;
+
+        ListenerKey(final RegisteredListener<?>[] listeners) {
+            this.listeners = new EventListener<?>[listeners.length];
+            int hashCode = 1;
+            for (int i = 0; i < listeners.length; i++) {
+                this.listeners[i] = listeners[i].getListener();
+                hashCode = 31 * hashCode + System.identityHashCode(this.listeners[i]);
+            }
+            this.hashCode = hashCode;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ListenerKey)) {
+                return false;
+            }
+            final ListenerKey other = (ListenerKey) o;
+            if (this.hashCode != other.hashCode || this.listeners.length != other.listeners.length) {
+                return false;
+            }
+            for (int i = 0; i < this.listeners.length; i++) {
+                if (this.listeners[i] != other.listeners[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+    }
+
+    private static void visitIntConstant(final MethodVisitor mv, final int value) {
+        if (value <= 5) {
+            mv.visitInsn(ICONST_0 + value);
+        } else if (value <= Byte.MAX_VALUE) {
+            mv.visitIntInsn(BIPUSH, value);
+        } else {
+            mv.visitIntInsn(SIPUSH, value);
+        }
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.manager;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+
+import java.util.List;
+
+/**
+ * Invokes a fixed, ordered set of {@link RegisteredListener}s. Instances are
+ * created once per baked {@link RegisteredListener.Cache}, so that posting an
+ * event does not need to iterate a {@link List} or go through the shared
+ * {@link RegisteredListener#handle(Event)} call site.
+ */
+public abstract class ListenerInvoker {
+
+    protected final RegisteredListener<?>[] listeners;
+
+    protected ListenerInvoker(final RegisteredListener<?>[] listeners) {
+        this.listeners = checkNotNull(listeners, "listeners");
+    }
+
+    public final RegisteredListener<?>[] listeners() {
+        return this.listeners;
+    }
+
+    public final int size() {
+        return this.listeners.length;
+    }
+
+    /**
+     * Passes the event to the listener at the given index.
+     *
+     * @param index The index of the listener
+     * @param event The event
+     * @throws Exception If the listener throws an exception
+     */
+    public abstract void invoke(int index, Event event) throws Exception;
+
+    public interface Factory {
+
+        ListenerInvoker create(List<RegisteredListener<?>> listeners);
+
+    }
+
+    /**
+     * A {@link ListenerInvoker} which dispatches through an array of
+     * listeners, used when no specialized class could be generated.
+     */
+    static final class Simple extends ListenerInvoker {
+
+        private final EventListener<Event>[] handles;
+
+        @SuppressWarnings("unchecked")
+        Simple(final RegisteredListener<?>[] listeners) {
+            super(listeners);
+            this.handles = new EventListener[listeners.length];
+            for (int i = 0; i < listeners.length; i++) {
+                this.handles[i] = (EventListener<Event>) listeners[i].getListener();
+            }
+        }
+
+        @Override
+        public void invoke(final int index, final Event event) throws Exception {
+            this.handles[index].handle(event);
+        }
+
+    }
+
+}
@@ -74,6 +74,10 @@ public boolean isBeforeModifications() {
         return this.beforeModifications;
     }
 
+    public EventListener<? super T> getListener() {
+        return this.listener;
+    }
+
     @Override
     public Object getHandle() {
         if (this.listener instanceof SpongeEventListener) {
@@ -99,8 +103,11 @@ public static final class Cache {
         private final List<RegisteredListener<?>> beforeModifications = new ArrayList<>();
         private final List<RegisteredListener<?>> afterModifications = new ArrayList<>();
         private final EnumMap<Order, List<RegisteredListener<?>>> listenersByOrder;
+        private final ListenerInvoker invoker;
+        private final ListenerInvoker beforeModificationsInvoker;
+        private final ListenerInvoker afterModificationsInvoker;
 
-        Cache(final List<RegisteredListener<?>> listeners) {
+        Cache(final List<RegisteredListener<?>> listeners, final ListenerInvoker.Factory invokerFactory) {
             this.listeners = listeners;
 
             this.listenersByOrder = new EnumMap<>(Order.class);
@@ -113,6 +120,9 @@ public static final class Cache {
                     this.afterModifications.add(handler);
                 }
             }
+            this.invoker = invokerFactory.create(this.listeners);
+            this.beforeModificationsInvoker = invokerFactory.create(this.beforeModifications);
+            this.afterModificationsInvoker = invokerFactory.create(this.afterModifications);
         }
 
         public List<RegisteredListener<?>> getListeners() {
@@ -135,6 +145,18 @@ public List<RegisteredListener<?>> afterModifications() {
             return Collections.unmodifiableList(this.afterModifications);
         }
 
+        public ListenerInvoker invoker() {
+            return this.invoker;
+        }
+
+        public ListenerInvoker beforeModificationsInvoker() {
+            return this.beforeModificationsInvoker;
+        }
+
+        public ListenerInvoker afterModificationsInvoker() {
+            return this.afterModificationsInvoker;
+        }
+
     }
 
 }
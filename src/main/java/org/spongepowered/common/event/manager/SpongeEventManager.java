@@ -78,6 +78,20 @@
 public abstract class SpongeEventManager implements EventManager {
 
     private static final NoExceptionClosable NULL_CLOSABLE = new NoExceptionClosable();
+    private static final boolean COMPILED_DISPATCH = Boolean.parseBoolean(System.getProperty("sponge.event.compiledDispatch", "true"));
+
+    /**
+     * The {@link EventType}s of non generic events, which are fixed per
+     * event class, so that looking up the handler cache does not need to
+     * create a new key for every posted event.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final ClassValue<EventType<?>> EVENT_TYPES = new ClassValue<EventType<?>>() {
+        @Override
+        protected EventType<?> computeValue(final Class<?> type) {
+            return new EventType(type, null);
+        }
+    };
 
     public final ListenerChecker checker;
     private final Object lock;
@@ -91,6 +105,7 @@ public abstract class SpongeEventManager implements EventManager {
             Caffeine.newBuilder().initialCapacity(150).build(this::bakeHandlers);
     private final Map<ClassLoader, AnnotatedEventListener.Factory> classLoaders;
     private final Set<Object> registeredListeners;
+    private final ListenerInvoker.Factory invokerFactory;
 
     public SpongeEventManager() {
         this.lock = new Object();
@@ -98,6 +113,12 @@ public SpongeEventManager() {
         this.classLoaders = new IdentityHashMap<>();
         this.registeredListeners = new ReferenceOpenHashSet<>();
         this.checker = new ListenerChecker(ShouldFire.class);
+        if (SpongeEventManager.COMPILED_DISPATCH) {
+            this.invokerFactory = new ClassListenerInvokerFactory("org.spongepowered.common.event.invoker",
+                SpongeEventManager.class.getClassLoader());
+        } else {
+            this.invokerFactory = listeners -> new ListenerInvoker.Simple(listeners.toArray(new RegisteredListener<?>[0]));
+        }
 
         // Caffeine offers no control over the concurrency level of the
         // ConcurrentHashMap which backs the cache. By default this concurrency
@@ -191,7 +212,7 @@ <T extends Event> RegisteredListener.Cache bakeHandlers(final EventType<T> event
         }
 
         Collections.sort(handlers);
-        return new RegisteredListener.Cache(handlers);
+        return new RegisteredListener.Cache(handlers, this.invokerFactory);
     }
 
     private void register(final List<RegisteredListener<? extends Event>> handlers) {
@@ -368,11 +389,22 @@ protected RegisteredListener.Cache getHandlerCache(final Event event) {
         if (event instanceof GenericEvent) {
             eventType = new EventType(eventClass, Objects.requireNonNull(((GenericEvent<?>) event).paramType().getType()));
         } else {
-            eventType = new EventType(eventClass, null);
+            eventType = SpongeEventManager.EVENT_TYPES.get(eventClass);
         }
         return this.handlersCache.get(eventType);
     }
 
+    /**
+     * Gets whether any listener is registered that would receive an event of
+     * the given type, according to the baked listener cache.
+     *
+     * @param eventClass The event type
+     * @return Whether the event type has listeners
+     */
+    public boolean hasListeners(final Class<? extends Event> eventClass) {
+        return !this.handlersCache.get(SpongeEventManager.EVENT_TYPES.get(eventClass)).getListeners().isEmpty();
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     protected final boolean post(final Event event, final List<RegisteredListener<?>> handlers) {
         for (final RegisteredListener handler : handlers) {
@@ -398,6 +430,46 @@ protected final boolean post(final Event event, final List<RegisteredListener<?>
         return event instanceof Cancellable && ((Cancellable) event).isCancelled();
     }
 
+    /**
+     * Posts the event to the listeners of the given invoker. Unlike
+     * {@link #post(Event, List)}, a single cause frame is pushed for all
+     * listeners and rewound after each of them, instead of pushing and
+     * popping a frame per listener.
+     *
+     * @param event The event
+     * @param invoker The invoker of the listeners to post to
+     * @return Whether the event was cancelled
+     */
+    protected final boolean post(final Event event, final ListenerInvoker invoker) {
+        final RegisteredListener<?>[] handlers = invoker.listeners();
+        if (handlers.length != 0) {
+            final PhaseTracker tracker = PhaseTracker.getInstance();
+            try (final CauseStackManager.StackFrame frame = tracker.pushCauseFrame()) {
+                for (int i = 0; i < handlers.length; i++) {
+                    final RegisteredListener<?> handler = handlers[i];
+                    try (final @Nullable PhaseContext<@NonNull ?> context = SpongeEventManager.createListenerContext(handler.getPlugin())) {
+                        frame.pushCause(handler.getPlugin());
+                        if (context != null) {
+                            context.buildAndSwitch();
+                        }
+                        if (event instanceof AbstractEvent) {
+                            ((AbstractEvent) event).currentOrder = handler.getOrder();
+                        }
+                        invoker.invoke(i, event);
+                    } catch (final Throwable e) {
+                        SpongeCommon.logger().error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin().metadata().id(), e);
+                    } finally {
+                        tracker.rewindCauseFrame(frame);
+                    }
+                }
+            }
+        }
+        if (event instanceof AbstractEvent) {
+            ((AbstractEvent) event).currentOrder = null;
+        }
+        return event instanceof Cancellable && ((Cancellable) event).isCancelled();
+    }
+
     public static @Nullable EventListenerPhaseContext createListenerContext(@Nullable final PluginContainer plugin) {
         if (PhaseTracker.getInstance().getPhaseContext().allowsEventListener()) {
             final EventListenerPhaseContext context = PluginPhase.Listener.GENERAL_LISTENER.createPhaseContext(PhaseTracker.getInstance());
@@ -414,7 +486,7 @@ protected final boolean post(final Event event, final List<RegisteredListener<?>
     @Override
     public boolean post(final Event event) {
         try (final NoExceptionClosable ignored = this.preparePost(event)) {
-            return this.post(event, this.getHandlerCache(event).getListeners());
+            return this.post(event, this.getHandlerCache(event).invoker());
         }
     }
 
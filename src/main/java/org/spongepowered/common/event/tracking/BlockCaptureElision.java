@@ -0,0 +1,99 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.spongepowered.api.entity.living.player.server.ServerPlayer;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.block.ChangeBlockEvent;
+import org.spongepowered.api.event.block.NotifyNeighborBlockEvent;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.common.CommonConfig;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.event.ShouldFire;
+import org.spongepowered.common.event.manager.SpongeEventManager;
+
+/**
+ * Decides whether a phase can skip recording its block transactions, as
+ * nothing would observe the events built from them. When elided, block
+ * changes still run every side effect of the block pipelines in order, but
+ * without snapshotting the original blocks or batching the transactions
+ * into {@link ChangeBlockEvent}s and {@link NotifyNeighborBlockEvent}s.
+ * Controlled by {@code optimizations.elide-unobserved-block-captures}.
+ */
+public final class BlockCaptureElision {
+
+    public static boolean isEnabled() {
+        final CommonConfig config = SpongeConfigs.getCommon().get();
+        return config.modules.optimizations && config.optimizations.elideUnobservedBlockCaptures;
+    }
+
+    /**
+     * Gets whether the given context, about to be switched to, can elide its
+     * block captures. Contexts tracking a creator, a notifier or a player keep
+     * capturing, as the owners of changed blocks are applied from the captured
+     * transactions after the fact.
+     *
+     * @param context The context
+     * @return Whether the block captures of the context can be elided
+     */
+    static boolean canElide(final PhaseContext<@NonNull ?> context) {
+        if (!BlockCaptureElision.isEnabled() || !context.doesBlockEventTracking()) {
+            return false;
+        }
+        if (context.getCreator().isPresent() || context.getNotifier().isPresent() || context.getSource() instanceof ServerPlayer) {
+            return false;
+        }
+        return !BlockCaptureElision.isObserved();
+    }
+
+    /**
+     * Gets whether any listener would receive the events built from captured
+     * block transactions. {@link ShouldFire} rules out the common case of no
+     * listeners at all, while the baked listener cache of the event manager
+     * settles the flags that are kept raised by related listeners or forced
+     * through {@code sponge.shouldFireAll}.
+     *
+     * @return Whether captured block transactions are observed
+     */
+    public static boolean isObserved() {
+        if (!ShouldFire.CHANGE_BLOCK_EVENT_ALL && !ShouldFire.CHANGE_BLOCK_EVENT_POST && !ShouldFire.NOTIFY_NEIGHBOR_BLOCK_EVENT) {
+            return false;
+        }
+        final SpongeEventManager eventManager = (SpongeEventManager) SpongeCommon.game().eventManager();
+        return BlockCaptureElision.hasListeners(eventManager, ShouldFire.CHANGE_BLOCK_EVENT_ALL, ChangeBlockEvent.All.class)
+            || BlockCaptureElision.hasListeners(eventManager, ShouldFire.CHANGE_BLOCK_EVENT_POST, ChangeBlockEvent.Post.class)
+            || BlockCaptureElision.hasListeners(eventManager, ShouldFire.NOTIFY_NEIGHBOR_BLOCK_EVENT, NotifyNeighborBlockEvent.class);
+    }
+
+    private static boolean hasListeners(final SpongeEventManager eventManager, final boolean shouldFire,
+        final Class<? extends Event> eventClass
+    ) {
+        return shouldFire && eventManager.hasListeners(eventClass);
+    }
+
+    private BlockCaptureElision() {
+    }
+}
@@ -27,6 +27,8 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.item.ItemEntity;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -41,7 +43,11 @@
 import org.spongepowered.common.util.MemoizedSupplier;
 import org.spongepowered.common.util.PrettyPrinter;
 
+import java.util.ArrayList;
 import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
@@ -81,6 +87,8 @@
     private boolean allowsEntityEvents = true;
     private boolean allowsBulkBlockCaptures = true; // Defaults to allow block captures
     private boolean allowsBulkEntityCaptures = true;
+    private boolean elidesBlockCaptures = false;
+    private @Nullable Map<Entity, List<ItemEntity>> preMergeDrops;
     @Nullable Deque<CauseStackManager.StackFrame> usedFrame;
 
     private @Nullable Object source;
@@ -155,8 +163,34 @@ public boolean allowsBulkEntityCaptures() {
         return this.allowsBulkEntityCaptures;
     }
 
+    /**
+     * Gets whether block changes in this phase skip recording transactions,
+     * as decided by {@link BlockCaptureElision} when the phase was switched to.
+     *
+     * @return Whether block captures are elided
+     */
+    public boolean elidesBlockCaptures() {
+        return this.elidesBlockCaptures;
+    }
+
+    /**
+     * Gets the item entities the given entity dropped while this phase was
+     * active, for later drops to be pre-merged into. These are released once
+     * the phase completes.
+     *
+     * @param dropper The dropping entity
+     * @return The dropped item entities
+     */
+    public List<ItemEntity> getPreMergeDrops(final Entity dropper) {
+        if (this.preMergeDrops == null) {
+            this.preMergeDrops = new IdentityHashMap<>();
+        }
+        return this.preMergeDrops.computeIfAbsent(dropper, k -> new ArrayList<>());
+    }
+
     public P buildAndSwitch() {
         this.isCompleted = true;
+        this.elidesBlockCaptures = BlockCaptureElision.canElide(this);
         if (SpongeConfigs.getCommon().get().phaseTracker.generateStackTracePerPhase) {
             this.stackTrace = new Exception("Debug Trace").getStackTrace();
         }
@@ -323,6 +357,7 @@ public void close() { // Should never throw an exception
         }
         final PhaseTracker instance = PhaseTracker.getInstance();
         instance.completePhase(this);
+        this.preMergeDrops = null;
         if (!this.shouldProvideModifiers()) {
             if (this.usedFrame != null) {
                 this.usedFrame.iterator().forEachRemaining(instance::popCauseFrame);
@@ -352,6 +387,8 @@ protected void reset() {
         this.stackTrace = null;
         this.creator = null;
         this.notifier = null;
+        this.elidesBlockCaptures = false;
+        this.preMergeDrops = null;
         if (this.transactor != null) {
             this.transactor.reset();
         }
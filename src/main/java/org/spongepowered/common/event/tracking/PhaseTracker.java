@@ -589,6 +589,7 @@ public StackFrame pushCauseFrame() {
             frame.lastCauseSize = this.duplicateCauses[size];
         }
 
+        frame.depth = this.frames.size();
         this.frames.push(frame);
         this.min_depth = size;
         if (PhaseTracker.DEBUG_CAUSE_FRAMES) {
@@ -661,14 +662,56 @@ public void popCauseFrame(final StackFrame oldFrame) {
             return;
         }
         this.frames.pop();
+        frame.depth = -1;
+        this.unwindFrame(frame);
+        this.min_depth = frame.old_min_depth;
+
+        // finally, return the frame to the pool
+        if (this.framePool.size() < PhaseTracker.MAX_POOL_SIZE) {
+            // cache it, but also call clear so we remove references to
+            // other objects that may go out of scope
+            frame.clear();
+            this.framePool.push(frame);
+        }
+    }
+
+    /**
+     * Rewinds the given frame back to the state it had when it was pushed,
+     * removing any causes and context added since, but keeps the frame on
+     * the stack so that it can be reused. Any frames that were left on top
+     * of the given frame are popped.
+     *
+     * @param oldFrame The frame to rewind
+     */
+    public void rewindCauseFrame(final StackFrame oldFrame) {
+        checkNotNull(oldFrame, "oldFrame");
+        this.enforceMainThread();
+        final SpongeCauseStackFrame frame = (SpongeCauseStackFrame) oldFrame;
+        // The depth of the frame tells how many frames were left on top of it
+        if (frame.depth < 0 || frame.depth >= this.frames.size()) {
+            throw new IllegalStateException("Cause Stack Frame Corruption! Attempted to rewind a frame that was not on the stack.");
+        }
+        while (this.frames.size() > frame.depth + 1) {
+            SpongeCommon.logger().warn("Cause Stack Frame Corruption! Found a frame left on the stack while rewinding, popping it.");
+            this.popCauseFrame(this.frames.peek());
+        }
+        if (this.frames.peek() != frame) {
+            throw new IllegalStateException("Cause Stack Frame Corruption! Attempted to rewind a frame that was not on the stack.");
+        }
+        this.unwindFrame(frame);
+        frame.getOriginalContextDelta().clear();
+    }
 
+    private void unwindFrame(final SpongeCauseStackFrame frame) {
         // Remove new values
-        for (final Map.Entry<EventContextKey<?>, Object> entry : frame.getOriginalContextDelta().entrySet()) {
-            this.cached_ctx = null;
-            if (entry.getValue() == null) { // wasn't present before, remove
-                this.ctx.remove(entry.getKey());
-            } else { // was there, replace
-                this.ctx.put(entry.getKey(), entry.getValue());
+        if (!frame.getOriginalContextDelta().isEmpty()) {
+            for (final Map.Entry<EventContextKey<?>, Object> entry : frame.getOriginalContextDelta().entrySet()) {
+                this.cached_ctx = null;
+                if (entry.getValue() == null) { // wasn't present before, remove
+                    this.ctx.remove(entry.getKey());
+                } else { // was there, replace
+                    this.ctx.put(entry.getKey(), entry.getValue());
+                }
             }
         }
 
@@ -689,20 +732,11 @@ public void popCauseFrame(final StackFrame oldFrame) {
             // and clear the cached causes
             this.cached_cause = null;
         }
-        this.min_depth = frame.old_min_depth;
         final int size = this.cause.size();
         if (this.duplicateCauses.length > size) {
             // Then set the last cause index to whatever the size of the entry was at the time.
             this.duplicateCauses[size] = frame.lastCauseSize;
         }
-
-        // finally, return the frame to the pool
-        if (this.framePool.size() < PhaseTracker.MAX_POOL_SIZE) {
-            // cache it, but also call clear so we remove references to
-            // other objects that may go out of scope
-            frame.clear();
-            this.framePool.push(frame);
-        }
     }
 
     @Override
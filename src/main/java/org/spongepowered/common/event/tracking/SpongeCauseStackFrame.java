@@ -43,6 +43,8 @@ public final class SpongeCauseStackFrame implements CauseStackManager.StackFrame
     private final Map<EventContextKey<?>, Object> storedContext;
     int old_min_depth;
     int lastCauseSize;
+    // The index of this frame on the stack, counted from the bottom, or -1 if it's not on the stack
+    int depth = -1;
 
     @Nullable Exception stackDebug = null;
 
@@ -58,6 +60,7 @@ public void clear() {
         this.storedContext.clear();
         this.lastCauseSize = -1;
         this.old_min_depth = -1;
+        this.depth = -1;
         this.stackDebug = null;
     }
 
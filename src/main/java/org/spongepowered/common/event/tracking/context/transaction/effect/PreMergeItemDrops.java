@@ -0,0 +1,101 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking.context.transaction.effect;
+
+import net.minecraft.world.item.ItemStack;
+import org.spongepowered.common.applaunch.config.common.CommonConfig;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Combines stackable item drops that would otherwise be spawned as separate
+ * item entities at the same position, only to be merged by the item entities
+ * themselves over the following ticks. Controlled by
+ * {@code optimizations.drops-pre-merge}.
+ */
+public final class PreMergeItemDrops {
+
+    public static boolean isEnabled() {
+        final CommonConfig config = SpongeConfigs.getCommon().get();
+        return config.modules.optimizations && config.optimizations.dropsPreMerge;
+    }
+
+    /**
+     * Gets the given drops with every stackable drop folded into an earlier
+     * one of the same item, as far as the maximum stack size allows. The
+     * given list and stacks are left untouched.
+     *
+     * @param drops The drops
+     * @return The merged drops, or the given list if nothing was merged
+     */
+    public static List<ItemStack> merge(final List<ItemStack> drops) {
+        if (drops.size() < 2 || !PreMergeItemDrops.isEnabled()) {
+            return drops;
+        }
+        final List<ItemStack> merged = new ArrayList<>(drops.size());
+        for (final ItemStack drop : drops) {
+            if (drop.isEmpty()) {
+                continue;
+            }
+            final ItemStack remaining = drop.copy();
+            for (final ItemStack existing : merged) {
+                PreMergeItemDrops.mergeInto(existing, remaining);
+                if (remaining.isEmpty()) {
+                    break;
+                }
+            }
+            if (!remaining.isEmpty()) {
+                merged.add(remaining);
+            }
+        }
+        return merged.size() == drops.size() ? drops : merged;
+    }
+
+    /**
+     * Moves as much of the source stack into the target stack as it can
+     * take, if the two can stack together.
+     *
+     * @param target The stack to grow
+     * @param source The stack to shrink
+     * @return Whether anything was moved
+     */
+    public static boolean mergeInto(final ItemStack target, final ItemStack source) {
+        if (!target.isStackable() || target.getItem() != source.getItem() || !ItemStack.tagMatches(target, source)) {
+            return false;
+        }
+        final int moved = Math.min(target.getMaxStackSize() - target.getCount(), source.getCount());
+        if (moved <= 0) {
+            return false;
+        }
+        target.grow(moved);
+        source.shrink(moved);
+        return true;
+    }
+
+    private PreMergeItemDrops() {
+    }
+}
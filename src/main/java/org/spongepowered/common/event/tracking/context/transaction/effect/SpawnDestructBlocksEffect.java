@@ -56,7 +56,7 @@ public EffectResult processSideEffect(
         final ServerLevel world = pipeline.getServerWorld();
         final BlockPos pos = oldState.pos;
 
-        final List<ItemStack> drops = oldState.drops;
+        final List<ItemStack> drops = PreMergeItemDrops.merge(oldState.drops);
 
         drops.forEach(drop -> Block.popResource(world, pos, drop));
 
@@ -55,7 +55,8 @@ public final class ChunkPipeline implements BlockPipeline {
     private final @Nullable Supplier<LevelChunkSection> sectionSupplier;
     private final boolean wasEmpty;
     private final List<ResultingTransactionBySideEffect> chunkEffects;
-    final ChangeBlock transaction;
+    private final @Nullable SpongeBlockChangeFlag flag;
+    final @Nullable ChangeBlock transaction;
 
     public static ChunkPipeline nullReturn(final LevelChunk chunk, final ServerLevel world) {
         return new ChunkPipeline(chunk, world);
@@ -69,6 +70,7 @@ private ChunkPipeline(final LevelChunk chunk, final ServerLevel world) {
         this.sectionSupplier = () -> LevelChunk.EMPTY_SECTION;
         this.wasEmpty = true;
         this.chunkEffects = Collections.emptyList();
+        this.flag = null;
         this.transaction = null;
     }
 
@@ -78,6 +80,7 @@ private ChunkPipeline(final LevelChunk chunk, final ServerLevel world) {
         this.serverWorld = builder.serverWorld;
         this.sectionSupplier = builder.sectionSupplier;
         this.wasEmpty = Objects.requireNonNull(builder.sectionSupplier).get().isEmpty();
+        this.flag = builder.flag;
         this.transaction = builder.transaction;
     }
 
@@ -112,26 +115,32 @@ public LevelChunkSection getAffectedSection() {
         }
         final ServerLevel serverWorld = this.serverWorld.get();
         final int oldOpacity = currentState.getLightBlock(serverWorld, pos);
-        final SpongeBlockChangeFlag flag = this.transaction.getBlockChangeFlag();
+        final SpongeBlockChangeFlag flag = this.flag;
         final @Nullable BlockEntity existing = this.chunkSupplier.get().getBlockEntity(pos, LevelChunk.EntityCreationType.CHECK);
         PipelineCursor formerState = new PipelineCursor(currentState, oldOpacity, pos, existing, (Entity) null, limit);
 
         for (final ResultingTransactionBySideEffect effect : this.chunkEffects) {
-            try (final EffectTransactor ignored = context.getTransactor().pushEffect(effect)) {
-                final EffectResult result = effect.effect.processSideEffect(
-                    this,
-                    formerState,
-                    proposedState,
-                    flag,
-                    limit
-                );
-                if (result.hasResult) {
-                    return result.resultingState;
-                }
-                if (formerState.drops.isEmpty() && !result.drops.isEmpty()) {
-                    formerState = new PipelineCursor(currentState, oldOpacity, pos, existing, null, result.drops, limit);
+            final EffectResult result;
+            if (this.transaction == null) {
+                // Block captures are elided, there is no transaction to record the effect under
+                result = effect.effect.processSideEffect(this, formerState, proposedState, flag, limit);
+            } else {
+                try (final EffectTransactor ignored = context.getTransactor().pushEffect(effect)) {
+                    result = effect.effect.processSideEffect(
+                        this,
+                        formerState,
+                        proposedState,
+                        flag,
+                        limit
+                    );
                 }
             }
+            if (result.hasResult) {
+                return result.resultingState;
+            }
+            if (formerState.drops.isEmpty() && !result.drops.isEmpty()) {
+                formerState = new PipelineCursor(currentState, oldOpacity, pos, existing, null, result.drops, limit);
+            }
         }
         // if we've gotten here, means something is wrong, we didn't build our effects right.
         return null;
@@ -151,11 +160,26 @@ public static final class Builder {
         @Nullable Supplier<LevelChunk> chunkSupplier;
         @Nullable Supplier<LevelChunkSection> sectionSupplier;
         boolean wasSectionEmpty;
+        @MonotonicNonNull SpongeBlockChangeFlag flag;
         @MonotonicNonNull ChangeBlock transaction;
         List<ResultingTransactionBySideEffect> effects;
 
         public Builder kickOff(final ChangeBlock transaction) {
             this.transaction = Objects.requireNonNull(transaction, "ChangeBlock transaction cannot be null!");
+            this.flag = transaction.getBlockChangeFlag();
+            return this;
+        }
+
+        /**
+         * Kicks off the pipeline without a recorded {@link ChangeBlock}, for
+         * phases that elide their block captures. The effects are then
+         * processed without being pushed onto the transactor.
+         *
+         * @param flag The block change flag
+         * @return This builder, for chaining
+         */
+        public Builder kickOffUncaptured(final SpongeBlockChangeFlag flag) {
+            this.flag = Objects.requireNonNull(flag, "SpongeBlockChangeFlag cannot be null!");
             return this;
         }
         public Builder addEffect(final ProcessingSideEffect effect) {
@@ -207,7 +231,7 @@ public ChunkPipeline build() {
             if (this.effects == null) {
                 this.effects = Collections.emptyList();
             }
-            Objects.requireNonNull(this.transaction, "ChangeBlock transaction must have been recorded!");
+            Objects.requireNonNull(this.flag, "ChunkPipeline must have been kicked off!");
             return new ChunkPipeline(this);
         }
 
@@ -101,22 +101,29 @@ public boolean processEffects(final PhaseContext<?> context, final BlockState cu
         final int oldOpacity = oldState.getLightBlock(serverWorld, pos);
         PipelineCursor formerState = new PipelineCursor(oldState, oldOpacity, pos, existing, destroyer, limit);
 
+        final boolean captured = this.chunkPipeline.transaction != null;
         for (final ResultingTransactionBySideEffect effect : this.worldEffects) {
-            try (final EffectTransactor ignored = context.getTransactor().pushEffect(effect)) {
-                final EffectResult result = effect.effect.processSideEffect(
-                    this,
-                    formerState,
-                    newProposedState,
-                    flag,
-                    limit
-                );
-                if (result.hasResult) {
-                    return result.resultingState != null;
-                }
-                if (formerState.drops.isEmpty() && !result.drops.isEmpty()) {
-                    formerState = new PipelineCursor(oldState, oldOpacity, pos, existing, formerState.destroyer, result.drops, limit);
+            final EffectResult result;
+            if (!captured) {
+                // Block captures are elided, there is no transaction to record the effect under
+                result = effect.effect.processSideEffect(this, formerState, newProposedState, flag, limit);
+            } else {
+                try (final EffectTransactor ignored = context.getTransactor().pushEffect(effect)) {
+                    result = effect.effect.processSideEffect(
+                        this,
+                        formerState,
+                        newProposedState,
+                        flag,
+                        limit
+                    );
                 }
             }
+            if (result.hasResult) {
+                return result.resultingState != null;
+            }
+            if (formerState.drops.isEmpty() && !result.drops.isEmpty()) {
+                formerState = new PipelineCursor(oldState, oldOpacity, pos, existing, formerState.destroyer, result.drops, limit);
+            }
         }
         // if we've gotten here, means something is wrong, we didn't build our effects right.
         return false;
@@ -56,7 +56,9 @@ public void appendNotifierPreBlockTick(final ServerLevel world, final BlockPos p
     public void associateScheduledTickUpdate(
         final C asContext, final ServerLevel level, final TickNextTickData<?> entry
     ) {
-        asContext.getTransactor().logScheduledUpdate(level, entry);
+        if (!asContext.elidesBlockCaptures()) {
+            asContext.getTransactor().logScheduledUpdate(level, entry);
+        }
     }
 
     @Override
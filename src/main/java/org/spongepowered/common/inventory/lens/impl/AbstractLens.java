@@ -30,6 +30,7 @@
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.data.Key;
 import org.spongepowered.api.item.inventory.Inventory;
+import org.spongepowered.api.item.inventory.query.Query;
 import org.spongepowered.common.inventory.fabric.Fabric;
 import org.spongepowered.common.inventory.lens.Lens;
 import org.spongepowered.common.inventory.lens.impl.slot.SlotLensProvider;
@@ -43,6 +44,8 @@
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 public abstract class AbstractLens implements Lens {
 
@@ -59,6 +62,8 @@ public abstract class AbstractLens implements Lens {
 
     private int maxOrdinal = 0;
 
+    private volatile @Nullable Map<Query, Optional<Lens>> compiledQueries;
+
     public AbstractLens(final int base, final int size) {
         checkArgument(base >= 0, "Invalid offset: %s", base);
         checkArgument(size > 0, "Invalid size: %s", size);
@@ -82,6 +87,8 @@ protected void addChild(final Lens lens, final KeyValuePair... keyValuePairs) {
 
         if (!this.children.contains(lens)) {
             this.children.add(lens);
+            // The structure changed, so queries compiled against the old one no longer apply
+            this.compiledQueries = null;
         }
         this.addKeyValuePairs(lens, keyValuePairs);
     }
@@ -101,6 +108,28 @@ private void addKeyValuePairs(Lens lens, KeyValuePair[] keyValuePairs) {
         }
     }
 
+    /**
+     * Gets the results of queries already compiled against this lens as the
+     * root lens of an inventory. A result is empty if the query matched
+     * nothing. The compiled queries are dropped when a child is added to
+     * this lens.
+     *
+     * @return The compiled queries, safe to use from any thread
+     */
+    public final Map<Query, Optional<Lens>> compiledQueries() {
+        Map<Query, Optional<Lens>> compiledQueries = this.compiledQueries;
+        if (compiledQueries == null) {
+            synchronized (this) {
+                compiledQueries = this.compiledQueries;
+                if (compiledQueries == null) {
+                    compiledQueries = new ConcurrentHashMap<>();
+                    this.compiledQueries = compiledQueries;
+                }
+            }
+        }
+        return compiledQueries;
+    }
+
     protected void setParent(final Lens parent) {
         this.parent = parent;
     }
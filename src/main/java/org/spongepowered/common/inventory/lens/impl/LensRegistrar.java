@@ -69,7 +69,6 @@
 import org.spongepowered.common.inventory.util.ContainerUtil;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -81,9 +80,10 @@
 public class LensRegistrar {
 
     // Class of Inventory -> Size -> Lens
-    private static Map<Class<?>, Int2ObjectMap<Lens>> lenses = new HashMap<>();
+    // Inventories may be created off the main thread, so both maps must be safe to use from any thread.
+    private static final Map<Class<?>, Int2ObjectMap<Lens>> lenses = new ConcurrentHashMap<>();
 
-    private static Map<Class<?>, LensFactory> lensFactories = new HashMap<>();
+    private static final Map<Class<?>, LensFactory> lensFactories = new ConcurrentHashMap<>();
 
 
     static {
@@ -152,7 +152,20 @@ public static LensFactory restricted(LensFactory original, Predicate<Integer> si
     }
 
     public static Lens getLens(Object inventory, SlotLensProvider slotLensProvider, int size) {
-        return LensRegistrar.getLenses(inventory.getClass()).computeIfAbsent(size, k -> LensRegistrar.generateLens(inventory, size, slotLensProvider));
+        final Int2ObjectMap<Lens> lenses = LensRegistrar.getLenses(inventory.getClass());
+        synchronized (lenses) {
+            final Lens lens = lenses.get(size);
+            if (lens != null) {
+                return lens;
+            }
+        }
+        // Generated outside of the lock, as generating a container lens may look up the lenses of other inventories.
+        // Should two threads race here, the first lens registered wins so every inventory of a shape shares one lens.
+        final Lens lens = LensRegistrar.generateLens(inventory, size, slotLensProvider);
+        synchronized (lenses) {
+            final Lens existing = lenses.putIfAbsent(size, lens);
+            return existing == null ? lens : existing;
+        }
     }
 
     private static Int2ObjectMap<Lens> getLenses(Class<?> inventory) {
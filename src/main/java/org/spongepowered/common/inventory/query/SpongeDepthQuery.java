@@ -24,14 +24,19 @@
  */
 package org.spongepowered.common.inventory.query;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.item.inventory.Inventory;
+import org.spongepowered.api.item.inventory.query.Query;
+import org.spongepowered.common.inventory.EmptyInventoryImpl;
 import org.spongepowered.common.inventory.adapter.InventoryAdapter;
 import org.spongepowered.common.inventory.fabric.Fabric;
 import org.spongepowered.common.inventory.lens.Lens;
+import org.spongepowered.common.inventory.lens.impl.AbstractLens;
 import org.spongepowered.common.inventory.lens.impl.DelegatingLens;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Checks immediate child for matches first.
@@ -39,17 +44,51 @@
  */
 public abstract class SpongeDepthQuery extends SpongeQuery {
 
+    // Bounds the compiled queries kept per root lens, in case a plugin builds many distinct queries
+    private static final int MAX_COMPILED_QUERIES = 64;
+
     public abstract boolean matches(Lens lens, Lens parent, Inventory inventory);
 
+    /**
+     * Gets whether this query only matches on the structure of the lenses,
+     * so the same root lens always gives the same result. The result of a
+     * structural query is compiled once per root lens and reused, which
+     * requires the query to implement equals and hashCode.
+     *
+     * @return Whether this query is structural
+     */
+    public boolean isStructural() {
+        return false;
+    }
+
     public Inventory execute(Inventory inventory, InventoryAdapter adapter) {
         final Fabric fabric = adapter.inventoryAdapter$getFabric();
         final Lens lens = adapter.inventoryAdapter$getRootLens();
 
+        if (!this.isStructural() || !(lens instanceof AbstractLens)) {
+            return this.toResult(inventory, fabric, this.compile(inventory, fabric, lens));
+        }
+
+        final Map<Query, Optional<Lens>> compiledQueries = ((AbstractLens) lens).compiledQueries();
+        Optional<Lens> result = compiledQueries.get(this);
+        if (result == null) {
+            result = Optional.ofNullable(this.compile(inventory, fabric, lens));
+            if (compiledQueries.size() < SpongeDepthQuery.MAX_COMPILED_QUERIES) {
+                compiledQueries.putIfAbsent(this, result);
+            }
+        }
+        if (!result.isPresent()) {
+            return new EmptyInventoryImpl(inventory);
+        }
+        return result.get().getAdapter(fabric, inventory);
+    }
+
+    private @Nullable Lens compile(Inventory inventory, Fabric fabric, Lens lens) {
         if (this.matches(lens, null, inventory)) {
-            return lens.getAdapter(fabric, inventory);
+            return lens;
         }
 
-        return this.toResult(inventory, fabric, this.reduce(fabric, lens, this.depthFirstSearch(inventory, lens)));
+        return this.toResultLens(this.reduce(fabric, lens, this.depthFirstSearch(inventory, lens)));
     }
 
     private Map<Lens, Integer> depthFirstSearch(Inventory inventory, Lens lens) {
@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.inventory.query;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.data.Key;
 import org.spongepowered.api.item.inventory.Inventory;
 import org.spongepowered.api.item.inventory.query.Query;
@@ -106,21 +107,34 @@ protected Map<Lens, Integer> reduce(Fabric fabric, Lens lens, Map<Lens, Integer>
     }
 
     protected Inventory toResult(Inventory inventory, Fabric fabric, Map<Lens, Integer> matches) {
-        if (matches.isEmpty()) {
+        final Lens lens = this.toResultLens(matches);
+        if (lens == null) {
             return new EmptyInventoryImpl(inventory);
         }
+        return lens.getAdapter(fabric, inventory);
+    }
+
+    /**
+     * Builds the lens viewing the given matches, which only depends on the
+     * matched lenses and not on the inventory they are matched in.
+     *
+     * @param matches The matched lenses and their offsets
+     * @return The lens, or null if nothing matched
+     */
+    protected @Nullable Lens toResultLens(Map<Lens, Integer> matches) {
+        if (matches.isEmpty()) {
+            return null;
+        }
         if (matches.size() == 1) {
             final Map.Entry<Lens, Integer> entry = matches.entrySet().iterator().next();
             if (entry.getValue() == 0) {
-                return entry.getKey().getAdapter(fabric, inventory);
+                return entry.getKey();
             }
             final LensRegistrar.BasicSlotLensProvider slotProvider = new LensRegistrar.BasicSlotLensProvider(entry.getKey().slotCount());
             // TODO check correct slotprovider
-            final DelegatingLens delegate = new DelegatingLens(entry.getValue(), entry.getKey(), slotProvider);
-            return delegate.getAdapter(fabric, inventory);
+            return new DelegatingLens(entry.getValue(), entry.getKey(), slotProvider);
         }
 
-        final QueryLens lens = new QueryLens(matches, this);
-        return lens.getAdapter(fabric, inventory);
+        return new QueryLens(matches, this);
     }
 }
@@ -197,7 +197,7 @@ public DataContainer toContainer() {
 //     TODO       container.set(Constants.Sponge.DATA_MANIPULATORS, DataUtil.getSerializedImmutableManipulatorList(this.manipulators));
         }
         if (this.compound != null) {
-            container.set(Constants.Sponge.UNSAFE_NBT, NBTTranslator.INSTANCE.translateFrom(this.compound));
+            container.set(Constants.Sponge.UNSAFE_NBT, NBTTranslator.INSTANCE.translateLazily(this.compound));
         }
         return container;
     }
@@ -27,8 +27,10 @@
 import com.google.common.collect.BiMap;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.saveddata.maps.MapIndex;
+import net.minecraft.world.level.saveddata.maps.MapItemSavedData;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.Sponge;
+import org.spongepowered.api.map.MapCanvas;
 import org.spongepowered.api.map.MapInfo;
 import org.spongepowered.api.map.MapStorage;
 import org.spongepowered.api.world.DefaultWorldKeys;
@@ -37,6 +39,7 @@
 import org.spongepowered.common.bridge.world.level.storage.PrimaryLevelDataBridge;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.map.canvas.SpongeMapCanvas;
 import org.spongepowered.common.util.Constants;
 
 import java.util.Collection;
@@ -115,6 +118,27 @@ public UUID requestUUID(final int id) {
         return uuid;
     }
 
+    /**
+     * Applies many canvases at once, such as when redrawing a wall of
+     * animated maps in a single tick. Each map only has the region that
+     * changed marked dirty, and is sent to its viewers with the next map
+     * update.
+     *
+     * <p>This must be called on the main thread.</p>
+     *
+     * @param canvases The canvas to apply to each map
+     * @return The number of maps that changed
+     */
+    public int applyCanvases(final Map<MapInfo, MapCanvas> canvases) {
+        int changed = 0;
+        for (final Map.Entry<MapInfo, MapCanvas> entry : canvases.entrySet()) {
+            if (((SpongeMapCanvas) entry.getValue()).applyToMapData((MapItemSavedData) entry.getKey())) {
+                changed++;
+            }
+        }
+        return changed;
+    }
+
     public void addMapInfo(final MapInfo mapInfo) {
         this.loadedMapUUIDs.put(mapInfo.uniqueId(), mapInfo);
     }
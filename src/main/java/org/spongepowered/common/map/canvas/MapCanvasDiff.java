@@ -0,0 +1,101 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.map.canvas;
+
+import net.minecraft.world.level.saveddata.maps.MapItemSavedData;
+import org.spongepowered.common.bridge.world.storage.MapItemSavedDataBridge;
+import org.spongepowered.common.util.Constants;
+
+/**
+ * Applies canvases to map data by only copying, and marking as dirty, the
+ * region that actually changed.
+ *
+ * <p>Vanilla tracks a single dirty rectangle per map holder, and sends only
+ * that rectangle on its next update. Marking the bounding box of the changed
+ * pixels, rather than the whole map, keeps animated maps to the area that
+ * was redrawn, and unchanged canvases cost no update at all.</p>
+ */
+public final class MapCanvasDiff {
+
+    private static final int PIXELS = Constants.Map.MAP_PIXELS;
+
+    /**
+     * Copies the given canvas into the map data, marking the bounding box of
+     * the changed pixels as dirty.
+     *
+     * @param canvas The new canvas
+     * @param mapData The map data to update
+     * @return False if the canvas was identical to the map data
+     */
+    public static boolean apply(final byte[] canvas, final MapItemSavedData mapData) {
+        final byte[] colors = mapData.colors;
+
+        int minY = -1;
+        int maxY = -1;
+        int minX = MapCanvasDiff.PIXELS;
+        int maxX = -1;
+        for (int y = 0; y < MapCanvasDiff.PIXELS; y++) {
+            final int row = y * MapCanvasDiff.PIXELS;
+            int first = -1;
+            for (int x = 0; x < MapCanvasDiff.PIXELS; x++) {
+                if (canvas[row + x] != colors[row + x]) {
+                    first = x;
+                    break;
+                }
+            }
+            if (first == -1) {
+                continue;
+            }
+            int last = first;
+            for (int x = MapCanvasDiff.PIXELS - 1; x > first; x--) {
+                if (canvas[row + x] != colors[row + x]) {
+                    last = x;
+                    break;
+                }
+            }
+            if (minY == -1) {
+                minY = y;
+            }
+            maxY = y;
+            minX = Math.min(minX, first);
+            maxX = Math.max(maxX, last);
+        }
+
+        if (minY == -1) {
+            return false;
+        }
+
+        final int width = maxX - minX + 1;
+        for (int y = minY; y <= maxY; y++) {
+            final int start = y * MapCanvasDiff.PIXELS + minX;
+            System.arraycopy(canvas, start, colors, start, width);
+        }
+        ((MapItemSavedDataBridge) mapData).bridge$markDirty(minX, minY, maxX, maxY);
+        return true;
+    }
+
+    private MapCanvasDiff() {
+    }
+}
@@ -35,7 +35,6 @@
 import java.awt.Graphics;
 import java.awt.Image;
 import java.awt.image.BufferedImage;
-import java.util.Arrays;
 import java.util.Collections;
 
 // This class basically means that we don't have to create tons of huge byte arrays
@@ -45,6 +44,8 @@ public final class SpongeEmptyCanvas implements SpongeMapCanvas {
     // Only allow construction from within this class
     private SpongeEmptyCanvas() {}
     public static final SpongeEmptyCanvas INSTANCE = new SpongeEmptyCanvas();
+    // Compared against when applied, so only the painted part of a map is cleared
+    private static final byte[] BLANK = new byte[Constants.Map.MAP_SIZE];
 
     @Override
     public MapColor color(final int x, final int y) {
@@ -82,7 +83,7 @@ public DataContainer toContainer() {
     }
 
     @Override
-    public void applyToMapData(final MapItemSavedData mapData) {
-        Arrays.fill(mapData.colors, (byte) 0);
+    public boolean applyToMapData(final MapItemSavedData mapData) {
+        return MapCanvasDiff.apply(SpongeEmptyCanvas.BLANK, mapData);
     }
 }
@@ -46,9 +46,9 @@ public SpongeMapByteCanvas(final byte[] canvas) {
         this.canvas = canvas;
     }
 
-    public void applyToMapData(final MapItemSavedData mapData) {
-        mapData.colors = this.canvas.clone();
-        mapData.setDirty();
+    @Override
+    public boolean applyToMapData(final MapItemSavedData mapData) {
+        return MapCanvasDiff.apply(this.canvas, mapData);
     }
 
     @Override
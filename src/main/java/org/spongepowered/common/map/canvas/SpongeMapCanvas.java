@@ -30,5 +30,12 @@
 // This interface means that both canvases backed by a byte array
 // and the empty version can be applied
 public interface SpongeMapCanvas extends MapCanvas {
-    void applyToMapData(final MapItemSavedData mapData);
+    /**
+     * Applies this canvas to the given map data, marking only the changed
+     * region as dirty.
+     *
+     * @param mapData The map data to update
+     * @return False if the map data already showed this canvas
+     */
+    boolean applyToMapData(final MapItemSavedData mapData);
 }
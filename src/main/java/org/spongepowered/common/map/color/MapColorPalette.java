@@ -0,0 +1,222 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.map.color;
+
+import it.unimi.dsi.fastutil.bytes.ByteArrayList;
+import it.unimi.dsi.fastutil.ints.Int2ByteOpenHashMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.map.color.MapColorType;
+import org.spongepowered.api.map.color.MapShade;
+import org.spongepowered.api.registry.Registry;
+import org.spongepowered.api.registry.RegistryTypes;
+
+import java.util.Arrays;
+
+/**
+ * A precomputed mapping from RGB values to map colors.
+ *
+ * <p>Colors that exactly match a map color are resolved through a lookup by
+ * value, anything else goes through a table holding the nearest map color
+ * of every RGB value quantized to {@value #BITS} bits per channel. Distances
+ * are measured with the "redmean" approximation of perceived color
+ * difference.</p>
+ *
+ * <p>The palette is built once per load of the map color registries.</p>
+ */
+public final class MapColorPalette {
+
+    private static final int BITS = 6;
+    private static final int SHIFT = 8 - MapColorPalette.BITS;
+    private static final int LEVELS = 1 << MapColorPalette.BITS;
+    // Only the transparent map color has an index of 0, so it can never be a match
+    private static final byte NO_MATCH = 0;
+
+    private static volatile @Nullable MapColorPalette instance;
+
+    private final Registry<MapColorType> colorTypes;
+    private final Registry<MapShade> shades;
+    private final int[] rgb = new int[256];
+    private final Int2ByteOpenHashMap exact = new Int2ByteOpenHashMap();
+    private final byte[] nearest = new byte[MapColorPalette.LEVELS * MapColorPalette.LEVELS * MapColorPalette.LEVELS];
+
+    /**
+     * Gets the palette for the currently loaded map color registries.
+     *
+     * @return The palette
+     */
+    public static MapColorPalette get() {
+        final Registry<MapColorType> colorTypes = Sponge.game().registry(RegistryTypes.MAP_COLOR_TYPE);
+        final Registry<MapShade> shades = Sponge.game().registry(RegistryTypes.MAP_SHADE);
+        @Nullable MapColorPalette palette = MapColorPalette.instance;
+        if (palette == null || palette.colorTypes != colorTypes || palette.shades != shades) {
+            palette = new MapColorPalette(colorTypes, shades);
+            MapColorPalette.instance = palette;
+        }
+        return palette;
+    }
+
+    MapColorPalette(final Registry<MapColorType> colorTypes, final Registry<MapShade> shades) {
+        this.colorTypes = colorTypes;
+        this.shades = shades;
+        this.exact.defaultReturnValue(MapColorPalette.NO_MATCH);
+
+        final ByteArrayList colors = new ByteArrayList();
+        colorTypes.stream().forEach(type -> {
+            if (((SpongeMapColorType) type).getColorIndex() == 0) {
+                // Transparent, so never a match for an image
+                return;
+            }
+            shades.stream().forEach(shade -> {
+                final SpongeMapColor color = new SpongeMapColor(type, shade);
+                final int rgb = color.color().rgb() & 0xFFFFFF;
+                this.rgb[color.getMCColor() & 0xFF] = rgb;
+                this.exact.put(rgb, color.getMCColor());
+                colors.add(color.getMCColor());
+            });
+        });
+        final byte[] palette = colors.toByteArray();
+
+        final int half = 1 << (MapColorPalette.SHIFT - 1);
+        for (int r = 0; r < MapColorPalette.LEVELS; r++) {
+            for (int g = 0; g < MapColorPalette.LEVELS; g++) {
+                for (int b = 0; b < MapColorPalette.LEVELS; b++) {
+                    this.nearest[(r << (MapColorPalette.BITS * 2)) | (g << MapColorPalette.BITS) | b] = this.search(palette,
+                            (r << MapColorPalette.SHIFT) | half, (g << MapColorPalette.SHIFT) | half, (b << MapColorPalette.SHIFT) | half);
+                }
+            }
+        }
+    }
+
+    private byte search(final byte[] palette, final int red, final int green, final int blue) {
+        byte best = MapColorPalette.NO_MATCH;
+        int bestDistance = Integer.MAX_VALUE;
+        for (final byte color : palette) {
+            final int distance = MapColorPalette.distance(this.rgb[color & 0xFF], red, green, blue);
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best = color;
+            }
+        }
+        return best;
+    }
+
+    private static int distance(final int rgb, final int red, final int green, final int blue) {
+        final int meanRed = (((rgb >> 16) & 0xFF) + red) >> 1;
+        final int deltaRed = ((rgb >> 16) & 0xFF) - red;
+        final int deltaGreen = ((rgb >> 8) & 0xFF) - green;
+        final int deltaBlue = (rgb & 0xFF) - blue;
+        return (((512 + meanRed) * deltaRed * deltaRed) >> 8) + 4 * deltaGreen * deltaGreen
+                + (((767 - meanRed) * deltaBlue * deltaBlue) >> 8);
+    }
+
+    /**
+     * Gets the RGB value of the given map color.
+     *
+     * @param color The map color byte
+     * @return The RGB value
+     */
+    public int rgb(final byte color) {
+        return this.rgb[color & 0xFF];
+    }
+
+    /**
+     * Gets the map color nearest to the given RGB value.
+     *
+     * @param rgb The RGB value
+     * @return The map color byte
+     */
+    public byte nearest(final int rgb) {
+        final byte exact = this.exact.get(rgb & 0xFFFFFF);
+        if (exact != MapColorPalette.NO_MATCH) {
+            return exact;
+        }
+        return this.nearest(rgb >> 16 & 0xFF, rgb >> 8 & 0xFF, rgb & 0xFF);
+    }
+
+    private byte nearest(final int red, final int green, final int blue) {
+        return this.nearest[((red >> MapColorPalette.SHIFT) << (MapColorPalette.BITS * 2))
+                | ((green >> MapColorPalette.SHIFT) << MapColorPalette.BITS)
+                | (blue >> MapColorPalette.SHIFT)];
+    }
+
+    /**
+     * Converts RGB pixels into map colors.
+     *
+     * <p>When dithering, the difference between each pixel and its map color
+     * is spread over the neighbouring pixels using Floyd-Steinberg error
+     * diffusion, which gives smooth gradients a much closer appearance.</p>
+     *
+     * @param pixels The RGB pixels, row by row
+     * @param width The width of a row
+     * @param canvas The array to write the map colors to
+     * @param dither Whether to dither the image
+     */
+    public void convert(final int[] pixels, final int width, final byte[] canvas, final boolean dither) {
+        if (!dither) {
+            for (int i = 0; i < pixels.length; i++) {
+                canvas[i] = this.nearest(pixels[i]);
+            }
+            return;
+        }
+
+        // Errors are kept in sixteenths, for the current and the next row, with
+        // a padding column on each side.
+        int[] current = new int[(width + 2) * 3];
+        int[] next = new int[(width + 2) * 3];
+        for (int row = 0; row * width < pixels.length; row++) {
+            for (int x = 0; x < width; x++) {
+                final int i = row * width + x;
+                final int error = (x + 1) * 3;
+                final int red = MapColorPalette.clamp(((pixels[i] >> 16) & 0xFF) + current[error] / 16);
+                final int green = MapColorPalette.clamp(((pixels[i] >> 8) & 0xFF) + current[error + 1] / 16);
+                final int blue = MapColorPalette.clamp((pixels[i] & 0xFF) + current[error + 2] / 16);
+
+                final byte color = this.nearest((red << 16) | (green << 8) | blue);
+                canvas[i] = color;
+
+                final int rgb = this.rgb[color & 0xFF];
+                MapColorPalette.diffuse(current, next, error, red - ((rgb >> 16) & 0xFF));
+                MapColorPalette.diffuse(current, next, error + 1, green - ((rgb >> 8) & 0xFF));
+                MapColorPalette.diffuse(current, next, error + 2, blue - (rgb & 0xFF));
+            }
+            final int[] swap = current;
+            current = next;
+            next = swap;
+            Arrays.fill(next, 0);
+        }
+    }
+
+    private static void diffuse(final int[] current, final int[] next, final int index, final int error) {
+        current[index + 3] += error * 7;
+        next[index - 3] += error * 3;
+        next[index] += error * 5;
+        next[index + 3] += error;
+    }
+
+    private static int clamp(final int value) {
+        return value < 0 ? 0 : Math.min(value, 255);
+    }
+}
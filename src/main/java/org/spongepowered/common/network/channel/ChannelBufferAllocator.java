@@ -25,10 +25,16 @@
 package org.spongepowered.common.network.channel;
 
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufAllocatorMetric;
+import io.netty.buffer.ByteBufAllocatorMetricProvider;
 import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.buffer.UnpooledHeapByteBuf;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.network.channel.ChannelBuf;
 
+import java.util.concurrent.atomic.LongAdder;
+
 public final class ChannelBufferAllocator {
 
     public static final ChannelBufferAllocator UNPOOLED = new ChannelBufferAllocator(UnpooledByteBufAllocator.DEFAULT);
@@ -36,32 +42,106 @@ public final class ChannelBufferAllocator {
     public static final ChannelBufferAllocator POOLED = new ChannelBufferAllocator(PooledByteBufAllocator.DEFAULT);
 
     private final ByteBufAllocator allocator;
+    private final LongAdder allocations = new LongAdder();
+    private final LongAdder sharedAllocations = new LongAdder();
 
     public ChannelBufferAllocator(final ByteBufAllocator allocator) {
         this.allocator = allocator;
     }
 
+    /**
+     * Gets a heap buffer to encode a payload into once, which is then sent to
+     * many connections through slices.
+     *
+     * <p>The vanilla packets holding the slices read them after they were
+     * sent, either to copy them while encoding or, for in-memory connections,
+     * on the receiving side. So the buffer is neither pooled nor counted by
+     * an allocator, and is left to the garbage collector instead of being
+     * released.</p>
+     *
+     * @return The shared buffer
+     * @see ChannelBuffers#slice(ChannelBuf)
+     */
+    public ChannelBuf sharedBuffer() {
+        this.sharedAllocations.increment();
+        return ChannelBuffers.wrap(new UnpooledHeapByteBuf(UnpooledByteBufAllocator.DEFAULT, 256, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Gets the number of buffers allocated through this allocator, not
+     * counting shared buffers.
+     *
+     * @return The number of allocated buffers
+     */
+    public long allocations() {
+        return this.allocations.sum();
+    }
+
+    /**
+     * Gets the number of shared buffers allocated through this allocator.
+     *
+     * @return The number of allocated shared buffers
+     */
+    public long sharedAllocations() {
+        return this.sharedAllocations.sum();
+    }
+
+    /**
+     * Gets the heap memory used by the underlying allocator, or -1 if the
+     * allocator doesn't track it.
+     *
+     * @return The used heap memory, in bytes
+     */
+    public long usedHeapMemory() {
+        final ByteBufAllocatorMetric metric = this.metric();
+        return metric == null ? -1 : metric.usedHeapMemory();
+    }
+
+    /**
+     * Gets the direct memory used by the underlying allocator, or -1 if the
+     * allocator doesn't track it.
+     *
+     * @return The used direct memory, in bytes
+     */
+    public long usedDirectMemory() {
+        final ByteBufAllocatorMetric metric = this.metric();
+        return metric == null ? -1 : metric.usedDirectMemory();
+    }
+
+    private @Nullable ByteBufAllocatorMetric metric() {
+        if (this.allocator instanceof ByteBufAllocatorMetricProvider) {
+            return ((ByteBufAllocatorMetricProvider) this.allocator).metric();
+        }
+        return null;
+    }
+
     public ChannelBuf buffer() {
+        this.allocations.increment();
         return ChannelBuffers.wrap(this.allocator.buffer());
     }
 
     public ChannelBuf buffer(final int initialCapacity) {
+        this.allocations.increment();
         return ChannelBuffers.wrap(this.allocator.buffer(initialCapacity));
     }
 
     public ChannelBuf heapBuffer() {
+        this.allocations.increment();
         return ChannelBuffers.wrap(this.allocator.heapBuffer());
     }
 
     public ChannelBuf heapBuffer(final int initialCapacity) {
+        this.allocations.increment();
         return ChannelBuffers.wrap(this.allocator.heapBuffer(initialCapacity));
     }
 
     public ChannelBuf directBuffer() {
+        this.allocations.increment();
         return ChannelBuffers.wrap(this.allocator.directBuffer());
     }
 
     public ChannelBuf directBuffer(final int initialCapacity) {
+        this.allocations.increment();
         return ChannelBuffers.wrap(this.allocator.directBuffer(initialCapacity));
     }
 }
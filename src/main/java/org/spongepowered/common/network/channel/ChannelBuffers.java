@@ -39,6 +39,17 @@ public static ChannelBuf wrap(final byte[] bytes) {
         return (ChannelBuf) new FriendlyByteBuf(Unpooled.wrappedBuffer(bytes));
     }
 
+    /**
+     * Creates a slice of the readable bytes of the given buffer, sharing its
+     * content but with its own reader and writer index.
+     *
+     * @param buf The buffer
+     * @return The slice
+     */
+    public static ChannelBuf slice(final ChannelBuf buf) {
+        return ChannelBuffers.wrap(((ByteBuf) buf).slice());
+    }
+
     public static boolean release(final ChannelBuf buf) {
         return ((ByteBuf) buf).release();
     }
@@ -26,6 +26,7 @@
 
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.Multimap;
+import net.minecraft.network.protocol.Packet;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -107,6 +108,40 @@ public boolean checkSupported(final EngineConnection connection, final Completab
         return true;
     }
 
+    /**
+     * Sends an encoded play payload to all the given connections. The
+     * payload is not encoded again per connection, every connection sends a
+     * slice of it. The payload must be a {@link ChannelBufferAllocator#sharedBuffer()
+     * shared buffer}, which is never released by hand since the packets may
+     * still read it after they were sent. If the payload can't be sent to a
+     * connection, only the future of that connection fails.
+     *
+     * @param connections The connections, which must be in the play phase
+     * @param payload The encoded payload
+     * @return A future completed when the payload was sent to all connections
+     */
+    protected CompletableFuture<Void> broadcastPlayPayload(final Collection<? extends EngineConnection> connections, final ChannelBuf payload) {
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[connections.size()];
+        int index = 0;
+        for (final EngineConnection connection : connections) {
+            final CompletableFuture<Void> future = new CompletableFuture<>();
+            futures[index++] = future;
+            try {
+                final Packet<?> mcPacket = PacketUtil.createPlayPayload(this.key, ChannelBuffers.slice(payload), connection.side());
+                PacketSender.sendTo(connection, mcPacket, sendFuture -> {
+                    if (sendFuture.isSuccess()) {
+                        future.complete(null);
+                    } else {
+                        future.completeExceptionally(sendFuture.cause());
+                    }
+                });
+            } catch (final Throwable ex) {
+                future.completeExceptionally(ex);
+            }
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
     /**
      * Handles a normal payload packet. Can be run on the client or server side.
      *
@@ -24,41 +24,37 @@
  */
 package org.spongepowered.common.network.channel;
 
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.RemovalCause;
-import com.github.benmanes.caffeine.cache.RemovalListener;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.network.EngineConnection;
-import org.spongepowered.api.network.channel.TimeoutException;
 
-import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ThreadLocalRandom;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 /**
  * A storage for transaction id mappings.
+ *
+ * <p>Transactions time out after 15 seconds through the
+ * {@link TransactionTimeoutWheel} shared by all stores.</p>
  */
 public final class TransactionStore {
 
     private final Supplier<EngineConnection> connection;
 
-    private final ConcurrentMap<Integer, Entry> lookup = Caffeine.newBuilder()
-            .expireAfterAccess(15, TimeUnit.SECONDS)
-            .removalListener((RemovalListener<Integer, Entry>) (key, value, cause) -> {
-                if (cause == RemovalCause.EXPIRED && value != null) {
-                    value.getChannel().handleTransactionResponse(
-                        this.getConnection(), value.getData(), TransactionResult.failure(new TimeoutException()));
-                }
-            })
-            .build().asMap();
+    // Guarded by itself
+    private final Int2ObjectMap<Entry> lookup = new Int2ObjectOpenHashMap<>();
 
     public static class Entry {
 
+        final TransactionStore store;
+        final int transactionId;
         private final SpongeChannel channel;
         private final Object data;
 
-        public Entry(final SpongeChannel channel, final Object data) {
+        Entry(final TransactionStore store, final int transactionId, final SpongeChannel channel, final Object data) {
+            this.store = store;
+            this.transactionId = transactionId;
             this.channel = channel;
             this.data = data;
         }
@@ -76,6 +72,26 @@ public TransactionStore(final Supplier<EngineConnection> connection) {
         this.connection = connection;
     }
 
+    /**
+     * Gets the number of transactions waiting for a response, across all
+     * connections.
+     *
+     * @return The outstanding transactions
+     */
+    public static long outstandingTransactions() {
+        return TransactionTimeoutWheel.INSTANCE.outstanding();
+    }
+
+    /**
+     * Gets the number of transactions that timed out, across all
+     * connections.
+     *
+     * @return The timed out transactions
+     */
+    public static long timedOutTransactions() {
+        return TransactionTimeoutWheel.INSTANCE.timedOut();
+    }
+
     /**
      * Gets the {@link EngineConnection} this transaction store belongs to.
      *
@@ -94,9 +110,11 @@ public int nextId() {
         // TODO: Hook into forge to avoid id overlap
         int id;
         final ThreadLocalRandom random = ThreadLocalRandom.current();
-        do {
-            id = random.nextInt();
-        } while (this.lookup.containsKey(id));
+        synchronized (this.lookup) {
+            do {
+                id = random.nextInt();
+            } while (this.lookup.containsKey(id));
+        }
         return id;
     }
 
@@ -109,7 +127,15 @@ public int nextId() {
      * @param stored The stored data
      */
     public void put(final int transactionId, final SpongeChannel channel, final Object stored) {
-        this.lookup.put(transactionId, new Entry(channel, stored));
+        final Entry entry = new Entry(this, transactionId, channel, stored);
+        final Entry previous;
+        synchronized (this.lookup) {
+            previous = this.lookup.put(transactionId, entry);
+        }
+        if (previous != null) {
+            TransactionTimeoutWheel.INSTANCE.completed();
+        }
+        TransactionTimeoutWheel.INSTANCE.schedule(entry);
     }
 
     /**
@@ -120,7 +146,41 @@ public void put(final int transactionId, final SpongeChannel channel, final Obje
      * @return The stored value
      */
     public @Nullable Entry remove(final int transactionId) {
-        return this.lookup.remove(transactionId);
+        final Entry entry;
+        synchronized (this.lookup) {
+            entry = this.lookup.remove(transactionId);
+        }
+        if (entry != null) {
+            TransactionTimeoutWheel.INSTANCE.completed();
+        }
+        return entry;
+    }
+
+    /**
+     * Removes the given entry if it is still waiting for a response.
+     *
+     * @param entry The timed out entry
+     * @return Whether the entry was still waiting
+     */
+    boolean removeExpired(final Entry entry) {
+        synchronized (this.lookup) {
+            if (this.lookup.get(entry.transactionId) != entry) {
+                return false;
+            }
+            this.lookup.remove(entry.transactionId);
+            return true;
+        }
+    }
+
+    /**
+     * Gets the number of transactions of this store waiting for a response.
+     *
+     * @return The outstanding transactions
+     */
+    public int outstanding() {
+        synchronized (this.lookup) {
+            return this.lookup.size();
+        }
     }
 
     /**
@@ -129,6 +189,8 @@ public void put(final int transactionId, final SpongeChannel channel, final Obje
      * @return Is empty
      */
     public boolean isEmpty() {
-        return this.lookup.isEmpty();
+        synchronized (this.lookup) {
+            return this.lookup.isEmpty();
+        }
     }
 }
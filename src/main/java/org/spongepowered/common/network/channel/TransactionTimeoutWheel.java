@@ -0,0 +1,123 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network.channel;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.spongepowered.api.network.channel.TimeoutException;
+import org.spongepowered.common.SpongeCommon;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A hashed timer wheel which times out the transactions of all
+ * {@link TransactionStore}s, so a connection doesn't need its own
+ * expiring cache and maintenance.
+ *
+ * <p>The wheel advances one slot per second and has one slot more than the
+ * timeout, so each slot only ever holds transactions that expire at the same
+ * tick. Transactions that complete are not removed from their slot, they are
+ * skipped once their slot comes around.</p>
+ */
+final class TransactionTimeoutWheel {
+
+    // The number of seconds before a transaction times out
+    private static final int TIMEOUT = 15;
+
+    static final TransactionTimeoutWheel INSTANCE = new TransactionTimeoutWheel();
+
+    private final Queue<TransactionStore.Entry>[] slots;
+    private final LongAdder outstanding = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    // Only advanced by the wheel thread
+    private volatile long tick;
+
+    @SuppressWarnings("unchecked")
+    private TransactionTimeoutWheel() {
+        this.slots = new Queue[TransactionTimeoutWheel.TIMEOUT + 1];
+        for (int i = 0; i < this.slots.length; i++) {
+            this.slots[i] = new ConcurrentLinkedQueue<>();
+        }
+        final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("Sponge-Transaction-Timeouts")
+                .build());
+        executor.scheduleAtFixedRate(this::advance, 1, 1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Gets the number of transactions waiting for a response, across all
+     * connections.
+     *
+     * @return The outstanding transactions
+     */
+    long outstanding() {
+        return this.outstanding.sum();
+    }
+
+    /**
+     * Gets the number of transactions that timed out since the server
+     * started, across all connections.
+     *
+     * @return The timed out transactions
+     */
+    long timedOut() {
+        return this.timedOut.sum();
+    }
+
+    void schedule(final TransactionStore.Entry entry) {
+        this.outstanding.increment();
+        this.slots[(int) ((this.tick + TransactionTimeoutWheel.TIMEOUT) % this.slots.length)].add(entry);
+    }
+
+    void completed() {
+        this.outstanding.decrement();
+    }
+
+    private void advance() {
+        final long tick = this.tick + 1;
+        this.tick = tick;
+        final Queue<TransactionStore.Entry> slot = this.slots[(int) (tick % this.slots.length)];
+        TransactionStore.Entry entry;
+        while ((entry = slot.poll()) != null) {
+            if (!entry.store.removeExpired(entry)) {
+                continue;
+            }
+            this.outstanding.decrement();
+            this.timedOut.increment();
+            try {
+                entry.getChannel().handleTransactionResponse(
+                        entry.store.getConnection(), entry.getData(), TransactionResult.failure(new TimeoutException()));
+            } catch (final Throwable t) {
+                // Keep the wheel running, a failing channel handler shouldn't stop timeouts for everyone
+                SpongeCommon.logger().error("Failed to time out a transaction on channel {}", entry.getChannel().key(), t);
+            }
+        }
+    }
+}
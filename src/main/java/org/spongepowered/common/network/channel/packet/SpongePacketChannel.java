@@ -44,6 +44,9 @@
 import org.spongepowered.common.network.channel.TransactionStore;
 import org.spongepowered.common.util.Constants;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
@@ -270,6 +273,55 @@ public CompletableFuture<Void> sendTo(final EngineConnection connection, final P
         return future;
     }
 
+    /**
+     * Sends the packet to all the given connections. The packet is only
+     * encoded once for the connections in the play phase, which share the
+     * encoded payload.
+     *
+     * @param connections The connections
+     * @param packet The packet, which can't be a request packet
+     * @return A future completed when the packet was sent to all connections
+     */
+    public CompletableFuture<Void> sendTo(final Collection<? extends EngineConnection> connections, final Packet packet) {
+        Objects.requireNonNull(connections, "connections");
+        Objects.requireNonNull(packet, "packet");
+        if (packet instanceof RequestPacket) {
+            throw new IllegalArgumentException("A request packet can only be sent to a single connection");
+        }
+        final SpongePacketBinding<Packet> binding = (SpongePacketBinding) this.requireBinding(packet.getClass());
+
+        final List<CompletableFuture<?>> futures = new ArrayList<>();
+        final List<EngineConnection> playConnections = new ArrayList<>(connections.size());
+        for (final EngineConnection connection : connections) {
+            if (ConnectionUtil.isLoginPhase(connection)) {
+                // Login payloads carry a per connection transaction id
+                futures.add(this.sendTo(connection, packet));
+                continue;
+            }
+            final CompletableFuture<Void> future = new CompletableFuture<>();
+            if (this.checkSupported(connection, future)) {
+                playConnections.add(connection);
+            } else {
+                futures.add(future);
+            }
+        }
+
+        if (!playConnections.isEmpty()) {
+            final ChannelBuf payload = this.manager().getBufferAllocator().sharedBuffer();
+            payload.writeVarLong(SpongePacketChannel.packTypeAndValue(SpongePacketChannel.TYPE_NORMAL, binding.opcode()));
+            try {
+                this.encodePayload(payload, packet);
+            } catch (final Throwable ex) {
+                final CompletableFuture<Void> future = new CompletableFuture<>();
+                future.completeExceptionally(ex);
+                futures.add(future);
+                return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+            }
+            futures.add(this.broadcastPlayPayload(playConnections, payload));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+    }
+
     private void handleResponsePacket(final EngineConnection connection, final int transactionId, final @Nullable ChannelBuf payload,
             final int dynamicOpcode) {
         final TransactionStore store = ConnectionUtil.getTransactionStore(connection);
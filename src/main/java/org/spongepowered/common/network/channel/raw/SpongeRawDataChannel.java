@@ -34,6 +34,8 @@
 import org.spongepowered.common.network.channel.SpongeChannelManager;
 import org.spongepowered.common.network.channel.TransactionResult;
 
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 public class SpongeRawDataChannel extends SpongeChannel implements RawDataChannel {
@@ -75,4 +77,14 @@ ChannelBuf encodePayload(final Consumer<ChannelBuf> payload) {
         payload.accept(buf);
         return buf;
     }
+
+    ChannelBuf encodeSharedPayload(final Consumer<ChannelBuf> payload) {
+        final ChannelBuf buf = this.manager().getBufferAllocator().sharedBuffer();
+        payload.accept(buf);
+        return buf;
+    }
+
+    CompletableFuture<Void> sendSharedPayload(final Collection<? extends EngineConnection> connections, final ChannelBuf payload) {
+        return this.broadcastPlayPayload(connections, payload);
+    }
 }
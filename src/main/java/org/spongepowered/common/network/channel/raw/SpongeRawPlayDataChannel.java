@@ -121,6 +121,39 @@ public CompletableFuture<Void> sendTo(final EngineConnection connection, final C
         return future;
     }
 
+    /**
+     * Sends the payload to all the given connections. The payload is only
+     * encoded once and shared by all the connections.
+     *
+     * @param connections The connections
+     * @param consumer The payload
+     * @return A future completed when the payload was sent to all connections
+     */
+    public CompletableFuture<Void> sendTo(final Collection<? extends EngineConnection> connections, final Consumer<ChannelBuf> consumer) {
+        Objects.requireNonNull(connections, "connections");
+        Objects.requireNonNull(consumer, "payload");
+
+        for (final EngineConnection connection : connections) {
+            ConnectionUtil.checkPlayPhase(connection);
+        }
+        if (connections.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        final ChannelBuf payload;
+        try {
+            payload = this.parent.encodeSharedPayload(consumer);
+        } catch (final Throwable ex) {
+            final CompletableFuture<Void> future = new CompletableFuture<>();
+            for (final EngineConnection connection : connections) {
+                this.parent.handleException(connection, ex, future);
+            }
+            return future;
+        }
+
+        return this.parent.sendSharedPayload(connections, payload);
+    }
+
     private <C extends EngineConnection> Collection<RawPlayDataHandler<? super C>> getHandlers(final C connection) {
         return (Collection) SpongeChannel.getResponseHandlers(connection, this.handlers.get());
     }
@@ -0,0 +1,256 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.common.AsyncSchedulerCategory;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the tasks of the {@link AsyncScheduler} on the executor selected in
+ * the {@link AsyncSchedulerCategory}, optionally limiting how many tasks a
+ * single plugin may execute at the same time, and keeps track of how many
+ * tasks are queued and executing.
+ */
+final class AsyncTaskExecutor {
+
+    private static final String THREAD_NAME_PREFIX = "Sponge-AsyncScheduler-";
+
+    private final ExecutorService executor;
+    private final int pluginConcurrencyLimit;
+    private final Map<PluginContainer, PluginExecutions> pluginExecutions = new ConcurrentHashMap<>();
+    // Tasks handed to the executor which have not started yet
+    private final AtomicInteger queued = new AtomicInteger();
+    // Tasks which are currently executing
+    private final AtomicInteger active = new AtomicInteger();
+
+    AsyncTaskExecutor(final AsyncSchedulerCategory config) {
+        this.executor = AsyncTaskExecutor.createExecutor(config);
+        this.pluginConcurrencyLimit = config.pluginConcurrencyLimit;
+    }
+
+    private static ExecutorService createExecutor(final AsyncSchedulerCategory config) {
+        switch (config.executor) {
+            case VIRTUAL:
+                final @Nullable ExecutorService virtual = AsyncTaskExecutor.createVirtualThreadExecutor();
+                if (virtual != null) {
+                    return virtual;
+                }
+                SpongeCommon.logger().warn("Virtual threads are not available on this Java version, using the BOUNDED async scheduler executor instead.");
+                return AsyncTaskExecutor.createBoundedExecutor(config.maximumThreads);
+            case BOUNDED:
+                return AsyncTaskExecutor.createBoundedExecutor(config.maximumThreads);
+            case CACHED:
+            default:
+                return Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                        .setNameFormat(AsyncTaskExecutor.THREAD_NAME_PREFIX + "%d")
+                        .build());
+        }
+    }
+
+    private static ExecutorService createBoundedExecutor(final int maximumThreads) {
+        final int threads = maximumThreads > 0 ? maximumThreads : Runtime.getRuntime().availableProcessors() * 4;
+        // Threads are created lazily by whichever thread submits a task, so the
+        // context class loader is captured here instead of being inherited
+        final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        final ThreadFactory threadFactory = new ThreadFactoryBuilder()
+                .setNameFormat(AsyncTaskExecutor.THREAD_NAME_PREFIX + "%d")
+                .setDaemon(true)
+                .setThreadFactory(runnable -> {
+                    final Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+                    thread.setContextClassLoader(contextClassLoader);
+                    return thread;
+                })
+                .build();
+        // Tasks may block, which a fixed set of plain threads copes with, unlike
+        // a work-stealing pool that expects its tasks to never block
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), threadFactory);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Creates an executor which starts a new virtual thread per task. Since
+     * Sponge targets Java versions without virtual threads, the API is
+     * looked up reflectively.
+     *
+     * @return The executor, or null if virtual threads are not available
+     */
+    private static @Nullable ExecutorService createVirtualThreadExecutor() {
+        try {
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, AsyncTaskExecutor.THREAD_NAME_PREFIX, 0L);
+            final ThreadFactory factory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, factory);
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            // Either not present, or a preview feature which is not enabled
+            return null;
+        }
+    }
+
+    ExecutorService executor() {
+        return this.executor;
+    }
+
+    void execute(final PluginContainer plugin, final Runnable runnable) {
+        final PluginExecutions executions = this.pluginExecutions.computeIfAbsent(plugin, key -> new PluginExecutions());
+        synchronized (executions) {
+            if (this.pluginConcurrencyLimit > 0 && executions.running >= this.pluginConcurrencyLimit) {
+                executions.pending.add(runnable);
+                return;
+            }
+            executions.running++;
+        }
+        this.dispatch(executions, runnable);
+    }
+
+    private void runLimited(final PluginExecutions executions, final Runnable runnable) {
+        try {
+            runnable.run();
+        } finally {
+            final @Nullable Runnable next;
+            synchronized (executions) {
+                next = executions.pending.poll();
+                if (next == null) {
+                    executions.running--;
+                }
+            }
+            if (next != null) {
+                // The slot of the completed task is handed over to the next one
+                try {
+                    this.dispatch(executions, next);
+                } catch (final RejectedExecutionException e) {
+                    SpongeCommon.logger().warn("The async scheduler rejected a held back task, it is most likely shutting down.", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Hands the task to the executor, the running slot of the plugin must
+     * already be taken for it and is released again if the executor rejects
+     * the task.
+     */
+    private void dispatch(final PluginExecutions executions, final Runnable runnable) {
+        this.queued.incrementAndGet();
+        try {
+            this.executor.execute(() -> {
+                this.queued.decrementAndGet();
+                this.active.incrementAndGet();
+                try {
+                    this.runLimited(executions, runnable);
+                } finally {
+                    this.active.decrementAndGet();
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            this.queued.decrementAndGet();
+            synchronized (executions) {
+                executions.running--;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the number of tasks waiting to be executed, either by the
+     * executor or because their plugin reached its concurrency limit.
+     *
+     * @return The number of queued tasks
+     */
+    int queuedTasks() {
+        int queued = this.queued.get();
+        for (final PluginExecutions executions : this.pluginExecutions.values()) {
+            synchronized (executions) {
+                queued += executions.pending.size();
+            }
+        }
+        return queued;
+    }
+
+    int activeTasks() {
+        return this.active.get();
+    }
+
+    /**
+     * Gets the number of tasks of the plugin which are held back because
+     * the plugin reached its concurrency limit.
+     *
+     * @param plugin The plugin
+     * @return The number of held back tasks
+     */
+    int pendingTasks(final PluginContainer plugin) {
+        final @Nullable PluginExecutions executions = this.pluginExecutions.get(plugin);
+        if (executions == null) {
+            return 0;
+        }
+        synchronized (executions) {
+            return executions.pending.size();
+        }
+    }
+
+    /**
+     * Gets the number of tasks of the plugin which were handed to the
+     * executor and have not completed yet.
+     *
+     * @param plugin The plugin
+     * @return The number of running tasks
+     */
+    int runningTasks(final PluginContainer plugin) {
+        final @Nullable PluginExecutions executions = this.pluginExecutions.get(plugin);
+        if (executions == null) {
+            return 0;
+        }
+        synchronized (executions) {
+            return executions.running;
+        }
+    }
+
+    private static final class PluginExecutions {
+
+        // Tasks handed to the executor, guarded by this
+        int running;
+        final Queue<Runnable> pending = new ArrayDeque<>();
+
+    }
+
+}
@@ -45,6 +45,10 @@ public final class SpongeScheduledTask implements ScheduledTask {
     private ScheduledTaskState state;
     private boolean isCancelled = false;
 
+    // Managed by the TaskQueue of the scheduler
+    long dueTimestamp;
+    long queueSequence;
+
     SpongeScheduledTask(final SpongeScheduler scheduler, final SpongeTask task, final String name) {
         this.scheduler = scheduler;
         this.task = task;
@@ -79,7 +83,10 @@ public boolean cancel() {
         final boolean success = this.state() == ScheduledTaskState.RUNNING
                 || this.state() == ScheduledTaskState.EXECUTING;
         this.state = ScheduledTaskState.CANCELED;
-        this.isCancelled = true;
+        if (!this.isCancelled) {
+            this.isCancelled = true;
+            this.scheduler.onTaskCancelled(this);
+        }
         return success;
     }
 
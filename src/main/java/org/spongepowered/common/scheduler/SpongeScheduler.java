@@ -61,8 +61,10 @@ public abstract class SpongeScheduler implements Scheduler {
 
     private final String tag;
 
-    // The simple queue of all pending (and running) ScheduledTasks
+    // All pending (and running) ScheduledTasks by their unique id
     protected final Map<UUID, SpongeScheduledTask> tasks = new ConcurrentHashMap<>();
+    // The pending ScheduledTasks, ordered by when they are due
+    protected final TaskQueue queue = new TaskQueue();
     private long sequenceNumber = 0L;
 
     SpongeScheduler(final String tag) {
@@ -93,6 +95,21 @@ protected long timestamp(final boolean tickBased) {
     protected void addTask(final SpongeScheduledTask task) {
         task.setTimestamp(this.timestamp(task.task.tickBasedDelay));
         this.tasks.put(task.uniqueId(), task);
+        this.enqueueTask(task);
+    }
+
+    /**
+     * Queues the task to be processed once its delay, or its interval if it
+     * has already run, has passed since its timestamp.
+     *
+     * @param task The task to queue
+     */
+    private void enqueueTask(final SpongeScheduledTask task) {
+        if (task.state() == SpongeScheduledTask.ScheduledTaskState.WAITING) {
+            this.queue.add(task, task.timestamp() + task.task.delay, task.task.tickBasedDelay);
+        } else {
+            this.queue.add(task, task.timestamp() + task.task.interval, task.task.tickBasedInterval);
+        }
     }
 
     /**
@@ -104,6 +121,17 @@ private void removeTask(final SpongeScheduledTask task) {
         this.tasks.remove(task.uniqueId());
     }
 
+    /**
+     * Called when a task is cancelled, removes the task from the task map.
+     * The task is dropped from the queue when it is next due.
+     *
+     * @param task The cancelled task
+     */
+    void onTaskCancelled(final SpongeScheduledTask task) {
+        this.removeTask(task);
+        this.queue.onCancelled();
+    }
+
     @Override
     public Optional<ScheduledTask> findTask(final UUID id) {
         Objects.requireNonNull(id, "id");
@@ -155,7 +183,7 @@ public Set<ScheduledTask> tasks(final PluginContainer plugin) {
     @Override
     public SpongeTaskExecutorService executor(final PluginContainer plugin) {
         Objects.requireNonNull(plugin, "plugin");
-        return new SpongeTaskExecutorService(() -> Task.builder().plugin(plugin), this);
+        return new SpongeTaskExecutorService(plugin, () -> Task.builder().plugin(plugin), this);
     }
 
     @Override
@@ -180,12 +208,26 @@ public SpongeScheduledTask submit(Task task, String name) {
     }
 
     /**
-     * Process all tasks in the map.
+     * Process all tasks which are due.
      */
     final void runTick() {
         this.preTick();
         try {
-            this.tasks.values().forEach(this::processTask);
+            // This moment is 'now'
+            final long tickTimestamp = this.timestamp(true);
+            final long timeTimestamp = this.timestamp(false);
+            // Only the tasks that are due right now are run, tasks queued
+            // while processing them wait for the next tick
+            this.queue.beginDrain();
+            try {
+                @Nullable SpongeScheduledTask task;
+                while ((task = this.queue.pollDue(tickTimestamp, timeTimestamp)) != null) {
+                    this.processTask(task);
+                }
+            } finally {
+                this.queue.endDrain();
+            }
+            this.queue.purgeCancelled();
             this.postTick();
         } finally {
             this.finallyPostTick();
@@ -212,7 +254,7 @@ protected void finallyPostTick() {
     }
 
     /**
-     * Processes the task.
+     * Processes a task which is due.
      *
      * @param task The task to process
      */
@@ -223,42 +265,16 @@ private void processTask(final SpongeScheduledTask task) {
             this.removeTask(task);
             return;
         }
-        // If the task is already being processed, we wait for the previous
-        // occurrence to terminate.
-        if (task.state() == SpongeScheduledTask.ScheduledTaskState.EXECUTING) {
-            return;
-        }
-        final long threshold;
-        final boolean tickBased;
-        // Figure out if we start a delayed Task after threshold ticks or, start
-        // it after the interval (interval) of the repeating task parameter.
-        if (task.state() == SpongeScheduledTask.ScheduledTaskState.WAITING) {
-            threshold = task.task.delay;
-            tickBased = task.task.tickBasedDelay;
-        } else if (task.state() == SpongeScheduledTask.ScheduledTaskState.RUNNING) {
-            threshold = task.task.interval;
-            tickBased = task.task.tickBasedInterval;
-        } else {
-            threshold = Long.MAX_VALUE;
-            tickBased = false;
-        }
-        // This moment is 'now'
-        final long now = this.timestamp(tickBased);
-        // So, if the current time minus the timestamp of the task is greater
-        // than the delay to wait before starting the task, then start the task.
-        // Repeating tasks get a reset-timestamp each time they are set RUNNING
+        task.setState(SpongeScheduledTask.ScheduledTaskState.SWITCHING);
+        // It is always interval here because that's the only thing that matters
+        // at this point.
+        task.setTimestamp(this.timestamp(task.task.tickBasedInterval));
+        this.startTask(task);
         // If the task has a interval of 0 (zero) this task will not repeat, and
-        // is removed after we start it.
-        if (threshold <= (now - task.timestamp())) {
-            task.setState(SpongeScheduledTask.ScheduledTaskState.SWITCHING);
-            // It is always interval here because that's the only thing that matters
-            // at this point.
-            task.setTimestamp(this.timestamp(task.task.tickBasedInterval));
-            this.startTask(task);
-            // If task is one time shot, remove it from the map.
-            if (task.task.interval == 0L) {
-                this.removeTask(task);
-            }
+        // is removed after we start it. Repeating tasks are queued again once
+        // they have finished executing.
+        if (task.task.interval == 0L) {
+            this.removeTask(task);
         }
     }
 
@@ -268,7 +284,7 @@ private void processTask(final SpongeScheduledTask task) {
      * @param task The task to start
      */
     private void startTask(final SpongeScheduledTask task) {
-        this.executeRunnable(() -> {
+        this.executeRunnable(task, () -> {
             task.setState(SpongeScheduledTask.ScheduledTaskState.EXECUTING);
             try (final @Nullable PhaseContext<@NonNull ?> context = this.createContext(task, task.task().plugin())) {
                 if (context != null) {
@@ -283,6 +299,9 @@ private void startTask(final SpongeScheduledTask task) {
             } finally {
                 if (!task.isCancelled()) {
                     task.setState(SpongeScheduledTask.ScheduledTaskState.RUNNING);
+                    if (task.task.interval > 0L) {
+                        this.enqueueTask(task);
+                    }
                 }
                 this.onTaskCompletion(task);
             }
@@ -303,10 +322,32 @@ protected void onTaskCompletion(final SpongeScheduledTask task) {
         // no-op for sync methods.
     }
 
-    protected void executeRunnable(final Runnable runnable) {
+    protected void executeRunnable(final SpongeScheduledTask task, final Runnable runnable) {
         runnable.run();
     }
 
+    /**
+     * Gets the number of tasks of the plugin which have been started but
+     * are waiting for a thread to execute on.
+     *
+     * @param plugin The plugin
+     * @return The number of queued executions
+     */
+    int queuedExecutions(final PluginContainer plugin) {
+        return 0;
+    }
+
+    /**
+     * Gets the number of tasks of the plugin which have been handed to a
+     * thread and have not completed yet.
+     *
+     * @param plugin The plugin
+     * @return The number of running executions
+     */
+    int runningExecutions(final PluginContainer plugin) {
+        return 0;
+    }
+
     public <V> Future<V> execute(final Callable<V> callable) {
         final FutureTask<V> runnable = new FutureTask<>(callable);
         this.submit(new SpongeTask.BuilderImpl().execute(runnable).plugin(Launch.instance().commonPlugin()).build());
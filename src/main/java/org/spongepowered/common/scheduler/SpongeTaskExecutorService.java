@@ -32,6 +32,7 @@
 import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.api.scheduler.TaskExecutorService;
 import org.spongepowered.api.scheduler.TaskFuture;
+import org.spongepowered.plugin.PluginContainer;
 
 import java.time.Duration;
 import java.time.temporal.TemporalUnit;
@@ -45,16 +46,40 @@
 import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
 
-class SpongeTaskExecutorService extends AbstractExecutorService implements TaskExecutorService {
+public class SpongeTaskExecutorService extends AbstractExecutorService implements TaskExecutorService {
 
+    private final PluginContainer plugin;
     private final Supplier<Task.Builder> taskBuilderProvider;
     private final SpongeScheduler scheduler;
 
-    SpongeTaskExecutorService(final Supplier<Task.Builder> taskBuilderProvider, final SpongeScheduler scheduler) {
+    SpongeTaskExecutorService(final PluginContainer plugin, final Supplier<Task.Builder> taskBuilderProvider, final SpongeScheduler scheduler) {
+        this.plugin = plugin;
         this.taskBuilderProvider = taskBuilderProvider;
         this.scheduler = scheduler;
     }
 
+    /**
+     * Gets the number of tasks of the plugin which are due but are waiting
+     * for a thread to execute on, because the plugin reached its
+     * concurrency limit. Always zero for synchronous schedulers.
+     *
+     * @return The number of queued tasks
+     */
+    public int queuedTaskCount() {
+        return this.scheduler.queuedExecutions(this.plugin);
+    }
+
+    /**
+     * Gets the number of tasks of the plugin which have been handed to a
+     * thread and have not completed yet. Always zero for synchronous
+     * schedulers.
+     *
+     * @return The number of running tasks
+     */
+    public int runningTaskCount() {
+        return this.scheduler.runningExecutions(this.plugin);
+    }
+
     @Override
     public void shutdown() {
         // Since this class is delegating its work to SchedulerService
@@ -0,0 +1,187 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * The pending {@link SpongeScheduledTask}s of a {@link SpongeScheduler},
+ * ordered by the timestamp at which they are next due.
+ *
+ * <p>Tasks that wait on ticks and tasks that wait on wall clock time are kept
+ * in separate queues, as their timestamps are not comparable with each other
+ * on every scheduler. Processing a tick only has to look at the heads of both
+ * queues, so its cost is proportional to the number of tasks that are due
+ * instead of the number of tasks that are scheduled.</p>
+ *
+ * <p>Cancelled tasks are not removed eagerly, they are dropped once they
+ * reach the head of a queue or when enough of them have accumulated to make
+ * a purge worthwhile.</p>
+ *
+ * <p>While a tick drains the due tasks, tasks that are added are held back
+ * until the drain ends. A task that queues itself again with no delay is
+ * then run on the next tick, instead of over and over within the same
+ * one.</p>
+ */
+final class TaskQueue {
+
+    private static final Comparator<SpongeScheduledTask> DUE_ORDER = Comparator
+            .comparingLong((SpongeScheduledTask task) -> task.dueTimestamp)
+            .thenComparingLong(task -> task.queueSequence);
+
+    private final PriorityQueue<SpongeScheduledTask> tickBased = new PriorityQueue<>(TaskQueue.DUE_ORDER);
+    private final PriorityQueue<SpongeScheduledTask> timeBased = new PriorityQueue<>(TaskQueue.DUE_ORDER);
+    private final List<SpongeScheduledTask> heldTickBased = new ArrayList<>();
+    private final List<SpongeScheduledTask> heldTimeBased = new ArrayList<>();
+    private boolean draining;
+    private long sequence;
+    private int cancelled;
+
+    /**
+     * Queues the task to be returned by {@link #pollDue(long, long)} once
+     * the given timestamp has passed.
+     *
+     * @param task The task
+     * @param dueTimestamp The timestamp at which the task is due
+     * @param tickBased Whether the timestamp is tick based
+     */
+    synchronized void add(final SpongeScheduledTask task, final long dueTimestamp, final boolean tickBased) {
+        task.dueTimestamp = dueTimestamp;
+        task.queueSequence = this.sequence++;
+        if (tickBased) {
+            (this.draining ? this.heldTickBased : this.tickBased).add(task);
+        } else {
+            (this.draining ? this.heldTimeBased : this.timeBased).add(task);
+        }
+    }
+
+    /**
+     * Starts draining the due tasks, tasks added from now on are held back
+     * until {@link #endDrain()}.
+     */
+    synchronized void beginDrain() {
+        this.draining = true;
+    }
+
+    /**
+     * Ends draining the due tasks and queues the tasks that were added in
+     * the meantime.
+     */
+    synchronized void endDrain() {
+        this.draining = false;
+        this.tickBased.addAll(this.heldTickBased);
+        this.timeBased.addAll(this.heldTimeBased);
+        this.heldTickBased.clear();
+        this.heldTimeBased.clear();
+    }
+
+    /**
+     * Removes and returns the next task which is due, tick based tasks
+     * first, or null if no task is due yet.
+     *
+     * @param tickTimestamp The current tick based timestamp
+     * @param timeTimestamp The current wall clock timestamp
+     * @return The next due task, if any
+     */
+    synchronized @Nullable SpongeScheduledTask pollDue(final long tickTimestamp, final long timeTimestamp) {
+        final @Nullable SpongeScheduledTask tickTask = this.peekQueued(this.tickBased);
+        if (tickTask != null && tickTask.dueTimestamp <= tickTimestamp) {
+            return this.tickBased.poll();
+        }
+        final @Nullable SpongeScheduledTask timeTask = this.peekQueued(this.timeBased);
+        if (timeTask != null && timeTask.dueTimestamp <= timeTimestamp) {
+            return this.timeBased.poll();
+        }
+        return null;
+    }
+
+    /**
+     * Gets the time in nanoseconds until the next task is due, zero if a
+     * task is already due or {@link Long#MAX_VALUE} if there are no tasks.
+     *
+     * @param tickTimestamp The current tick based timestamp
+     * @param timeTimestamp The current wall clock timestamp
+     * @return The time until the next task is due
+     */
+    synchronized long nextDelay(final long tickTimestamp, final long timeTimestamp) {
+        long delay = Long.MAX_VALUE;
+        final @Nullable SpongeScheduledTask tickTask = this.peekQueued(this.tickBased);
+        if (tickTask != null) {
+            delay = Math.min(delay, tickTask.dueTimestamp - tickTimestamp);
+        }
+        final @Nullable SpongeScheduledTask timeTask = this.peekQueued(this.timeBased);
+        if (timeTask != null) {
+            delay = Math.min(delay, timeTask.dueTimestamp - timeTimestamp);
+        }
+        return Math.max(0, delay);
+    }
+
+    /**
+     * Gets the head of the queue, dropping the cancelled tasks in front of
+     * it.
+     */
+    private @Nullable SpongeScheduledTask peekQueued(final PriorityQueue<SpongeScheduledTask> queue) {
+        @Nullable SpongeScheduledTask task;
+        while ((task = queue.peek()) != null && task.isCancelled()) {
+            queue.poll();
+            // Tasks cancelled while they are not queued are counted as well
+            if (this.cancelled > 0) {
+                this.cancelled--;
+            }
+        }
+        return task;
+    }
+
+    synchronized void onCancelled() {
+        this.cancelled++;
+    }
+
+    synchronized int cancelledCount() {
+        return this.cancelled;
+    }
+
+    /**
+     * Removes cancelled tasks from the queues once they make up more than
+     * half of the queued tasks.
+     */
+    synchronized void purgeCancelled() {
+        if (this.cancelled == 0 || this.cancelled * 2 < this.tickBased.size() + this.timeBased.size()) {
+            return;
+        }
+        this.tickBased.removeIf(SpongeScheduledTask::isCancelled);
+        this.timeBased.removeIf(SpongeScheduledTask::isCancelled);
+        this.cancelled = 0;
+    }
+
+    synchronized int size() {
+        return this.tickBased.size() + this.timeBased.size() + this.heldTickBased.size() + this.heldTimeBased.size();
+    }
+
+}
@@ -26,13 +26,14 @@
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.common.collect.ImmutableList;
 import org.spongepowered.api.event.Cause;
 import org.spongepowered.api.service.permission.PermissionService;
 import org.spongepowered.api.service.permission.Subject;
 import org.spongepowered.api.service.permission.SubjectCollection;
-import org.spongepowered.api.util.Tristate;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -108,17 +109,10 @@ public MemorySubjectData subjectData() {
         }
 
         @Override
-        public Tristate permissionValue(final String permission, final Cause cause) {
-            Tristate ret = super.permissionValue(permission, cause);
-
-            if (ret == Tristate.UNDEFINED) {
-                ret = this.dataPermissionValue(DataFactoryCollection.this.defaults().transientSubjectData(), permission);
-            }
-
-            if (ret == Tristate.UNDEFINED) {
-                ret = this.dataPermissionValue(DataFactoryCollection.this.service.defaults().transientSubjectData(), permission);
-            }
-            return ret;
+        protected List<MemorySubjectData> permissionSources() {
+            return ImmutableList.of(this.data,
+                    DataFactoryCollection.this.defaults().transientSubjectData(),
+                    DataFactoryCollection.this.service.defaults().transientSubjectData());
         }
 
         @Override
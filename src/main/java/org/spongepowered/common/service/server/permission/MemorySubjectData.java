@@ -47,6 +47,7 @@
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A subject data implementation storing all contained data in memory.
@@ -63,6 +64,7 @@ public class MemorySubjectData implements SubjectData {
     protected final ConcurrentMap<Set<Context>, Map<String, String>> options = new ConcurrentHashMap<>();
     protected final ConcurrentMap<Set<Context>, NodeTree> permissions = new ConcurrentHashMap<>();
     protected final ConcurrentMap<Set<Context>, List<SubjectReference>> parents = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
 
     /**
      * Creates a new subject data instance, using the provided service to
@@ -82,6 +84,26 @@ protected void onUpdate() {
         // Do nothing - users of the class will override.
     }
 
+    /**
+     * Records a mutation of this data, advancing its {@link #version()} before
+     * notifying {@link #onUpdate()}.
+     */
+    protected final void markChanged() {
+        this.version.incrementAndGet();
+        this.onUpdate();
+    }
+
+    /**
+     * Gets a stamp that changes each time the data in this instance is
+     * mutated. Resolved permission caches compare it to detect that any data
+     * they were built from has changed.
+     *
+     * @return The current version
+     */
+    public long version() {
+        return this.version.get();
+    }
+
     @Override
     public Subject subject() {
         return this.subject;
@@ -142,7 +164,7 @@ public CompletableFuture<Boolean> setPermission(Set<Context> contexts, final Str
                 }
             }
         }
-        this.onUpdate();
+        this.markChanged();
         return CompletableFuture.completedFuture(true);
     }
 
@@ -176,7 +198,7 @@ public CompletableFuture<Boolean> setPermissions(Set<Context> contexts, final Ma
                     throw new IllegalStateException("Unhandled enum state " + method);
             }
         }
-        this.onUpdate();
+        this.markChanged();
         return CompletableFuture.completedFuture(true);
     }
 
@@ -217,7 +239,7 @@ public CompletableFuture<Boolean> setFallbackPermissionValue(Set<Context> contex
                 }
             }
         }
-        this.onUpdate();
+        this.markChanged();
         return CompletableFuture.completedFuture(true);
     }
 
@@ -237,7 +259,7 @@ public CompletableFuture<Boolean> clearFallbackPermissionValues() {
                 }
             }
         }
-        this.onUpdate();
+        this.markChanged();
         return CompletableFuture.completedFuture(anyUpdated);
     }
 
@@ -246,7 +268,7 @@ public CompletableFuture<Boolean> clearPermissions() {
         final boolean wasEmpty = this.permissions.isEmpty();
         this.permissions.clear();
         if (!wasEmpty) {
-            this.onUpdate();
+            this.markChanged();
         }
         return CompletableFuture.completedFuture(!wasEmpty);
     }
@@ -255,7 +277,7 @@ public CompletableFuture<Boolean> clearPermissions() {
     public CompletableFuture<Boolean> clearPermissions(final Set<Context> context) {
         final boolean changed = this.permissions.remove(Objects.requireNonNull(context, "context")) != null;
         if (changed) {
-            this.onUpdate();
+            this.markChanged();
         }
         return CompletableFuture.completedFuture(changed);
     }
@@ -302,7 +324,7 @@ public CompletableFuture<Boolean> setParents(Set<Context> contexts, final List<?
                     throw new IllegalStateException("Unhandled enum state " + method);
             }
         }
-        this.onUpdate();
+        this.markChanged();
         return CompletableFuture.completedFuture(true);
     }
 
@@ -323,7 +345,7 @@ public CompletableFuture<Boolean> addParent(Set<Context> contexts, final Subject
                     .build();
 
             if (this.updateCollection(this.parents, contexts, oldParents, newParents)) {
-                this.onUpdate();
+                this.markChanged();
                 return CompletableFuture.completedFuture(true);
             }
         }
@@ -354,7 +376,7 @@ public CompletableFuture<Boolean> removeParent(Set<Context> contexts, final Subj
             newParents.remove(parent);
 
             if (this.updateCollection(this.parents, contexts, oldParents, ImmutableList.copyOf(newParents))) {
-                this.onUpdate();
+                this.markChanged();
                 return CompletableFuture.completedFuture(true);
             }
         }
@@ -365,7 +387,7 @@ public CompletableFuture<Boolean> clearParents() {
         final boolean wasEmpty = this.parents.isEmpty();
         this.parents.clear();
         if (!wasEmpty) {
-            this.onUpdate();
+            this.markChanged();
         }
         return CompletableFuture.completedFuture(!wasEmpty);
     }
@@ -374,7 +396,7 @@ public CompletableFuture<Boolean> clearParents() {
     public CompletableFuture<Boolean> clearParents(final Set<Context> contexts) {
         final boolean changed = this.parents.remove(Objects.requireNonNull(contexts, "contexts")) != null;
         if (changed) {
-            this.onUpdate();
+            this.markChanged();
         }
         return CompletableFuture.completedFuture(changed);
     }
@@ -402,7 +424,7 @@ public CompletableFuture<Boolean> setOption(Set<Context> contexts, final String
             }
 
             if ((origMap = this.options.putIfAbsent(contexts, Collections.singletonMap(key.toLowerCase(), value))) == null) {
-                this.onUpdate();
+                this.markChanged();
                 return CompletableFuture.completedFuture(true);
             }
         }
@@ -419,7 +441,7 @@ public CompletableFuture<Boolean> setOption(Set<Context> contexts, final String
             }
             newMap = ImmutableMap.copyOf(newMap);
         } while (!this.options.replace(contexts, origMap, newMap));
-        this.onUpdate();
+        this.markChanged();
         return CompletableFuture.completedFuture(true);
     }
 
@@ -449,7 +471,7 @@ public CompletableFuture<Boolean> setOptions(Set<Context> contexts, final Map<St
                     throw new IllegalStateException("Unhandled enum state " + method);
             }
         }
-        this.onUpdate();
+        this.markChanged();
         return CompletableFuture.completedFuture(true);
     }
 
@@ -458,7 +480,7 @@ public CompletableFuture<Boolean> clearOptions() {
         final boolean wasEmpty = this.options.isEmpty();
         this.options.clear();
         if (!wasEmpty) {
-            this.onUpdate();
+            this.markChanged();
         }
         return CompletableFuture.completedFuture(!wasEmpty);
     }
@@ -467,7 +489,7 @@ public CompletableFuture<Boolean> clearOptions() {
     public CompletableFuture<Boolean> clearOptions(final Set<Context> contexts) {
         final boolean ret = this.options.remove(Objects.requireNonNull(contexts, "contexts")) != null;
         if (ret) {
-            this.onUpdate();
+            this.markChanged();
         }
         return CompletableFuture.completedFuture(ret);
     }
@@ -484,6 +506,7 @@ public CompletableFuture<Boolean> copyFrom(final SubjectData other, final Transf
             this.permissions.clear();
             this.parents.clear();
             this.options.clear();
+            this.version.incrementAndGet();
         }
 
         otherPerms.forEach((ctx, permissions) -> this.setPermissions(ctx, permissions, method));
@@ -0,0 +1,70 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.server.permission;
+
+import org.spongepowered.api.service.permission.NodeTree;
+import org.spongepowered.api.service.permission.SubjectData;
+import org.spongepowered.api.util.Tristate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The effective permissions of a subject, flattened from every
+ * {@link MemorySubjectData} in its inheritance chain into a single tree.
+ *
+ * <p>The version of each contributing data instance is recorded when the
+ * tree is built, so the tree can be discarded as soon as any of them
+ * changes.</p>
+ */
+final class ResolvedPermissions {
+
+    private final MemorySubjectData[] sources;
+    private final long[] versions;
+    private final SpongeNodeTree tree;
+
+    ResolvedPermissions(final List<MemorySubjectData> sources, final long[] versions) {
+        this.sources = sources.toArray(new MemorySubjectData[0]);
+        this.versions = versions;
+        final List<NodeTree> layers = new ArrayList<>(this.sources.length);
+        for (final MemorySubjectData source : this.sources) {
+            layers.add(source.nodeTree(SubjectData.GLOBAL_CONTEXT));
+        }
+        this.tree = SpongeNodeTree.flatten(layers);
+    }
+
+    boolean isValid() {
+        for (int i = 0; i < this.sources.length; i++) {
+            if (this.sources[i].version() != this.versions[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    Tristate get(final String permission) {
+        return this.tree.get(permission);
+    }
+}
@@ -24,6 +24,8 @@
  */
 package org.spongepowered.common.service.server.permission;
 
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.event.Cause;
 import org.spongepowered.api.service.context.Context;
@@ -33,12 +35,16 @@
 import org.spongepowered.api.service.permission.SubjectReference;
 import org.spongepowered.api.util.Tristate;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 public abstract class SpongeBaseSubject implements Subject {
 
+    private volatile @Nullable ResolvedPermissions resolvedPermissions;
+
     public abstract PermissionService service();
 
     @Override
@@ -72,7 +78,72 @@ public boolean hasPermission(final String permission, final Set<Context> context
 
     @Override
     public Tristate permissionValue(final String permission, final @Nullable Cause cause) {
-        return this.dataPermissionValue(this.transientSubjectData(), permission);
+        final @Nullable ResolvedPermissions resolved = this.resolvedPermissions();
+        if (resolved != null) {
+            return resolved.get(permission);
+        }
+
+        for (final MemorySubjectData source : this.permissionSources()) {
+            final Tristate res = this.dataPermissionValue(source, permission);
+            if (res != Tristate.UNDEFINED) {
+                return res;
+            }
+        }
+        return Tristate.UNDEFINED;
+    }
+
+    /**
+     * Gets the data this subject takes its permissions from, in lookup order.
+     * The parents of each source are consulted before the next source.
+     *
+     * @return The permission sources
+     */
+    protected List<MemorySubjectData> permissionSources() {
+        return Collections.singletonList(this.transientSubjectData());
+    }
+
+    private @Nullable ResolvedPermissions resolvedPermissions() {
+        final @Nullable ResolvedPermissions current = this.resolvedPermissions;
+        if (current != null && current.isValid()) {
+            return current;
+        }
+
+        final List<MemorySubjectData> sources = new ArrayList<>();
+        final LongArrayList versions = new LongArrayList();
+        final Set<MemorySubjectData> visited = new ReferenceOpenHashSet<>();
+        for (final MemorySubjectData source : this.permissionSources()) {
+            if (!SpongeBaseSubject.collectPermissionSources(source, sources, versions, visited)) {
+                this.resolvedPermissions = null;
+                return null;
+            }
+        }
+        final ResolvedPermissions resolved = new ResolvedPermissions(sources, versions.toLongArray());
+        this.resolvedPermissions = resolved;
+        return resolved;
+    }
+
+    private static boolean collectPermissionSources(final MemorySubjectData data, final List<MemorySubjectData> sources,
+            final LongArrayList versions, final Set<MemorySubjectData> visited) {
+        if (!visited.add(data)) {
+            // Already consulted earlier in the chain, so it can't change the result
+            return true;
+        }
+        // The version is read before the data itself so a concurrent change is never missed
+        versions.add(data.version());
+        sources.add(data);
+        for (final SubjectReference parent : data.parents(SubjectData.GLOBAL_CONTEXT)) {
+            final Subject subject = parent.resolve().join();
+            // Users fall back to their op level, which can't be expressed as a tree
+            if (!(subject instanceof SpongeBaseSubject) || subject instanceof UserSubject) {
+                return false;
+            }
+            for (final MemorySubjectData source : ((SpongeBaseSubject) subject).permissionSources()) {
+                if (!SpongeBaseSubject.collectPermissionSources(source, sources, versions, visited)) {
+                    return false;
+                }
+            }
+        }
+        return true;
     }
 
     @Override
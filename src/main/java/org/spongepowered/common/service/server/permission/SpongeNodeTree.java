@@ -28,15 +28,18 @@
 import org.spongepowered.api.service.permission.NodeTree;
 import org.spongepowered.api.util.Tristate;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
-import java.util.regex.Pattern;
 
 public final class SpongeNodeTree implements NodeTree {
 
-    private static final Pattern NODE_SPLIT = Pattern.compile("\\.");
     private final Node rootNode;
 
     SpongeNodeTree(final Tristate value) {
@@ -50,7 +53,7 @@ public final class SpongeNodeTree implements NodeTree {
 
     <T> void populate(final Map<String, T> values, final Function<T, Tristate> converter) {
         for (final Map.Entry<String, T> value : values.entrySet()) {
-            final String[] parts = SpongeNodeTree.NODE_SPLIT.split(value.getKey().toLowerCase(), -1);
+            final String[] parts = SpongeNodeTree.split(value.getKey().toLowerCase());
             Node currentNode = this.rootNode;
             for (final String part : parts) {
                 if (currentNode.children.containsKey(part)) {
@@ -67,20 +70,26 @@ <T> void populate(final Map<String, T> values, final Function<T, Tristate> conve
 
     @Override
     public Tristate get(final String node) {
-        final String[] parts = SpongeNodeTree.NODE_SPLIT.split(node.toLowerCase(), -1);
+        final String lowerNode = node.toLowerCase();
         Node currentNode = this.rootNode;
         Tristate lastUndefinedVal = Tristate.UNDEFINED;
-        for (String str : parts) {
-            if (!currentNode.children.containsKey(str)) {
+        int start = 0;
+        while (true) {
+            final int end = lowerNode.indexOf('.', start);
+            final Node child = currentNode.children.get(end == -1 ? lowerNode.substring(start) : lowerNode.substring(start, end));
+            if (child == null) {
                 break;
             }
-            currentNode = currentNode.children.get(str);
+            currentNode = child;
             if (currentNode.value != Tristate.UNDEFINED) {
                 lastUndefinedVal = currentNode.value;
             }
+            if (end == -1) {
+                break;
+            }
+            start = end + 1;
         }
         return lastUndefinedVal;
-
     }
 
     @Override
@@ -116,7 +125,7 @@ private void populateMap(final ImmutableMap.Builder<String, Boolean> values, fin
 
     @Override
     public NodeTree withValue(final String node, final Tristate value) {
-        final String[] parts = SpongeNodeTree.NODE_SPLIT.split(node.toLowerCase(), -1);
+        final String[] parts = SpongeNodeTree.split(node.toLowerCase());
         final Node newRoot = new Node(new HashMap<>(this.rootNode.children));
         Node newPtr = newRoot;
         Node currentPtr = this.rootNode;
@@ -151,6 +160,83 @@ public NodeTree withAllTristates(final Map<String, Tristate> values) {
         return ret;
     }
 
+    /**
+     * Splits a permission node on {@code '.'}, keeping empty segments.
+     *
+     * @param node The node to split
+     * @return The segments of the node
+     */
+    static String[] split(final String node) {
+        int count = 1;
+        for (int i = 0; i < node.length(); i++) {
+            if (node.charAt(i) == '.') {
+                count++;
+            }
+        }
+        final String[] parts = new String[count];
+        int start = 0;
+        for (int i = 0; i < count - 1; i++) {
+            final int end = node.indexOf('.', start);
+            parts[i] = node.substring(start, end);
+            start = end + 1;
+        }
+        parts[count - 1] = node.substring(start);
+        return parts;
+    }
+
+    /**
+     * Flattens an ordered list of trees into a single tree, where looking up
+     * a node returns the value of the first tree that defines a value for it.
+     *
+     * <p>Every node present in any of the trees is assigned the resolved
+     * value for its own path. Since a lookup only depends on the deepest
+     * defined prefix of a node, this yields the same results as querying
+     * each tree in turn.</p>
+     *
+     * @param layers The trees, in lookup order
+     * @return The flattened tree
+     */
+    static SpongeNodeTree flatten(final List<NodeTree> layers) {
+        final List<Node> roots = new ArrayList<>(layers.size());
+        for (final NodeTree layer : layers) {
+            final NodeTree tree = layer instanceof SpongeNodeTree ? layer : new FactoryImpl().ofBooleans(layer.asMap(), Tristate.UNDEFINED);
+            roots.add(((SpongeNodeTree) tree).rootNode);
+        }
+        final Node root = new Node(new HashMap<>());
+        final Tristate[] inherited = new Tristate[roots.size()];
+        Arrays.fill(inherited, Tristate.UNDEFINED);
+        SpongeNodeTree.flattenChildren(root, roots.toArray(new Node[0]), inherited);
+        return new SpongeNodeTree(root);
+    }
+
+    private static void flattenChildren(final Node target, final Node[] sources, final Tristate[] inherited) {
+        final Set<String> keys = new HashSet<>();
+        for (final Node source : sources) {
+            if (source != null) {
+                keys.addAll(source.children.keySet());
+            }
+        }
+        for (final String key : keys) {
+            final Node[] childSources = new Node[sources.length];
+            final Tristate[] childInherited = inherited.clone();
+            Tristate resolved = Tristate.UNDEFINED;
+            for (int i = 0; i < sources.length; i++) {
+                final Node child = sources[i] == null ? null : sources[i].children.get(key);
+                childSources[i] = child;
+                if (child != null && child.value != Tristate.UNDEFINED) {
+                    childInherited[i] = child.value;
+                }
+                if (resolved == Tristate.UNDEFINED) {
+                    resolved = childInherited[i];
+                }
+            }
+            final Node node = new Node(new HashMap<>());
+            node.value = resolved;
+            target.children.put(key, node);
+            SpongeNodeTree.flattenChildren(node, childSources, childInherited);
+        }
+    }
+
     public static class Node {
 
         final Map<String, SpongeNodeTree.Node> children;
@@ -25,6 +25,7 @@
 package org.spongepowered.common.service.server.permission;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import com.mojang.authlib.GameProfile;
 import net.minecraft.server.players.ServerOpListEntry;
 import org.spongepowered.api.Sponge;
@@ -35,6 +36,7 @@
 import org.spongepowered.api.util.Tristate;
 import org.spongepowered.common.SpongeCommon;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -53,6 +55,12 @@ public SubjectReference parent() {
                 return users.getService().getGroupForOpLevel(UserSubject.this.getOpLevel()).asSubjectReference();
             }
 
+            @Override
+            public long version() {
+                // The parent follows the op list, so fold the op level into the version
+                return (super.version() << 3) | UserSubject.this.getOpLevel();
+            }
+
             @Override
             public void setParent(final SubjectReference parent) {
                 final int opLevel;
@@ -122,15 +130,14 @@ public PermissionService service() {
         return this.collection.getService();
     }
 
+    @Override
+    protected List<MemorySubjectData> permissionSources() {
+        return ImmutableList.of(this.data, this.collection.defaults().subjectData(), this.collection.getService().defaults().subjectData());
+    }
+
     @Override
     public Tristate permissionValue(final String permission, final Cause cause) {
         Tristate ret = super.permissionValue(permission, cause);
-        if (ret == Tristate.UNDEFINED) {
-            ret = this.dataPermissionValue(this.collection.defaults().subjectData(), permission);
-        }
-        if (ret == Tristate.UNDEFINED) {
-            ret = this.dataPermissionValue(this.collection.getService().defaults().subjectData(), permission);
-        }
         if (ret == Tristate.UNDEFINED && this.getOpLevel() >= SpongePermissionService.getServerOpLevel()) {
             ret = Tristate.TRUE;
         }
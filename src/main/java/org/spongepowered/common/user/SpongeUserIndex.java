@@ -0,0 +1,223 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.user;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The users known to exist on disk, along with their last known name and
+ * the last time their data was modified, so they are available without
+ * listing the player data directory.
+ *
+ * <p>Changes are synchronized against {@link #reconcile(Collection)}, while
+ * {@link #write(Path)} only ever runs once at a time.</p>
+ */
+@DefaultQualifier(NonNull.class)
+final class SpongeUserIndex {
+
+    private static final int MAGIC = 0x53554958; // SUIX
+    private static final int VERSION = 1;
+
+    static final class Entry {
+
+        static final Entry UNKNOWN = new Entry(null, 0L);
+
+        final @Nullable String name;
+        final long lastModified;
+
+        Entry(final @Nullable String name, final long lastModified) {
+            this.name = name;
+            this.lastModified = lastModified;
+        }
+    }
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    // Users changed since the directory listing for a reconcile was started, these are left as they are
+    private @Nullable Set<UUID> changedDuringReconcile;
+    private volatile boolean dirty;
+
+    boolean contains(final UUID uniqueId) {
+        return this.entries.containsKey(uniqueId);
+    }
+
+    Set<UUID> uniqueIds() {
+        return this.entries.keySet();
+    }
+
+    @Nullable String name(final UUID uniqueId) {
+        final @Nullable Entry entry = this.entries.get(uniqueId);
+        return entry == null ? null : entry.name;
+    }
+
+    long lastModified(final UUID uniqueId) {
+        final @Nullable Entry entry = this.entries.get(uniqueId);
+        return entry == null ? 0L : entry.lastModified;
+    }
+
+    int size() {
+        return this.entries.size();
+    }
+
+    boolean isDirty() {
+        return this.dirty;
+    }
+
+    synchronized void add(final UUID uniqueId) {
+        this.markChanged(uniqueId);
+        if (this.entries.putIfAbsent(uniqueId, Entry.UNKNOWN) == null) {
+            this.dirty = true;
+        }
+    }
+
+    synchronized void update(final UUID uniqueId, final @Nullable String name, final long lastModified) {
+        this.markChanged(uniqueId);
+        this.entries.compute(uniqueId, (k, entry) -> {
+            final @Nullable String newName = name == null && entry != null ? entry.name : name;
+            final long newLastModified = Math.max(lastModified, entry == null ? 0L : entry.lastModified);
+            return new Entry(newName, newLastModified);
+        });
+        this.dirty = true;
+    }
+
+    synchronized void remove(final UUID uniqueId) {
+        this.markChanged(uniqueId);
+        if (this.entries.remove(uniqueId) != null) {
+            this.dirty = true;
+        }
+    }
+
+    private void markChanged(final UUID uniqueId) {
+        if (this.changedDuringReconcile != null) {
+            this.changedDuringReconcile.add(uniqueId);
+        }
+    }
+
+    /**
+     * Starts tracking the users that change from now on, to be called before
+     * the player data directory is listed for {@link #reconcile(Collection)}.
+     */
+    synchronized void beginReconcile() {
+        this.changedDuringReconcile = new HashSet<>();
+    }
+
+    /**
+     * Makes the index match the given set of users found on disk, keeping
+     * the names and modification times of the users still present. Users
+     * that changed since {@link #beginReconcile()} keep their current state,
+     * as the listing may predate that change.
+     */
+    synchronized void reconcile(final Collection<UUID> present) {
+        final Set<UUID> changed = this.changedDuringReconcile == null ? Collections.emptySet() : this.changedDuringReconcile;
+        this.changedDuringReconcile = null;
+        final Set<UUID> presentSet = new HashSet<>(present);
+        if (this.entries.keySet().removeIf(uniqueId -> !presentSet.contains(uniqueId) && !changed.contains(uniqueId))) {
+            this.dirty = true;
+        }
+        for (final UUID uniqueId : presentSet) {
+            if (!changed.contains(uniqueId)) {
+                this.add(uniqueId);
+            }
+        }
+    }
+
+    synchronized void clear() {
+        this.entries.clear();
+        this.dirty = true;
+    }
+
+    void read(final Path file) throws IOException {
+        try (final DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file))))) {
+            if (in.readInt() != SpongeUserIndex.MAGIC) {
+                throw new IOException("Not a user index: " + file);
+            }
+            final int version = in.readInt();
+            if (version != SpongeUserIndex.VERSION) {
+                throw new IOException("Unsupported user index version " + version);
+            }
+            final int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                final UUID uniqueId = new UUID(in.readLong(), in.readLong());
+                final long lastModified = in.readLong();
+                final @Nullable String name = in.readBoolean() ? in.readUTF() : null;
+                this.entries.put(uniqueId, name == null && lastModified == 0L ? Entry.UNKNOWN : new Entry(name, lastModified));
+            }
+        }
+    }
+
+    /**
+     * Writes the index to a temporary file first, which then replaces the
+     * given file, so a crash never leaves a truncated index behind.
+     */
+    void write(final Path file) throws IOException {
+        synchronized (this.writeLock) {
+            this.dirty = false;
+            final Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temp))))) {
+                out.writeInt(SpongeUserIndex.MAGIC);
+                out.writeInt(SpongeUserIndex.VERSION);
+                // Iterating a concurrent map may observe a different number of entries than size() reported
+                final Map<UUID, Entry> snapshot = new HashMap<>(this.entries);
+                out.writeInt(snapshot.size());
+                for (final Map.Entry<UUID, Entry> mapEntry : snapshot.entrySet()) {
+                    final UUID uniqueId = mapEntry.getKey();
+                    final Entry entry = mapEntry.getValue();
+                    out.writeLong(uniqueId.getMostSignificantBits());
+                    out.writeLong(uniqueId.getLeastSignificantBits());
+                    out.writeLong(entry.lastModified);
+                    out.writeBoolean(entry.name != null);
+                    if (entry.name != null) {
+                        out.writeUTF(entry.name);
+                    }
+                }
+            } catch (final IOException e) {
+                this.dirty = true;
+                throw e;
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+}
@@ -41,11 +41,14 @@
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.accessor.server.players.PlayerListAccessor;
 import org.spongepowered.common.accessor.world.level.storage.PlayerDataStorageAccessor;
+import org.spongepowered.common.applaunch.config.common.UserCategory;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.entity.player.SpongeUserData;
 import org.spongepowered.common.entity.player.SpongeUserView;
 import org.spongepowered.common.profile.SpongeGameProfile;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -53,8 +56,10 @@
 import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
@@ -67,38 +72,96 @@
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
 @DefaultQualifier(NonNull.class)
 public final class SpongeUserManager implements UserManager {
 
     public static final UUID FAKEPLAYER_UUID = UUID.fromString("41C82C87-7AFB-4024-BA57-13D2C99CAE77");
+    private static final String INDEX_FILE = "sponge_user_index.dat";
 
-    // This is the important set - this tells us if a User file actually exists,
+    // This is the important index - this tells us if a User file actually exists,
     // it should mirror the filesystem.
-    private final Set<UUID> knownUUIDs = new HashSet<>();
-    private final Cache<UUID, SpongeUserData> userCache = Caffeine.newBuilder()
-            .expireAfterAccess(1, TimeUnit.HOURS)
-            .build();
+    private final SpongeUserIndex index = new SpongeUserIndex();
+    private final Cache<UUID, SpongeUserData> userCache;
     private final Set<SpongeUserData> dirtyUsers = ConcurrentHashMap.newKeySet();
     private final Map<String, SpongeUserMutableWatchEvent> watcherUpdateMap = new HashMap<>();
+    private final AtomicBoolean indexWriteQueued = new AtomicBoolean();
 
     private final MinecraftServer server;
-    private final ExecutorService executorService = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
-            .setDaemon(true)
-            .setNameFormat("Sponge-User-Data-Loader")
-            .build());
+    private final ExecutorService executorService;
 
     private @Nullable WatchService filesystemWatchService = null;
     private @Nullable WatchKey watchKey = null;
 
     public SpongeUserManager(final MinecraftServer server) {
         this.server = server;
+        final UserCategory config = SpongeConfigs.getCommon().get().users;
+        this.userCache = SpongeUserManager.createUserCache(config.cacheMaximumWeight, this.dirtyUsers);
+        final int threads = config.loaderThreads > 0
+                ? config.loaderThreads
+                : Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+        this.executorService = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("Sponge-User-Data-Loader-%d")
+                .build());
+    }
+
+    /**
+     * Creates the cache of loaded users, bounded by the weight of the users.
+     * Users with unsaved changes weigh nothing, so they are never evicted to
+     * make room for other users. Their weight has to be updated whenever
+     * they are marked or unmarked as dirty.
+     *
+     * @param maximumWeight The maximum weight of all users
+     * @param dirtyUsers The users with unsaved changes
+     * @return The user cache
+     */
+    static Cache<UUID, SpongeUserData> createUserCache(final long maximumWeight, final Set<SpongeUserData> dirtyUsers) {
+        return Caffeine.newBuilder()
+                .expireAfterAccess(1, TimeUnit.HOURS)
+                .maximumWeight(Math.max(1L, maximumWeight))
+                .<UUID, SpongeUserData>weigher((uuid, data) -> dirtyUsers.contains(data) ? 0 : data.weight())
+                .build();
     }
 
     public void init() {
-        this.refreshFilesystemProfiles();
-        this.setupWatchers();
+        if (this.readIndex()) {
+            // The index makes all users available immediately, the directory is
+            // only listed to pick up changes made while the server was offline.
+            this.setupWatchers();
+            this.executorService.execute(this::reconcileFilesystemProfiles);
+        } else {
+            this.refreshFilesystemProfiles();
+            this.setupWatchers();
+        }
+    }
+
+    /**
+     * Loads all the given users at once, reading their data files in
+     * parallel. Users without data on disk are left out of the result.
+     *
+     * @param uniqueIds The unique ids of the users to load
+     * @return The loaded users, by unique id
+     */
+    public CompletableFuture<Map<UUID, User>> load(final Collection<UUID> uniqueIds) {
+        Objects.requireNonNull(uniqueIds, "uniqueIds");
+        final Map<UUID, CompletableFuture<@Nullable User>> futures = new LinkedHashMap<>();
+        for (final UUID uniqueId : uniqueIds) {
+            futures.computeIfAbsent(Objects.requireNonNull(uniqueId, "uniqueId"), id -> this.fetchUser(id, false));
+        }
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0]))
+                .thenApply(v -> {
+                    final Map<UUID, User> users = new LinkedHashMap<>();
+                    futures.forEach((uniqueId, future) -> {
+                        final @Nullable User user = future.join();
+                        if (user != null) {
+                            users.put(uniqueId, user);
+                        }
+                    });
+                    return users;
+                });
     }
 
     @Override
@@ -127,7 +190,7 @@ public CompletableFuture<User> loadOrCreate(final UUID uuid) {
             return CompletableFuture.completedFuture(SpongeUserView.create(uuidToUse));
         }
         return CompletableFuture.supplyAsync(() -> {
-            if (always || this.knownUUIDs.contains(uuidToUse)) {
+            if (always || this.index.contains(uuidToUse)) {
                 final com.mojang.authlib.@Nullable GameProfile profile = this.server.getProfileCache().get(uuidToUse);
                 try {
                     this.createUser(profile == null ? new com.mojang.authlib.GameProfile(uuidToUse, null) : profile);
@@ -170,7 +233,7 @@ public CompletableFuture<Optional<User>> load(final GameProfile profile) {
     @Override
     public Stream<GameProfile> streamAll() {
         final GameProfileCache cache = ((Server) this.server).gameProfileManager().cache();
-        return this.knownUUIDs.stream().map(x -> cache.findById(x).orElseGet(() -> GameProfile.of(x)));
+        return this.index.uniqueIds().stream().map(x -> cache.findById(x).orElseGet(() -> GameProfile.of(x, this.index.name(x))));
     }
 
     @Override
@@ -189,6 +252,7 @@ public CompletableFuture<Boolean> delete(final UUID uuid) {
                             this.dirtyUsers.remove(data);
                         }
                         this.userCache.invalidate(uuid);
+                        this.index.remove(uuid);
                     }
                 } catch (final SecurityException | IOException e) {
                     SpongeCommon.logger().warn("Unable to delete file {}", dataFile, e);
@@ -256,6 +320,7 @@ private UUID ensureNonEmptyUUID(final UUID uuid) {
     //
 
     public void handlePlayerLogin(final com.mojang.authlib.GameProfile mcProfile) throws IOException {
+        this.index.update(mcProfile.getId(), mcProfile.getName(), System.currentTimeMillis());
         final @Nullable SpongeUserData currentUser = this.userCache.getIfPresent(mcProfile.getId());
         if (currentUser != null) {
             // If currentUser have this then we know that the user has changed.
@@ -269,17 +334,28 @@ public void handlePlayerLogin(final com.mojang.authlib.GameProfile mcProfile) th
 
     private void createUser(final com.mojang.authlib.GameProfile profile) throws IOException {
         this.pollFilesystemWatcher();
-        final @Nullable SpongeUserData user = SpongeUserData.create(profile);
-        this.userCache.put(profile.getId(), user);
-        this.knownUUIDs.add(profile.getId());
+        try {
+            // Loaders run in parallel, the cache makes sure each user is only read once
+            this.userCache.get(profile.getId(), uuid -> {
+                try {
+                    return SpongeUserData.create(profile);
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+        final @Nullable Path dataFile = this.getPlayerDataFile(profile.getId());
+        this.index.update(profile.getId(), profile.getName(), dataFile == null ? 0L : Files.getLastModifiedTime(dataFile).toMillis());
     }
 
     public void markDirty(final SpongeUserData user) {
         if (user != this.userCache.getIfPresent(user.uniqueId())) {
             SpongeCommon.logger()
                     .error("User {} is either online or the data has has dropped out of the cache and will not be saved.", user.uniqueId());
-        } else {
-            this.dirtyUsers.add(user);
+        } else if (this.dirtyUsers.add(user)) {
+            this.reweigh(user);
         }
     }
 
@@ -330,10 +406,14 @@ void refreshFilesystemProfiles() {
         if (this.watchKey != null && this.watchKey.isValid()) {
             this.watchKey.reset();
         }
-        this.knownUUIDs.clear();
         this.userCache.invalidateAll();
+        this.reconcileFilesystemProfiles();
+    }
 
+    private void reconcileFilesystemProfiles() {
         // Add all known profiles from the data files
+        this.index.beginReconcile();
+        final Set<UUID> found = new HashSet<>();
         final String[] uuids = this.getSaveHandler().getSeenPlayers();
         for (final String playerUuid : uuids) {
 
@@ -352,20 +432,49 @@ void refreshFilesystemProfiles() {
                 continue;
             }
 
-            this.knownUUIDs.add(uuid);
+            found.add(uuid);
         }
+        this.index.reconcile(found);
     }
 
-    private void pollFilesystemWatcher() {
-        if (this.watchKey == null || !this.watchKey.isValid()) {
-            // Reboot this if it's somehow failed.
-            this.refreshFilesystemProfiles();
-            this.setupWatchers();
-            return;
+    private Path getIndexFile() {
+        return this.getSaveHandlerDirectory().resolveSibling(SpongeUserManager.INDEX_FILE);
+    }
+
+    private boolean readIndex() {
+        final Path file = this.getIndexFile();
+        if (!Files.exists(file)) {
+            return false;
+        }
+        try {
+            this.index.read(file);
+            return true;
+        } catch (final IOException e) {
+            SpongeCommon.logger().warn("Unable to read the user index {}, rebuilding it from the player data", file, e);
+            this.index.clear();
+            return false;
+        }
+    }
+
+    private void writeIndex() {
+        try {
+            this.index.write(this.getIndexFile());
+        } catch (final IOException e) {
+            SpongeCommon.logger().warn("Unable to write the user index", e);
         }
-        // We've already got the UUIDs, so we need to just see if the file system
-        // watcher has found any more (or removed any).
+    }
+
+    private void pollFilesystemWatcher() {
+        // Loaders run in parallel, only one of them should be processing events
         synchronized (this.watcherUpdateMap) {
+            if (this.watchKey == null || !this.watchKey.isValid()) {
+                // Reboot this if it's somehow failed.
+                this.refreshFilesystemProfiles();
+                this.setupWatchers();
+                return;
+            }
+            // We've already got the UUIDs, so we need to just see if the file system
+            // watcher has found any more (or removed any).
             this.watcherUpdateMap.clear();
             for (final WatchEvent<?> event : this.watchKey.pollEvents()) {
                 @SuppressWarnings("unchecked") final WatchEvent<Path> ev = (WatchEvent<Path>) event;
@@ -392,9 +501,9 @@ private void pollFilesystemWatcher() {
 
                             // It will only be create or delete here.
                             if (kind == StandardWatchEventKinds.ENTRY_CREATE) {
-                                this.knownUUIDs.add(uuid);
+                                this.index.add(uuid);
                             } else {
-                                this.knownUUIDs.remove(uuid);
+                                this.index.remove(uuid);
                                 // We don't do this, in case we were caught at a bad time.
                                 // Everything else should handle it for us, however.
                                 // this.userCache.invalidate(uuid);
@@ -431,15 +540,36 @@ public void saveDirtyUsers() {
         for (final SpongeUserData user : new HashSet<>(this.dirtyUsers)) {
             try {
                 user.save();
+                this.index.update(user.uniqueId(), null, System.currentTimeMillis());
             } catch (final IOException ignored) {
                 // There isn't much we can do here. The error has been logged, but
                 // the user is still available at this time so let's continue...
             }
         }
+        if (this.index.isDirty()) {
+            if (this.server.isRunning()) {
+                // A write that is still queued picks up these changes as well
+                if (this.indexWriteQueued.compareAndSet(false, true)) {
+                    this.executorService.execute(() -> {
+                        this.indexWriteQueued.set(false);
+                        this.writeIndex();
+                    });
+                }
+            } else {
+                this.writeIndex();
+            }
+        }
     }
 
     public void unmarkDirty(final SpongeUserData user) {
-        this.dirtyUsers.remove(user);
+        if (this.dirtyUsers.remove(user)) {
+            this.reweigh(user);
+        }
+    }
+
+    private void reweigh(final SpongeUserData user) {
+        // Replacing the user with itself makes the cache weigh it again
+        this.userCache.asMap().replace(user.uniqueId(), user, user);
     }
 
     public @Nullable SpongeUserData userFromCache(final UUID uuid) {
@@ -161,7 +161,10 @@ public static final class V3 {
 
         public static final String SPONGE_ENTITY_CREATOR = "Creator";
         public static final String SPONGE_ENTITY_NOTIFIER = "Notifier";
+        @Deprecated
         public static final String SPONGE_BLOCK_POS_TABLE = "BlockPosTable";
+        public static final String SPONGE_TRACKED_POSITIONS = "TrackedPositions";
+        public static final String SPONGE_TRACKED_INDICES = "TrackedIndices";
 
         @Deprecated
         public static final String LEGACY_SPONGE_PLAYER_UUID_TABLE = "PlayerIdTable";
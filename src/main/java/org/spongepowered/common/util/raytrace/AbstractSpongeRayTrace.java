@@ -39,10 +39,9 @@
 import org.spongepowered.api.world.LocatableBlock;
 import org.spongepowered.api.world.server.ServerLocation;
 import org.spongepowered.api.world.server.ServerWorld;
-import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.math.vector.Vector3d;
-import org.spongepowered.math.vector.Vector3i;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -152,52 +151,61 @@
     @Override
     public @NonNull Optional<RayTraceResult<@NonNull T>> execute() {
         this.setupEnd();
+        return this.trace(new RayTraceCursor(this.serverWorld()), this.start, this.end);
+    }
 
-        // get the direction
-        final Vector3d directionWithLength = this.end.sub(this.start);
-        final double length = directionWithLength.length();
-        final Vector3d direction = directionWithLength.normalize();
-        if (direction.lengthSquared() == 0) {
-            throw new IllegalStateException("The start and end must be two different vectors");
+    /**
+     * Traces many rays through the world of this ray trace, using the
+     * filters set on this ray trace for all of them. The source and end
+     * position of this ray trace are ignored.
+     *
+     * @param sourcePositions The start of each ray
+     * @param endPositions The end of each ray
+     * @return The result of each ray, in the same order as the positions
+     */
+    public @NonNull List<Optional<RayTraceResult<@NonNull T>>> executeAll(final @NonNull List<Vector3d> sourcePositions,
+            final @NonNull List<Vector3d> endPositions) {
+        if (sourcePositions.size() != endPositions.size()) {
+            throw new IllegalArgumentException("There must be as many end positions as source positions");
         }
+        this.validateFilters();
 
-        final ServerWorld serverWorld = Sponge.server().worldManager().world(this.world)
-                .orElseThrow(() -> new IllegalStateException("World with key " + this.world.formatted() + " is not loaded!"));
+        final RayTraceCursor cursor = new RayTraceCursor(this.serverWorld());
+        final List<Optional<RayTraceResult<@NonNull T>>> results = new ArrayList<>(sourcePositions.size());
+        for (int i = 0; i < sourcePositions.size(); i++) {
+            results.add(this.trace(cursor, sourcePositions.get(i), endPositions.get(i)));
+        }
+        return results;
+    }
 
-        Vector3i currentBlock = this.initialBlock(direction);
-        final Vector3i steps = this.createSteps(direction);
+    private Optional<RayTraceResult<@NonNull T>> trace(final RayTraceCursor cursor, final Vector3d start, final Vector3d end) {
+        if (end.distanceSquared(start) == 0) {
+            throw new IllegalStateException("The start and end must be two different vectors");
+        }
+
+        cursor.start(start, end);
+        if (this.requiresEntityTracking()) {
+            // Query the entities along the whole ray once, rather than once per block.
+            final AABB sweptAABB = new AABB(
+                    Math.floor(Math.min(start.x(), end.x())), Math.floor(Math.min(start.y(), end.y())), Math.floor(Math.min(start.z(), end.z())),
+                    Math.floor(Math.max(start.x(), end.x())) + 1, Math.floor(Math.max(start.y(), end.y())) + 1,
+                    Math.floor(Math.max(start.z(), end.z())) + 1);
+            cursor.selectableEntities = this.selectEntities(cursor.world, sweptAABB);
+            cursor.failingEntities = this.continueWhileEntity == null ? Collections.emptyList() : this.getFailingEntities(cursor.world, sweptAABB);
+        }
 
-        // The ray equation is, vec(u) + t vec(d). From a point (x, y), there is a t
-        // that we need to traverse to get to a boundary. We work that out now...
-        TData tData = this.createInitialTData(direction);
-        Vector3d currentLocation = new Vector3d(this.start.x(), this.start.y(), this.start.z());
-        final boolean requiresEntityTracking = this.requiresEntityTracking();
+        while (true) {
+            // If this is the last step, we break out of the loop after this set of checks.
+            final boolean lastStep = cursor.step();
 
-        boolean requireAdvancement = true;
-        while (requireAdvancement) {
-            final net.minecraft.world.phys.Vec3 vec3dstart = VecHelper.toVanillaVector3d(currentLocation);
             // As this iteration is for the CURRENT block location, we need to check where we are with the filter.
-            if (this.continueWhileLocation != null && !this.continueWhileLocation.test(ServerLocation.of(serverWorld, currentBlock))) {
+            if (this.continueWhileLocation != null
+                    && !this.continueWhileLocation.test(ServerLocation.of(cursor.world, cursor.blockX, cursor.blockY, cursor.blockZ))) {
                 return Optional.empty();
             }
-            final Vector3d nextLocation;
-            final net.minecraft.world.phys.Vec3 vec3dend;
-            if (tData.getTotalTWithNextStep() > length) {
-                // This is the last step, we break out of the loop after this set of checks.
-                requireAdvancement = false;
-                nextLocation = this.end;
-                vec3dend = VecHelper.toVanillaVector3d(this.end);
-            } else {
-                nextLocation = currentLocation.add(
-                        direction.x() * tData.getNextStep(),
-                        direction.y() * tData.getNextStep(),
-                        direction.z() * tData.getNextStep()
-                );
-                vec3dend = VecHelper.toVanillaVector3d(nextLocation);
-            }
 
             // Get the selection result.
-            final Optional<RayTraceResult<@NonNull T>> result = this.testSelectLocation(serverWorld, vec3dstart, vec3dend);
+            final Optional<RayTraceResult<@NonNull T>> result = this.testSelectLocation(cursor);
             if (result.isPresent() && !this.shouldCheckFailures()) {
                 // either this is a block ray, so no failures need to be checked, else
                 // we return the entity later if there isn't an entity in front of it
@@ -206,24 +214,27 @@
             }
 
             // Ensure that the block can be travelled through.
-            if (!this.shouldAdvanceThroughBlock(serverWorld, vec3dstart, vec3dend)) {
+            if (this.continueWhileBlock != null && !this.continueWhileBlock.test(cursor.block())) {
                 return Optional.empty();
             }
 
             // Ensure that the entities in the block can be travelled through.
-            if (requiresEntityTracking && this.continueWhileEntity != null) {
+            if (!cursor.failingEntities.isEmpty()) {
                 final double resultDistance;
                 if (result.isPresent()) {
-                    resultDistance = result.get().hitPosition().distanceSquared(currentLocation);
+                    final Vector3d hitPosition = result.get().hitPosition();
+                    resultDistance = cursor.distanceSquaredFromStart(hitPosition.x(), hitPosition.y(), hitPosition.z());
                 } else {
                     resultDistance = Double.MAX_VALUE;
                 }
-                final AABB targetAABB = this.getBlockAABB(currentBlock);
-                for (final net.minecraft.world.entity.Entity entity : this.getFailingEntities(serverWorld, targetAABB)) {
-                    final Optional<net.minecraft.world.phys.Vec3> vec3d = entity.getBoundingBox().clip(vec3dstart, vec3dend);
+                for (final net.minecraft.world.entity.Entity entity : cursor.failingEntities) {
+                    if (!cursor.isInBlock(entity)) {
+                        continue;
+                    }
+                    final Optional<net.minecraft.world.phys.Vec3> vec3d = entity.getBoundingBox().clip(cursor.from(), cursor.to());
                     if (vec3d.isPresent()) {
                         final net.minecraft.world.phys.Vec3 hitPosition = vec3d.get();
-                        final double sqdist = hitPosition.distanceToSqr(vec3dstart);
+                        final double sqdist = cursor.distanceSquaredFromStart(hitPosition.x, hitPosition.y, hitPosition.z);
                         if (sqdist < resultDistance) {
                             // We have a failure, so at this point we just bail out and end the trace.
                             return Optional.empty();
@@ -233,18 +244,12 @@
             }
 
             // If we still have a result at this point, return it.
-            if (result.isPresent()) {
+            if (result.isPresent() || lastStep) {
                 return result;
             }
 
-            if (requireAdvancement) {
-                currentLocation = nextLocation;
-                currentBlock = this.getNextBlock(currentBlock, tData, steps);
-                tData = this.advance(tData, steps, direction);
-            }
+            cursor.advance();
         }
-
-        return Optional.empty();
     }
 
     @Override
@@ -259,27 +264,6 @@
         return this;
     }
 
-    final Vector3i getNextBlock(final Vector3i current, final TData data, final Vector3i steps) {
-        return current.add(
-                data.nextStepWillAdvanceX() ? steps.x() : 0,
-                data.nextStepWillAdvanceY() ? steps.y() : 0,
-                data.nextStepWillAdvanceZ() ? steps.x() : 0
-        );
-    }
-
-    final Vector3i createSteps(final Vector3d direction) {
-        return new Vector3i(
-                Math.signum(direction.x()),
-                Math.signum(direction.y()),
-                Math.signum(direction.z())
-        );
-    }
-
-    final AABB getBlockAABB(final Vector3i currentBlock) {
-        return new AABB(currentBlock.x(),
-                currentBlock.y(), currentBlock.z(), currentBlock.x() + 1, currentBlock.y() + 1, currentBlock.z() + 1);
-    }
-
     private List<net.minecraft.world.entity.Entity> getFailingEntities(final ServerWorld serverWorld, final AABB targetAABB) {
         return ((Level) serverWorld).getEntities((net.minecraft.world.entity.Entity) null, targetAABB, (Predicate) this.continueWhileEntity.negate());
     }
@@ -292,28 +276,7 @@ List<net.minecraft.world.entity.Entity> selectEntities(final ServerWorld serverW
         return Collections.emptyList();
     }
 
-    abstract Optional<RayTraceResult<@NonNull T>> testSelectLocation(final ServerWorld serverWorld,
-            final net.minecraft.world.phys.Vec3 location,
-            final net.minecraft.world.phys.Vec3 exitLocation);
-
-    final LocatableBlock getBlock(final ServerWorld world, final net.minecraft.world.phys.Vec3 in, final net.minecraft.world.phys.Vec3 out) {
-        final Vector3i coord = new Vector3i(
-                Math.min(in.x, out.x),
-                Math.min(in.y, out.y),
-                Math.min(in.z, out.z)
-        );
-        return world.locatableBlock(coord);
-    }
-
-    private boolean shouldAdvanceThroughBlock(final ServerWorld serverWorld,
-            final net.minecraft.world.phys.Vec3 location,
-            final net.minecraft.world.phys.Vec3 exitLocation) {
-        if (this.continueWhileBlock == null) {
-            return true;
-        }
-
-        return this.continueWhileBlock.test(this.getBlock(serverWorld, location, exitLocation));
-    }
+    abstract Optional<RayTraceResult<@NonNull T>> testSelectLocation(final RayTraceCursor cursor);
 
     boolean shouldCheckFailures() {
         return false;
@@ -326,107 +289,25 @@ final void setupEnd() {
         if (this.end == null && this.direction == null) {
             throw new IllegalStateException("end or direction needs to be specified");
         }
-        if (this.world == null) {
-            throw new IllegalStateException("world cannot be null");
-        }
-        if (this.select == null) {
-            throw new IllegalStateException("select filter cannot be null");
-        }
+        this.validateFilters();
 
         if (this.direction != null) {
             this.continueUntil(this.start.add(this.direction.mul(this.limit)));
         }
     }
 
-    final Vector3i initialBlock(final Vector3d direction) {
-        return new Vector3i(
-                this.start.x() - (direction.x() < 0 && this.start.x() == 0 ? 1 : 0),
-                this.start.y() - (direction.y() < 0 && this.start.y() == 0 ? 1 : 0),
-                this.start.z() - (direction.z() < 0 && this.start.z() == 0 ? 1 : 0)
-        );
-    }
-
-    final TData createInitialTData(final Vector3d direction) {
-        return new TData(
-                0,
-                this.getT(this.start.x(), direction.x(), this.end.x()),
-                this.getT(this.start.y(), direction.y(), this.end.y()),
-                this.getT(this.start.z(), direction.z(), this.end.z())
-        );
-    }
-
-    final TData advance(final TData data, final Vector3i steps, final Vector3d direction) {
-        final double nextStep = data.getNextStep();
-        return new TData(
-                data.getTotalTWithNextStep(),
-                data.nextStepWillAdvanceX() ? steps.x() / direction.x() : data.gettToX() - nextStep,
-                data.nextStepWillAdvanceY() ? steps.y() / direction.y() : data.gettToY() - nextStep,
-                data.nextStepWillAdvanceZ() ? steps.z() / direction.z() : data.gettToZ() - nextStep
-        );
-    }
-
-    private double getT(final double start, final double direction, final double end) {
-        if (direction > 0) {
-            return (Math.min(end, Math.ceil(start)) - start) / direction;
-        } else if (direction < 0) {
-            return (Math.max(end, Math.floor(start)) - start) / direction;
-        } else {
-            // Infinity - indicates we never reach a boundary.
-            return Double.POSITIVE_INFINITY;
-        }
-    }
-
-    static final class TData {
-
-        private final double totalT;
-        private final double tToX;
-        private final double tToY;
-        private final double tToZ;
-        private final double nextStep;
-
-        TData(final double totalT, final double tToX, final double tToY, final double tToZ) {
-            this.totalT = totalT;
-            this.tToX = tToX;
-            this.tToY = tToY;
-            this.tToZ = tToZ;
-            this.nextStep = Math.min(tToX, Math.min(tToY, tToZ));
-        }
-
-        public double getTotalT() {
-            return this.totalT;
-        }
-
-        public double gettToX() {
-            return this.tToX;
-        }
-
-        public double gettToY() {
-            return this.tToY;
-        }
-
-        public double gettToZ() {
-            return this.tToZ;
-        }
-
-        public boolean nextStepWillAdvanceX() {
-            return this.tToX <= this.nextStep;
-        }
-
-        public boolean nextStepWillAdvanceY() {
-            return this.tToY <= this.nextStep;
-        }
-
-        public boolean nextStepWillAdvanceZ() {
-            return this.tToZ <= this.nextStep;
+    final void validateFilters() {
+        if (this.world == null) {
+            throw new IllegalStateException("world cannot be null");
         }
-
-        public double getNextStep() {
-            return this.nextStep;
+        if (this.select == null) {
+            throw new IllegalStateException("select filter cannot be null");
         }
+    }
 
-        public double getTotalTWithNextStep() {
-            return this.nextStep + this.totalT;
-        }
+    final ServerWorld serverWorld() {
+        return Sponge.server().worldManager().world(this.world)
+                .orElseThrow(() -> new IllegalStateException("World with key " + this.world.formatted() + " is not loaded!"));
     }
 
 }
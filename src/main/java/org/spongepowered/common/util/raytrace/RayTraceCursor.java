@@ -0,0 +1,242 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util.raytrace;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.phys.Vec3;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.world.LocatableBlock;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.common.world.server.SpongeLocatableBlock;
+import org.spongepowered.math.vector.Vector3d;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The mutable state of a ray trace as it steps from voxel to voxel.
+ *
+ * <p>Each step covers the segment of the ray from where it enters a voxel to
+ * where it leaves it, or to the end of the ray on the last step.</p>
+ *
+ * <p>A cursor holds the segment of the ray within the current voxel, and
+ * only creates the vanilla vectors and the {@link LocatableBlock} of a step
+ * when they are asked for. Block states are read straight from the chunk
+ * sections, and the chunk last read from is kept so consecutive steps
+ * through it don't look it up again. A cursor may be reused for several rays in the same world.</p>
+ */
+final class RayTraceCursor {
+
+    final ServerWorld world;
+
+    double fromX;
+    double fromY;
+    double fromZ;
+    double toX;
+    double toY;
+    double toZ;
+    int blockX;
+    int blockY;
+    int blockZ;
+
+    // Entities along the whole ray, queried once when the ray starts
+    List<net.minecraft.world.entity.Entity> selectableEntities = Collections.emptyList();
+    List<net.minecraft.world.entity.Entity> failingEntities = Collections.emptyList();
+
+    private @Nullable Vec3 from;
+    private @Nullable Vec3 to;
+    private @Nullable LocatableBlock block;
+
+    private @Nullable LevelChunk chunk;
+    private int chunkX;
+    private int chunkZ;
+
+    // The ray equation is, vec(u) + t vec(d). From a point (x, y), there is a t
+    // that we need to traverse to get to a boundary, tracked for each axis.
+    private double endX;
+    private double endY;
+    private double endZ;
+    private double length;
+    private double directionX;
+    private double directionY;
+    private double directionZ;
+    private int stepX;
+    private int stepY;
+    private int stepZ;
+    private double tToX;
+    private double tToY;
+    private double tToZ;
+    private double totalT;
+    private double nextStep;
+
+    RayTraceCursor(final ServerWorld world) {
+        this.world = world;
+    }
+
+    /**
+     * Starts tracing the ray between the given positions, which must differ.
+     *
+     * @param start The start of the ray
+     * @param end The end of the ray
+     */
+    void start(final Vector3d start, final Vector3d end) {
+        this.length = end.distance(start);
+        this.directionX = (end.x() - start.x()) / this.length;
+        this.directionY = (end.y() - start.y()) / this.length;
+        this.directionZ = (end.z() - start.z()) / this.length;
+        this.stepX = (int) Math.signum(this.directionX);
+        this.stepY = (int) Math.signum(this.directionY);
+        this.stepZ = (int) Math.signum(this.directionZ);
+        this.tToX = RayTraceCursor.getT(start.x(), this.directionX, end.x());
+        this.tToY = RayTraceCursor.getT(start.y(), this.directionY, end.y());
+        this.tToZ = RayTraceCursor.getT(start.z(), this.directionZ, end.z());
+        this.totalT = 0;
+        this.endX = end.x();
+        this.endY = end.y();
+        this.endZ = end.z();
+        this.fromX = start.x();
+        this.fromY = start.y();
+        this.fromZ = start.z();
+        this.from = null;
+    }
+
+    /**
+     * Sets the segment of the current step, up to the next voxel boundary or
+     * the end of the ray.
+     *
+     * @return Whether this is the last step of the ray
+     */
+    boolean step() {
+        this.nextStep = Math.min(this.tToX, Math.min(this.tToY, this.tToZ));
+        final boolean lastStep = this.totalT + this.nextStep > this.length;
+        if (lastStep) {
+            this.to(this.endX, this.endY, this.endZ);
+        } else {
+            this.to(this.fromX + this.directionX * this.nextStep, this.fromY + this.directionY * this.nextStep,
+                    this.fromZ + this.directionZ * this.nextStep);
+        }
+        return lastStep;
+    }
+
+    /**
+     * Sets the end of the segment of the current step, and so the voxel the
+     * step is in.
+     */
+    private void to(final double x, final double y, final double z) {
+        this.toX = x;
+        this.toY = y;
+        this.toZ = z;
+        this.to = null;
+        this.block = null;
+        this.blockX = (int) Math.floor(Math.min(this.fromX, x));
+        this.blockY = (int) Math.floor(Math.min(this.fromY, y));
+        this.blockZ = (int) Math.floor(Math.min(this.fromZ, z));
+    }
+
+    /**
+     * Moves on to the next step, which starts where the current one ends.
+     */
+    void advance() {
+        this.totalT += this.nextStep;
+        this.tToX = this.tToX <= this.nextStep ? this.stepX / this.directionX : this.tToX - this.nextStep;
+        this.tToY = this.tToY <= this.nextStep ? this.stepY / this.directionY : this.tToY - this.nextStep;
+        this.tToZ = this.tToZ <= this.nextStep ? this.stepZ / this.directionZ : this.tToZ - this.nextStep;
+        this.fromX = this.toX;
+        this.fromY = this.toY;
+        this.fromZ = this.toZ;
+        this.from = this.to;
+    }
+
+    Vec3 from() {
+        if (this.from == null) {
+            this.from = new Vec3(this.fromX, this.fromY, this.fromZ);
+        }
+        return this.from;
+    }
+
+    Vec3 to() {
+        if (this.to == null) {
+            this.to = new Vec3(this.toX, this.toY, this.toZ);
+        }
+        return this.to;
+    }
+
+    double distanceSquaredFromStart(final double x, final double y, final double z) {
+        final double deltaX = x - this.fromX;
+        final double deltaY = y - this.fromY;
+        final double deltaZ = z - this.fromZ;
+        return deltaX * deltaX + deltaY * deltaY + deltaZ * deltaZ;
+    }
+
+    boolean isInBlock(final net.minecraft.world.entity.Entity entity) {
+        return entity.getBoundingBox().intersects(this.blockX, this.blockY, this.blockZ, this.blockX + 1, this.blockY + 1, this.blockZ + 1);
+    }
+
+    LocatableBlock block() {
+        if (this.block == null) {
+            this.block = new SpongeLocatableBlock(this.world, this.blockX, this.blockY, this.blockZ,
+                    this.blockState(this.blockX, this.blockY, this.blockZ));
+        }
+        return this.block;
+    }
+
+    private BlockState blockState(final int x, final int y, final int z) {
+        if (Level.isOutsideBuildHeight(y)) {
+            return (BlockState) Blocks.VOID_AIR.defaultBlockState();
+        }
+        final ServerLevel level = (ServerLevel) this.world;
+        if (level.isDebug()) {
+            return this.world.block(x, y, z);
+        }
+        LevelChunk chunk = this.chunk;
+        if (chunk == null || this.chunkX != x >> 4 || this.chunkZ != z >> 4) {
+            chunk = level.getChunk(x >> 4, z >> 4);
+            this.chunk = chunk;
+            this.chunkX = x >> 4;
+            this.chunkZ = z >> 4;
+        }
+        final LevelChunkSection section = chunk.getSections()[y >> 4];
+        if (LevelChunkSection.isEmpty(section)) {
+            return (BlockState) Blocks.AIR.defaultBlockState();
+        }
+        return (BlockState) section.getBlockState(x & 15, y & 15, z & 15);
+    }
+
+    private static double getT(final double start, final double direction, final double end) {
+        if (direction > 0) {
+            return (Math.min(end, Math.ceil(start)) - start) / direction;
+        } else if (direction < 0) {
+            return (Math.max(end, Math.floor(start)) - start) / direction;
+        } else {
+            // Infinity - indicates we never reach a boundary.
+            return Double.POSITIVE_INFINITY;
+        }
+    }
+}
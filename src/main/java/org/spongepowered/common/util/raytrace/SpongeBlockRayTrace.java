@@ -24,14 +24,12 @@
  */
 package org.spongepowered.common.util.raytrace;
 
-import net.minecraft.world.phys.Vec3;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.block.BlockTypes;
 import org.spongepowered.api.util.blockray.RayTraceResult;
 import org.spongepowered.api.world.LocatableBlock;
-import org.spongepowered.api.world.server.ServerWorld;
-import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.math.vector.Vector3d;
 
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -48,13 +46,10 @@ public final class SpongeBlockRayTrace extends AbstractSpongeRayTrace<@NonNull L
     }
 
     @Override
-    final Optional<RayTraceResult<@NonNull LocatableBlock>> testSelectLocation(final ServerWorld serverWorld,
-            final Vec3 location,
-            final Vec3 exitLocation) {
-
-        final LocatableBlock initialBlock = this.getBlock(serverWorld, location, exitLocation);
+    final Optional<RayTraceResult<@NonNull LocatableBlock>> testSelectLocation(final RayTraceCursor cursor) {
+        final LocatableBlock initialBlock = cursor.block();
         if (this.select.test(initialBlock)) {
-            return Optional.of(new SpongeRayTraceResult<>(initialBlock, VecHelper.toVector3d(location)));
+            return Optional.of(new SpongeRayTraceResult<>(initialBlock, new Vector3d(cursor.fromX, cursor.fromY, cursor.fromZ)));
         }
         return Optional.empty();
     }
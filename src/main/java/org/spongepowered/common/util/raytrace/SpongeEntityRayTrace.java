@@ -30,7 +30,6 @@
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.util.blockray.RayTraceResult;
-import org.spongepowered.api.world.LocatableBlock;
 import org.spongepowered.api.world.server.ServerWorld;
 import org.spongepowered.common.util.VecHelper;
 
@@ -57,15 +56,17 @@ List<net.minecraft.world.entity.Entity> selectEntities(final ServerWorld serverW
     }
 
     @Override
-    final Optional<RayTraceResult<@NonNull Entity>> testSelectLocation(final ServerWorld serverWorld, final Vec3 vec3din, final Vec3 vec3dend) {
+    final Optional<RayTraceResult<@NonNull Entity>> testSelectLocation(final RayTraceCursor cursor) {
         double currentSqDist = Double.MAX_VALUE;
         RayTraceResult<@NonNull Entity> returnedEntity = null;
-        final LocatableBlock locatableBlock = this.getBlock(serverWorld, vec3din, vec3dend);
-        for (final net.minecraft.world.entity.Entity entity : this.selectEntities(serverWorld, this.getBlockAABB(locatableBlock.blockPosition()))) {
-            final Optional<Vec3> vec3d = entity.getBoundingBox().clip(vec3din, vec3dend);
+        for (final net.minecraft.world.entity.Entity entity : cursor.selectableEntities) {
+            if (!cursor.isInBlock(entity)) {
+                continue;
+            }
+            final Optional<Vec3> vec3d = entity.getBoundingBox().clip(cursor.from(), cursor.to());
             if (vec3d.isPresent()) {
                 final Vec3 hitPosition = vec3d.get();
-                final double sqdist = hitPosition.distanceToSqr(vec3din);
+                final double sqdist = cursor.distanceSquaredFromStart(hitPosition.x, hitPosition.y, hitPosition.z);
                 if (sqdist < currentSqDist) {
                     currentSqDist = sqdist;
                     returnedEntity = new SpongeRayTraceResult<>((Entity) entity, VecHelper.toVector3d(hitPosition));
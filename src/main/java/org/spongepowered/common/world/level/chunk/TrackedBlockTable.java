@@ -0,0 +1,168 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.level.chunk;
+
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
+import org.spongepowered.common.util.Constants;
+
+/**
+ * Creator and notifier indices of the blocks tracked within a single chunk.
+ *
+ * <p>Every position is keyed by {@link Constants.Sponge#blockPosToInt(BlockPos)}
+ * and both player indices are packed into one {@code long}, the creator in the
+ * upper and the notifier in the lower 32 bits, so a lookup never boxes and
+ * never allocates a tracker object.</p>
+ */
+public final class TrackedBlockTable {
+
+    public static final int UNTRACKED = -1;
+    static final long EMPTY = TrackedBlockTable.pack(TrackedBlockTable.UNTRACKED, TrackedBlockTable.UNTRACKED);
+
+    private final Int2LongOpenHashMap entries = new Int2LongOpenHashMap();
+
+    public TrackedBlockTable() {
+        this.entries.defaultReturnValue(TrackedBlockTable.EMPTY);
+    }
+
+    public static int key(final BlockPos pos) {
+        return Constants.Sponge.blockPosToInt(pos);
+    }
+
+    /**
+     * Converts a key produced by {@link Constants.Sponge#blockPosToShort(BlockPos)}
+     * into the int key used by this table.
+     */
+    public static int keyFromShort(final short key) {
+        final int x = key & Constants.Chunk.XZ_MASK;
+        final int y = (key >> 4) & 0xFF;
+        final int z = (key >> 12) & Constants.Chunk.XZ_MASK;
+        return x | (y << 4) | (z << 28);
+    }
+
+    static long pack(final int creator, final int notifier) {
+        return ((long) creator << 32) | (notifier & 0xFFFFFFFFL);
+    }
+
+    static int creator(final long packed) {
+        return (int) (packed >> 32);
+    }
+
+    static int notifier(final long packed) {
+        return (int) packed;
+    }
+
+    public boolean isEmpty() {
+        return this.entries.isEmpty();
+    }
+
+    public int size() {
+        return this.entries.size();
+    }
+
+    public boolean contains(final int key) {
+        return this.entries.containsKey(key);
+    }
+
+    public int creator(final int key) {
+        return TrackedBlockTable.creator(this.entries.get(key));
+    }
+
+    public int notifier(final int key) {
+        return TrackedBlockTable.notifier(this.entries.get(key));
+    }
+
+    public void set(final int key, final int creator, final int notifier) {
+        if (creator == TrackedBlockTable.UNTRACKED && notifier == TrackedBlockTable.UNTRACKED) {
+            this.entries.remove(key);
+        } else {
+            this.entries.put(key, TrackedBlockTable.pack(creator, notifier));
+        }
+    }
+
+    public void setCreator(final int key, final int creator) {
+        this.set(key, creator, this.notifier(key));
+    }
+
+    public void setNotifier(final int key, final int notifier) {
+        this.set(key, this.creator(key), notifier);
+    }
+
+    public void remove(final int key) {
+        this.entries.remove(key);
+    }
+
+    public void clear() {
+        this.entries.clear();
+    }
+
+    /**
+     * Writes this table as two parallel arrays, one holding the position
+     * keys and the other the packed creator and notifier indices.
+     */
+    public void write(final CompoundTag compound) {
+        final int[] keys = new int[this.entries.size()];
+        final long[] values = new long[keys.length];
+        int i = 0;
+        for (final ObjectIterator<Int2LongMap.Entry> it = this.entries.int2LongEntrySet().fastIterator(); it.hasNext(); i++) {
+            final Int2LongMap.Entry entry = it.next();
+            keys[i] = entry.getIntKey();
+            values[i] = entry.getLongValue();
+        }
+        compound.putIntArray(Constants.Sponge.SPONGE_TRACKED_POSITIONS, keys);
+        compound.putLongArray(Constants.Sponge.SPONGE_TRACKED_INDICES, values);
+    }
+
+    /**
+     * Reads the entries written by {@link #write(CompoundTag)}, falling back
+     * to the legacy {@link Constants.Sponge#SPONGE_BLOCK_POS_TABLE} list of
+     * per-position compounds when the compact arrays are absent.
+     */
+    public void read(final CompoundTag compound) {
+        if (compound.contains(Constants.Sponge.SPONGE_TRACKED_POSITIONS, Constants.NBT.TAG_INT_ARRAY)) {
+            final int[] keys = compound.getIntArray(Constants.Sponge.SPONGE_TRACKED_POSITIONS);
+            final long[] values = compound.getLongArray(Constants.Sponge.SPONGE_TRACKED_INDICES);
+            final int length = Math.min(keys.length, values.length);
+            this.entries.ensureCapacity(length);
+            for (int i = 0; i < length; i++) {
+                if (values[i] != TrackedBlockTable.EMPTY) {
+                    this.entries.put(keys[i], values[i]);
+                }
+            }
+            return;
+        }
+        for (final Tag tag : compound.getList(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, Constants.NBT.TAG_COMPOUND)) {
+            final CompoundTag data = (CompoundTag) tag;
+            final int creator = data.contains("owner") ? data.getInt("owner") : TrackedBlockTable.UNTRACKED;
+            final int notifier = data.contains("notifier") ? data.getInt("notifier") : TrackedBlockTable.UNTRACKED;
+            final int key = data.contains("pos") ? TrackedBlockTable.keyFromShort(data.getShort("pos")) : data.getInt("ipos");
+            this.set(key, creator, notifier);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.level.redstone;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.RedStoneWireBlock;
+import net.minecraft.world.level.block.state.BlockState;
+import org.spongepowered.common.util.Constants;
+
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * The redstone wires placed in a level.
+ */
+public final class LevelRedstoneWires implements RedstoneWires {
+
+    private final Level level;
+    private final Block wire;
+    private final ToIntFunction<BlockPos> blockPower;
+
+    /**
+     * @param level The level
+     * @param wire The wire block
+     * @param blockPower Gets the power a wire receives from anything other
+     *     than wires, which only the wire block itself can tell
+     */
+    public LevelRedstoneWires(final Level level, final Block wire, final ToIntFunction<BlockPos> blockPower) {
+        this.level = level;
+        this.wire = wire;
+        this.blockPower = blockPower;
+    }
+
+    @Override
+    public int power(final BlockPos pos) {
+        final BlockState state = this.level.getBlockState(pos);
+        return state.is(this.wire) ? state.getValue(RedStoneWireBlock.POWER) : -1;
+    }
+
+    @Override
+    public int blockPower(final BlockPos pos) {
+        return this.blockPower.applyAsInt(pos);
+    }
+
+    @Override
+    public void setPower(final BlockPos pos, final int power) {
+        final BlockState state = this.level.getBlockState(pos);
+        this.level.setBlock(pos, state.setValue(RedStoneWireBlock.POWER, power), Constants.BlockChangeFlags.NOTIFY_CLIENTS);
+    }
+
+    /**
+     * Follows the same connections as vanilla's power lookup: sideways, up a
+     * step unless covered, and down a step past non conductors.
+     */
+    @Override
+    public void forEachConnectedWire(final BlockPos pos, final Consumer<BlockPos> action) {
+        final BlockPos above = pos.above();
+        final boolean coveredAbove = this.level.getBlockState(above).isRedstoneConductor(this.level, above);
+        for (final Direction direction : Direction.Plane.HORIZONTAL) {
+            final BlockPos side = pos.relative(direction);
+            final BlockState sideState = this.level.getBlockState(side);
+            this.acceptWire(side, sideState, action);
+            if (sideState.isRedstoneConductor(this.level, side)) {
+                if (!coveredAbove) {
+                    final BlockPos up = side.above();
+                    this.acceptWire(up, this.level.getBlockState(up), action);
+                }
+            } else {
+                final BlockPos down = side.below();
+                this.acceptWire(down, this.level.getBlockState(down), action);
+            }
+        }
+    }
+
+    private void acceptWire(final BlockPos pos, final BlockState state, final Consumer<BlockPos> action) {
+        if (state.is(this.wire)) {
+            action.accept(pos);
+        }
+    }
+
+}
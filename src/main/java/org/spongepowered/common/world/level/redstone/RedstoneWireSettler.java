@@ -0,0 +1,133 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.level.redstone;
+
+import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
+import net.minecraft.core.BlockPos;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Settles the power of redstone wires breadth first, as done by Eigen
+ * redstone.
+ */
+public final class RedstoneWireSettler {
+
+    /**
+     * Settles the power of the wire at the given position and of every wire
+     * depending on it. Wires losing power are handled first: each one drops
+     * to the power it gets from non-wire sources alone, rather than stepping
+     * down one level at a time, and the wires still fed by a source then
+     * raise the power back up from that source outwards. Only wires whose
+     * power changed pass the change on to the wires connected to them.
+     *
+     * @param wires The wires
+     * @param origin The position of the wire to settle
+     * @param vanillaDecrement Whether wires losing power step down to the
+     *     power of their neighbors, like vanilla
+     * @param changed The positions of the wires whose power changed, in the
+     *     order they changed
+     */
+    public static void settle(final RedstoneWires wires, final BlockPos origin, final boolean vanillaDecrement,
+            final ObjectLinkedOpenHashSet<BlockPos> changed) {
+        final int originPower = wires.power(origin);
+        if (originPower < 0 || RedstoneWireSettler.targetPower(wires, origin, wires.blockPower(origin)) == originPower) {
+            return;
+        }
+
+        final ObjectLinkedOpenHashSet<BlockPos> turnOff = new ObjectLinkedOpenHashSet<>();
+        final ObjectLinkedOpenHashSet<BlockPos> turnOn = new ObjectLinkedOpenHashSet<>();
+        turnOff.add(origin.immutable());
+
+        while (!turnOff.isEmpty()) {
+            final BlockPos pos = turnOff.removeFirst();
+            final int oldPower = wires.power(pos);
+            if (oldPower < 0) {
+                continue;
+            }
+            final int blockPower = wires.blockPower(pos);
+            final int targetPower = RedstoneWireSettler.targetPower(wires, pos, blockPower);
+            if (targetPower < oldPower) {
+                final int power = vanillaDecrement ? targetPower : blockPower;
+                RedstoneWireSettler.setPower(wires, pos, power, changed);
+                if (power > 0 || targetPower > 0) {
+                    turnOn.add(pos);
+                }
+                RedstoneWireSettler.queueConnectedWires(wires, pos, power, turnOff, turnOn);
+            } else if (targetPower > oldPower) {
+                RedstoneWireSettler.setPower(wires, pos, targetPower, changed);
+                RedstoneWireSettler.queueConnectedWires(wires, pos, targetPower, turnOff, turnOn);
+            }
+        }
+
+        while (!turnOn.isEmpty()) {
+            final BlockPos pos = turnOn.removeFirst();
+            final int oldPower = wires.power(pos);
+            if (oldPower < 0) {
+                continue;
+            }
+            final int targetPower = RedstoneWireSettler.targetPower(wires, pos, wires.blockPower(pos));
+            if (targetPower > oldPower) {
+                RedstoneWireSettler.setPower(wires, pos, targetPower, changed);
+                RedstoneWireSettler.queueConnectedWires(wires, pos, targetPower, null, turnOn);
+            }
+        }
+    }
+
+    private static int targetPower(final RedstoneWires wires, final BlockPos pos, final int blockPower) {
+        if (blockPower >= 15) {
+            return blockPower;
+        }
+        final int[] wirePower = {0};
+        wires.forEachConnectedWire(pos, wire -> wirePower[0] = Math.max(wirePower[0], wires.power(wire)));
+        return Math.max(blockPower, wirePower[0] - 1);
+    }
+
+    private static void setPower(final RedstoneWires wires, final BlockPos pos, final int power,
+            final ObjectLinkedOpenHashSet<BlockPos> changed) {
+        wires.setPower(pos, power);
+        changed.add(pos);
+    }
+
+    /**
+     * Queues the wires connected to the given one whose power no longer
+     * matches it. Wires turning on are only queued for raising.
+     */
+    private static void queueConnectedWires(final RedstoneWires wires, final BlockPos pos, final int otherPower,
+            final @Nullable ObjectLinkedOpenHashSet<BlockPos> turnOff, final ObjectLinkedOpenHashSet<BlockPos> turnOn) {
+        wires.forEachConnectedWire(pos, wire -> {
+            final int power = wires.power(wire);
+            if (turnOff != null && power > otherPower) {
+                turnOff.add(wire.immutable());
+            }
+            if (power < otherPower - 1) {
+                turnOn.add(wire.immutable());
+            }
+        });
+    }
+
+    private RedstoneWireSettler() {
+    }
+
+}
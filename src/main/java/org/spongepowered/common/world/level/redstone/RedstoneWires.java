@@ -0,0 +1,64 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.level.redstone;
+
+import net.minecraft.core.BlockPos;
+
+import java.util.function.Consumer;
+
+/**
+ * The redstone wires of a level, as seen by the {@link RedstoneWireSettler}.
+ */
+public interface RedstoneWires {
+
+    /**
+     * Gets the power of the wire at the given position.
+     *
+     * @param pos The position
+     * @return The power, or -1 if there is no wire
+     */
+    int power(BlockPos pos);
+
+    /**
+     * Gets the power the wire at the given position receives from anything
+     * other than wires.
+     *
+     * @param pos The position of the wire
+     * @return The power
+     */
+    int blockPower(BlockPos pos);
+
+    void setPower(BlockPos pos, int power);
+
+    /**
+     * Passes every wire the given wire is connected to, and so exchanges
+     * power with, to the action.
+     *
+     * @param pos The position of the wire
+     * @param action The action
+     */
+    void forEachConnectedWire(BlockPos pos, Consumer<BlockPos> action);
+
+}
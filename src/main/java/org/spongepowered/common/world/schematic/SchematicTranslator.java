@@ -52,11 +52,8 @@
 import org.spongepowered.api.registry.RegistryTypes;
 import org.spongepowered.api.world.biome.Biome;
 import org.spongepowered.api.world.schematic.Palette;
-import org.spongepowered.api.world.schematic.PaletteTypes;
 import org.spongepowered.api.world.schematic.Schematic;
 import org.spongepowered.api.world.volume.archetype.entity.EntityArchetypeEntry;
-import org.spongepowered.api.world.volume.biome.BiomeVolume;
-import org.spongepowered.api.world.volume.block.BlockVolume;
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.block.BlockStateSerializerDeserializer;
 import org.spongepowered.common.block.entity.SpongeBlockEntityArchetypeBuilder;
@@ -67,12 +64,13 @@
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
 import org.spongepowered.common.world.volume.buffer.archetype.SpongeArchetypeVolume;
+import org.spongepowered.common.world.volume.buffer.block.ArrayMutableBlockBuffer;
 import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3i;
 
 import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -137,7 +135,7 @@ public Schematic translate(final DataView unprocessed) throws InvalidDataExcepti
         if (needsFixers) {
             final CompoundTag compound = NBTTranslator.INSTANCE.translate(schematicView);
             final CompoundTag updated = NbtUtils.update(SchematicTranslator.VANILLA_FIXER, DataFixTypes.CHUNK, compound, dataVersion);
-            updatedView = NBTTranslator.INSTANCE.translate(updated);
+            updatedView = NBTTranslator.INSTANCE.translateLazily(updated);
         } else {
             updatedView = schematicView;
         }
@@ -284,31 +282,32 @@ private static void deserializeBlockContainer(
         final Vector3i offset,
         final boolean needsFixers
     ) {
-        final MutableBimapPalette<BlockState, BlockType> palette;
         final DataView paletteMap = view.getView(Constants.Sponge.Schematic.BLOCK_PALETTE)
             .orElseThrow(() -> new InvalidDataException("Missing BlockPalette as required by Schematic Specification"));
         final Set<DataQuery> paletteKeys = paletteMap.keys(false);
-        // If we had a default palette_max we don't want to allocate all
-        // that space for nothing so we use a sensible default instead
-        palette = new MutableBimapPalette<>(
-            PaletteTypes.BLOCK_STATE_PALETTE.get(),
-            Sponge.game().registry(RegistryTypes.BLOCK_TYPE),
-            RegistryTypes.BLOCK_TYPE,
-            paletteKeys.size()
-        );
+        BlockState[] states = new BlockState[paletteKeys.size()];
         for (final DataQuery key : paletteKeys) {
             final BlockState state = BlockStateSerializerDeserializer.deserialize(key.parts().get(0))
                 .orElseGet(() -> BlockTypes.BEDROCK.get().defaultState());
-            palette.assign(state, paletteMap.getInt(key)
-                .orElseThrow(() -> new IllegalStateException("Somehow got a missing biome in the palette map for schematic"))
-            );
+            final int id = paletteMap.getInt(key)
+                .orElseThrow(() -> new IllegalStateException("Somehow got a missing biome in the palette map for schematic"));
+            states = SchematicTranslator.ensureIndex(states, id);
+            states[id] = state;
         }
 
         final byte[] blockData = (byte[]) view.get(Constants.Sponge.Schematic.BLOCK_DATA)
             .orElseThrow(() -> new InvalidDataException("Missing BlockData for Schematic"));
-        SchematicTranslator.readByteArrayData(
-            width, (width * length), offset, palette, blockData, archetypeVolume,
-            BlockVolume.Modifiable::setBlock
+        // Assign the whole palette up front so the backing data is sized once,
+        // instead of being regrown every time a block adds a new palette entry
+        final ArrayMutableBlockBuffer blocks = archetypeVolume.blockBuffer();
+        final int[] ids = blocks.assignAll(states);
+        SchematicTranslator.readByteArrayData(width, length, offset, blockData,
+            (x, y, z, id) -> {
+                if (id < 0 || id >= ids.length || ids[id] == -1) {
+                    throw new InvalidDataException("Block id " + id + " is missing from the BlockPalette");
+                }
+                blocks.setId(x, y, z, ids[id]);
+            }
         );
         view.getViewList(Constants.Sponge.Schematic.BLOCKENTITY_CONTAINER)
             .ifPresent(tileData ->
@@ -324,74 +323,85 @@ private static void deserializeBiomeContainer(
         final int length,
         final Vector3i offset
     ) {
-        final MutableBimapPalette<Biome, Biome> biomePalette;
         final DataView biomeMap = view.getView(Constants.Sponge.Schematic.BIOME_PALETTE)
             .orElseThrow(() -> new InvalidDataException("Missing BiomePalette as required by the schematic spec"));
 
         final Set<DataQuery> biomeKeys = biomeMap.keys(false);
         final Registry<Biome> biomeRegistry = VolumeStreamUtils.nativeToSpongeRegistry(BuiltinRegistries.BIOME);
-        biomePalette = new MutableBimapPalette<>(
-            PaletteTypes.BIOME_PALETTE.get(),
-            biomeRegistry,
-            RegistryTypes.BIOME,
-            biomeKeys.size()
-        );
-
+        Biome[] biomes = new Biome[biomeKeys.size()];
         for (final DataQuery biomeKey : biomeKeys) {
             final ResourceKey key = ResourceKey.resolve(biomeKey.parts().get(0));
             final Biome biome = biomeRegistry.findValue(key).get();
-            biomePalette.assign(biome, biomeMap.getInt(biomeKey).get());
+            final int id = biomeMap.getInt(biomeKey).get();
+            biomes = SchematicTranslator.ensureIndex(biomes, id);
+            biomes[id] = biome;
         }
         final byte[] biomeData = (byte[]) view.get(Constants.Sponge.Schematic.BIOME_DATA)
             .orElseThrow(() -> new InvalidDataException("Missing BlockData for Schematic"));
-        SchematicTranslator.readByteArrayData(
-            width, (width * length), offset, biomePalette, biomeData, archetypeVolume,
-            BiomeVolume.Modifiable::setBiome
+        final Biome[] biomesById = biomes;
+        SchematicTranslator.readByteArrayData(width, length, offset, biomeData,
+            (x, y, z, id) -> {
+                if (id < 0 || id >= biomesById.length || biomesById[id] == null) {
+                    throw new InvalidDataException("Biome id " + id + " is missing from the BiomePalette");
+                }
+                archetypeVolume.setBiome(x, y, z, biomesById[id]);
+            }
         );
     }
 
+    private static <T> T[] ensureIndex(final T[] array, final int index) {
+        if (index < 0) {
+            throw new InvalidDataException("Negative palette id " + index);
+        }
+        return index < array.length ? array : Arrays.copyOf(array, index + 1);
+    }
 
-    static interface PostSetter<V, T> {
+    @FunctionalInterface
+    interface IdSetter {
 
-        void apply(V volume, int x, int y, int z, T type);
+        void apply(int x, int y, int z, int id);
     }
 
-    private static <Buffer, Type, ParentType> void readByteArrayData(
+    /**
+     * Decodes the varint encoded ids of a schematic, in the schematic order
+     * {@code index = (y * length + z) * width + x}, directly out of the given
+     * bytes.
+     */
+    static void readByteArrayData(
         final int width,
-        final int i1,
+        final int length,
         final Vector3i offset,
-        final Palette<Type, ParentType> palette,
         final byte[] data,
-        final Buffer buffer,
-        final PostSetter<Buffer, Type> setter
+        final IdSetter setter
     ) {
-        int index = 0;
+        final int xMin = offset.x();
+        final int zMin = offset.z();
+        final int xMax = xMin + width;
+        final int zMax = zMin + length;
+        int x = xMin;
+        int y = offset.y();
+        int z = zMin;
         int i = 0;
-        int value = 0;
-        int varint_length = 0;
         while (i < data.length) {
-            value = 0;
-            varint_length = 0;
-
-            while (true) {
-                value |= (data[i] & 127) << (varint_length++ * 7);
-                if (varint_length > 5) {
-                    throw new RuntimeException("VarInt too big (probably corrupted data)");
+            int value = 0;
+            int varint_length = 0;
+            byte b;
+            do {
+                if (varint_length == 5 || i == data.length) {
+                    throw new InvalidDataException("VarInt too big (probably corrupted data)");
                 }
-                if ((data[i] & 128) != 128) {
-                    i++;
-                    break;
+                b = data[i++];
+                value |= (b & 127) << (varint_length++ * 7);
+            } while ((b & 128) == 128);
+
+            setter.apply(x, y, z, value);
+            if (++x == xMax) {
+                x = xMin;
+                if (++z == zMax) {
+                    z = zMin;
+                    y++;
                 }
-                i++;
             }
-            // index = (y * length + z) * width + x
-            final int y = index / i1;
-            final int z = (index % i1) / width;
-            final int x = (index % i1) % width;
-            final Type state = palette.get(value, Sponge.game()).get();
-            setter.apply(buffer, x + offset.x(), y + offset.y(), z + offset.z(), state);
-
-            index++;
         }
     }
 
@@ -436,24 +446,27 @@ public DataView addTo(final Schematic schematic, final DataView data) {
             final DataView blockData = data.createView(Constants.Sponge.Schematic.BLOCK_CONTAINER);
             final Palette.Mutable<BlockState, BlockType> palette = schematic.blockPalette().asMutable(
                 Sponge.server());
-            try (final ByteArrayOutputStream buffer = new ByteArrayOutputStream(width * height * length)) {
-                for (int y = 0; y < height; y++) {
-                    final int y0 = yMin + y;
-                    for (int z = 0; z < length; z++) {
-                        final int z0 = zMin + z;
-                        for (int x = 0; x < width; x++) {
-                            final int x0 = xMin + x;
-                            final BlockState state = schematic.block(x0, y0, z0);
-                            SchematicTranslator.writeIdToBuffer(buffer, palette.orAssign(state));
+            final VarIntBuffer buffer = new VarIntBuffer(width * height * length);
+            BlockState last = null;
+            int lastId = 0;
+            for (int y = 0; y < height; y++) {
+                final int y0 = yMin + y;
+                for (int z = 0; z < length; z++) {
+                    final int z0 = zMin + z;
+                    for (int x = 0; x < width; x++) {
+                        final int x0 = xMin + x;
+                        final BlockState state = schematic.block(x0, y0, z0);
+                        if (state != last) {
+                            last = state;
+                            lastId = palette.orAssign(state);
                         }
+                        buffer.write(lastId);
                     }
                 }
-
-                blockData.set(Constants.Sponge.Schematic.BLOCK_DATA, buffer.toByteArray());
-            } catch (final IOException e) {
-                // should never reach here
             }
 
+            blockData.set(Constants.Sponge.Schematic.BLOCK_DATA, buffer.toByteArray());
+
             final Registry<BlockType> blockRegistry = VolumeStreamUtils.nativeToSpongeRegistry(
                 net.minecraft.core.Registry.BLOCK);
 
@@ -488,25 +501,27 @@ public DataView addTo(final Schematic schematic, final DataView data) {
             final Palette.Mutable<Biome, Biome> biomePalette = schematic.biomePalette().asMutable(
                 Sponge.game());
 
-            try (final ByteArrayOutputStream buffer = new ByteArrayOutputStream(width * height * length)) {
-                for (int y = 0; y < height; y++) {
-                    final int y0 = yMin + y;
-                    for (int z = 0; z < length; z++) {
-                        final int z0 = zMin + z;
-                        for (int x = 0; x < width; x++) {
-                            final int x0 = xMin + x;
-                            final Biome state = schematic.biome(x0, y0, z0);
-                            SchematicTranslator.writeIdToBuffer(buffer, biomePalette.orAssign(state));
+            final VarIntBuffer buffer = new VarIntBuffer(width * height * length);
+            Biome last = null;
+            int lastId = 0;
+            for (int y = 0; y < height; y++) {
+                final int y0 = yMin + y;
+                for (int z = 0; z < length; z++) {
+                    final int z0 = zMin + z;
+                    for (int x = 0; x < width; x++) {
+                        final int x0 = xMin + x;
+                        final Biome state = schematic.biome(x0, y0, z0);
+                        if (state != last) {
+                            last = state;
+                            lastId = biomePalette.orAssign(state);
                         }
-
+                        buffer.write(lastId);
                     }
                 }
-
-                biomeContainer.set(Constants.Sponge.Schematic.BIOME_DATA, buffer.toByteArray());
-            } catch (final IOException e) {
-                // Should never reach here.
             }
 
+            biomeContainer.set(Constants.Sponge.Schematic.BIOME_DATA, buffer.toByteArray());
+
             final Registry<Biome> biomeRegistry = VolumeStreamUtils.nativeToSpongeRegistry(BuiltinRegistries.BIOME);
 
             SchematicTranslator.writePaletteToView(
@@ -577,4 +592,34 @@ public static void writeIdToBuffer(final ByteArrayOutputStream buffer, final int
         buffer.write(id);
     }
 
+    /**
+     * A growable byte array the ids of a schematic are varint encoded into,
+     * without the synchronization of a {@link ByteArrayOutputStream}.
+     */
+    static final class VarIntBuffer {
+
+        private byte[] bytes;
+        private int size;
+
+        VarIntBuffer(final int expectedSize) {
+            this.bytes = new byte[Math.max(16, expectedSize)];
+        }
+
+        void write(final int value) {
+            if (this.size + 5 > this.bytes.length) {
+                this.bytes = Arrays.copyOf(this.bytes, Math.max(this.bytes.length << 1, this.size + 5));
+            }
+            int id = value;
+            while ((id & -128) != 0) {
+                this.bytes[this.size++] = (byte) (id & 127 | 128);
+                id >>>= 7;
+            }
+            this.bytes[this.size++] = (byte) id;
+        }
+
+        byte[] toByteArray() {
+            return this.size == this.bytes.length ? this.bytes : Arrays.copyOf(this.bytes, this.size);
+        }
+    }
+
 }
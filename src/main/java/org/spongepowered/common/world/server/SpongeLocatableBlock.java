@@ -66,10 +66,14 @@ public final class SpongeLocatableBlock implements LocatableBlock {
     }
 
     SpongeLocatableBlock(final ServerWorld world, final int x, final int y, final int z) {
+        this(world, x, y, z, world.block(x, y, z));
+    }
+
+    public SpongeLocatableBlock(final ServerWorld world, final int x, final int y, final int z, final BlockState blockState) {
         this.world = world.key();
         this.worldRef = new WeakReference<>(world);
         this.position = new Vector3i(x, y, z);
-        this.blockState = world.block(x, y, z);
+        this.blockState = blockState;
     }
 
     @Override
@@ -84,6 +84,7 @@
 import org.spongepowered.api.registry.RegistryEntry;
 import org.spongepowered.api.registry.RegistryTypes;
 import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.util.Ticks;
 import org.spongepowered.api.util.file.DeleteFileVisitor;
 import org.spongepowered.api.world.DefaultWorldKeys;
 import org.spongepowered.api.world.WorldType;
@@ -127,6 +128,7 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -134,8 +136,6 @@
 import java.util.OptionalInt;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -144,6 +144,8 @@ public abstract class SpongeWorldManager implements WorldManager {
     private final MinecraftServer server;
     private final Path dimensionsDataPackDirectory, defaultWorldDirectory, customWorldsDirectory;
     private final Map<net.minecraft.resources.ResourceKey<Level>, ServerLevel> worlds;
+    private final Map<net.minecraft.resources.ResourceKey<Level>, CompletableFuture<org.spongepowered.api.world.server.ServerWorld>> loadingWorlds =
+        new HashMap<>();
 
     private static final TicketType<ResourceLocation> SPAWN_CHUNKS = TicketType.create("spawn_chunks", ResourceLocation::compareTo);
 
@@ -317,6 +319,11 @@ public CompletableFuture<org.spongepowered.api.world.server.ServerWorld> loadWor
             return FutureUtil.completedWithException(new IllegalArgumentException("The default world cannot be told to load!"));
         }
 
+        final CompletableFuture<org.spongepowered.api.world.server.ServerWorld> loading = this.loadingWorlds.get(registryKey);
+        if (loading != null) {
+            return loading;
+        }
+
         final ServerLevel serverWorld = this.worlds.get(registryKey);
         if (serverWorld != null) {
             return CompletableFuture.completedFuture((org.spongepowered.api.world.server.ServerWorld) serverWorld);
@@ -334,6 +341,11 @@ public CompletableFuture<org.spongepowered.api.world.server.ServerWorld> loadWor
             return FutureUtil.completedWithException(new IllegalArgumentException("The default world cannot be told to load!"));
         }
 
+        final CompletableFuture<org.spongepowered.api.world.server.ServerWorld> loading = this.loadingWorlds.get(registryKey);
+        if (loading != null) {
+            return loading;
+        }
+
         final ServerLevel world = this.worlds.get(registryKey);
         if (world != null) {
             return CompletableFuture.completedFuture((org.spongepowered.api.world.server.ServerWorld) world);
@@ -361,6 +373,15 @@ public CompletableFuture<org.spongepowered.api.world.server.ServerWorld> loadWor
 
     private CompletableFuture<org.spongepowered.api.world.server.ServerWorld> loadWorld0(final net.minecraft.resources.ResourceKey<Level> registryKey,
             final LevelStem template, final WorldGenSettings generatorSettings) {
+        final CompletableFuture<org.spongepowered.api.world.server.ServerWorld> loading = this.loadingWorlds.get(registryKey);
+        if (loading != null) {
+            return loading;
+        }
+        final ServerLevel loaded = this.worlds.get(registryKey);
+        if (loaded != null) {
+            return CompletableFuture.completedFuture((org.spongepowered.api.world.server.ServerWorld) loaded);
+        }
+
         final PrimaryLevelData defaultLevelData = (PrimaryLevelData) this.server.getWorldData();
         final LevelSettings defaultLevelSettings = ((PrimaryLevelDataAccessor) defaultLevelData).accessor$settings();
         final LevelStemBridge templateBridge = (LevelStemBridge) (Object) template;
@@ -417,7 +438,14 @@ private CompletableFuture<org.spongepowered.api.world.server.ServerWorld> loadWo
 
         this.prepareWorld(world, isDebugGeneration);
         ((MinecraftServerAccessor) this.server).invoker$forceDifficulty();
-        return this.postWorldLoad(world, false).thenApply(w -> (org.spongepowered.api.world.server.ServerWorld) w);
+        final CompletableFuture<org.spongepowered.api.world.server.ServerWorld> future = this.postWorldLoad(world)
+            .thenApply(w -> (org.spongepowered.api.world.server.ServerWorld) w);
+        if (!future.isDone()) {
+            // The spawn region is generated in the background, hand out the same future to anyone asking for this world meanwhile
+            this.loadingWorlds.put(registryKey, future);
+            future.whenComplete((w, t) -> this.loadingWorlds.remove(registryKey, future));
+        }
+        return future;
     }
 
     @Override
@@ -937,13 +965,14 @@ public void loadLevel() {
 
         ((MinecraftServerAccessor) this.server).invoker$forceDifficulty();
 
-        for (final Map.Entry<net.minecraft.resources.ResourceKey<Level>, ServerLevel> entry : this.worlds.entrySet()) {
-            try {
-                this.postWorldLoad(entry.getValue(), true).get();
-            } catch (final InterruptedException | ExecutionException e) {
-                throw new IllegalStateException(e);
+        // Ticket the spawn regions of all worlds at once so the chunk workers generate them side by side
+        final List<ServerLevel> spawnWorlds = new ArrayList<>();
+        for (final ServerLevel world : this.worlds.values()) {
+            if (this.performsSpawnLogic(world)) {
+                spawnWorlds.add(world);
             }
         }
+        this.loadSpawnChunks(spawnWorlds);
 
         ((SpongeUserManager) Sponge.server().userManager()).init();
         ((SpongeServer) SpongeCommon.server()).getPlayerDataManager().load();
@@ -1009,91 +1038,78 @@ private void prepareWorld(final ServerLevel world, final boolean isDebugGenerati
         }
     }
 
-    private CompletableFuture<ServerLevel> postWorldLoad(final ServerLevel world, final boolean blocking) {
-        final PrimaryLevelData levelData = (PrimaryLevelData) world.getLevelData();
-        final PrimaryLevelDataBridge levelBridge = (PrimaryLevelDataBridge) levelData;
-        if (Level.OVERWORLD.equals(world.dimension()) || levelBridge.bridge$performsSpawnLogic()) {
-            final Optional<ResourceKey> worldTypeKey = RegistryTypes.WORLD_TYPE.get().findValueKey((WorldType) world.dimensionType());
-            MinecraftServerAccessor.accessor$LOGGER().info("Preparing start region for world '{}' ({})", world.dimension().location(),
-                    worldTypeKey.map(ResourceKey::toString).orElse("inline"));
-            if (blocking) {
-                this.loadSpawnChunks(world);
-                return CompletableFuture.completedFuture(world); // Chunk are generated
-            } else {
-                return this.loadSpawnChunksAsync(world); // Chunks are NOT generated yet BUT will be when the future returns
-            }
+    private boolean performsSpawnLogic(final ServerLevel world) {
+        return Level.OVERWORLD.equals(world.dimension()) || ((PrimaryLevelDataBridge) world.getLevelData()).bridge$performsSpawnLogic();
+    }
+
+    private CompletableFuture<ServerLevel> postWorldLoad(final ServerLevel world) {
+        if (this.performsSpawnLogic(world)) {
+            return this.loadSpawnChunksAsync(world); // Chunks are NOT generated yet BUT will be when the future returns
         }
         return CompletableFuture.completedFuture(world); // Chunks are NOT generated AND will not generate unless prompted
     }
 
     private CompletableFuture<ServerLevel> loadSpawnChunksAsync(final ServerLevel world) {
+        final SpawnRegion region = new SpawnRegion(world);
+        region.ticket();
 
-        final BlockPos spawnPoint = world.getSharedSpawnPos();
-        final ChunkPos chunkPos = new ChunkPos(spawnPoint);
-        final ServerChunkCache serverChunkProvider = world.getChunkSource();
-        serverChunkProvider.getLightEngine().setTaskPerBatch(500);
-
-        final int borderRadius = 11;
-        final int diameter = ((borderRadius - 1) * 2) + 1;
-        final int spawnChunks = diameter * diameter;
-
-        serverChunkProvider.addRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, chunkPos, borderRadius, world.dimension().location());
         final CompletableFuture<ServerLevel> generationFuture = new CompletableFuture<>();
-        Sponge.asyncScheduler().submit(
+        // Chunks are generated off the main thread, so only poll the progress once a tick on the main thread
+        Sponge.server().scheduler().submit(
                 Task.builder().plugin(Launch.instance().platformPlugin())
                         .execute(task -> {
-                            if (serverChunkProvider.getTickingGenerated() >= spawnChunks) {
-                                Sponge.server().scheduler().submit(Task.builder().plugin(Launch.instance().platformPlugin()).execute(() -> generationFuture.complete(world)).build());
-                                // Notify the future that we are done
-                                task.cancel(); // And cancel this task
-                                final Optional<ResourceKey> worldTypeKey = RegistryTypes.WORLD_TYPE.get().findValueKey((WorldType) world.dimensionType());
-                                MinecraftServerAccessor.accessor$LOGGER().info("Done preparing start region for world '{}' ({})", world
-                                        .dimension().location(), worldTypeKey.map(ResourceKey::toString).orElse("inline"));
+                            if (this.worlds.get(world.dimension()) != world) {
+                                task.cancel();
+                                generationFuture.completeExceptionally(new IllegalStateException(String.format(
+                                        "World '%s' was unloaded while preparing its start region", world.dimension().location())));
+                                return;
+                            }
+                            region.reportProgress();
+                            if (region.isGenerated()) {
+                                task.cancel();
+                                this.updateForcedChunks(world, world.getChunkSource());
+                                region.release();
+                                generationFuture.complete(world);
                             }
                         })
-                        .interval(10, TimeUnit.MILLISECONDS)
+                        .interval(Ticks.single())
                         .build()
         );
-        return generationFuture.thenApply(v -> {
-            this.updateForcedChunks(world, serverChunkProvider);
-            serverChunkProvider.getLightEngine().setTaskPerBatch(5);
-
-            // Sponge Start - Release the chunk ticket if spawn is not set to be kept loaded...
-            if (!((PrimaryLevelDataBridge) world.getLevelData()).bridge$performsSpawnLogic()) {
-                serverChunkProvider.removeRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, chunkPos, 11, world.dimension().location());
-            }
-            return world;
-        });
+        return generationFuture;
     }
 
-    private void loadSpawnChunks(final ServerLevel world) {
-        final BlockPos spawnPoint = world.getSharedSpawnPos();
-        final ChunkPos chunkPos = new ChunkPos(spawnPoint);
-        final ChunkProgressListener chunkStatusListener = ((ServerLevelBridge) world).bridge$getChunkStatusListener();
-        chunkStatusListener.updateSpawnPos(chunkPos);
-        final ServerChunkCache serverChunkProvider = world.getChunkSource();
-        serverChunkProvider.getLightEngine().setTaskPerBatch(500);
+    private void loadSpawnChunks(final Collection<ServerLevel> worlds) {
+        final List<SpawnRegion> regions = new ArrayList<>(worlds.size());
+        for (final ServerLevel world : worlds) {
+            final SpawnRegion region = new SpawnRegion(world);
+            ((ServerLevelBridge) world).bridge$getChunkStatusListener().updateSpawnPos(region.center);
+            regions.add(region);
+        }
         ((MinecraftServerAccessor) this.server).accessor$nextTickTime(Util.getMillis());
-        serverChunkProvider.addRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, chunkPos, 11, world.dimension().location());
+        regions.forEach(SpawnRegion::ticket);
 
-        while (serverChunkProvider.getTickingGenerated() != 441) {
+        final List<SpawnRegion> pending = new ArrayList<>(regions);
+        while (!pending.isEmpty()) {
             ((MinecraftServerAccessor) this.server).accessor$nextTickTime(Util.getMillis() + 10L);
             ((MinecraftServerAccessor) this.server).accessor$waitUntilNextTick();
+            pending.removeIf(region -> {
+                region.reportProgress();
+                return region.isGenerated();
+            });
         }
 
         ((MinecraftServerAccessor) this.server).accessor$nextTickTime(Util.getMillis() + 10L);
         ((MinecraftServerAccessor) this.server).accessor$waitUntilNextTick();
 
-        this.updateForcedChunks(world, serverChunkProvider);
+        for (final SpawnRegion region : regions) {
+            this.updateForcedChunks(region.world, region.world.getChunkSource());
+        }
 
         ((MinecraftServerAccessor) this.server).accessor$nextTickTime(Util.getMillis() + 10L);
         ((MinecraftServerAccessor) this.server).accessor$waitUntilNextTick();
-        chunkStatusListener.stop();
-        serverChunkProvider.getLightEngine().setTaskPerBatch(5);
-
-        // Sponge Start - Release the chunk ticket if spawn is not set to be kept loaded...
-        if (!((PrimaryLevelDataBridge) world.getLevelData()).bridge$performsSpawnLogic()) {
-            serverChunkProvider.removeRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, chunkPos, 11, world.dimension().location());
+        for (final SpawnRegion region : regions) {
+            ((ServerLevelBridge) region.world).bridge$getChunkStatusListener().stop();
+            region.release();
         }
     }
 
@@ -1193,6 +1209,67 @@ private Path getConfigFile(final ResourceKey key) {
                 .resolve(key.value() + ".conf");
     }
 
+    /**
+     * The spawn region of a world being generated. Splitting the ticketing
+     * from the waiting lets the spawn regions of several worlds generate at
+     * the same time.
+     */
+    private static final class SpawnRegion {
+
+        private static final int RADIUS = 11;
+        private static final int CHUNKS = ((SpawnRegion.RADIUS - 1) * 2 + 1) * ((SpawnRegion.RADIUS - 1) * 2 + 1);
+
+        final ServerLevel world;
+        final ChunkPos center;
+        private int reportedPercent;
+
+        SpawnRegion(final ServerLevel world) {
+            this.world = world;
+            this.center = new ChunkPos(world.getSharedSpawnPos());
+        }
+
+        void ticket() {
+            MinecraftServerAccessor.accessor$LOGGER().info("Preparing start region for world '{}' ({})", this.world.dimension().location(),
+                    this.worldTypeKey());
+            final ServerChunkCache chunkSource = this.world.getChunkSource();
+            chunkSource.getLightEngine().setTaskPerBatch(500);
+            chunkSource.addRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, this.center, SpawnRegion.RADIUS, this.world.dimension().location());
+        }
+
+        boolean isGenerated() {
+            return this.world.getChunkSource().getTickingGenerated() >= SpawnRegion.CHUNKS;
+        }
+
+        void reportProgress() {
+            final int percent = Math.min(100, this.world.getChunkSource().getTickingGenerated() * 100 / SpawnRegion.CHUNKS);
+            // Report in steps of 10% so several worlds preparing at once don't flood the log
+            if (percent / 10 > this.reportedPercent / 10) {
+                this.reportedPercent = percent;
+                if (percent == 100) {
+                    MinecraftServerAccessor.accessor$LOGGER().info("Done preparing start region for world '{}' ({})",
+                            this.world.dimension().location(), this.worldTypeKey());
+                } else {
+                    MinecraftServerAccessor.accessor$LOGGER().info("Preparing start region for world '{}': {}%",
+                            this.world.dimension().location(), percent);
+                }
+            }
+        }
+
+        private String worldTypeKey() {
+            return RegistryTypes.WORLD_TYPE.get().findValueKey((WorldType) this.world.dimensionType()).map(ResourceKey::toString).orElse("inline");
+        }
+
+        void release() {
+            final ServerChunkCache chunkSource = this.world.getChunkSource();
+            chunkSource.getLightEngine().setTaskPerBatch(5);
+
+            // Sponge Start - Release the chunk ticket if spawn is not set to be kept loaded...
+            if (!((PrimaryLevelDataBridge) this.world.getLevelData()).bridge$performsSpawnLogic()) {
+                chunkSource.removeRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, this.center, SpawnRegion.RADIUS, this.world.dimension().location());
+            }
+        }
+    }
+
     private static final class SingleTemplateAccess implements RegistryReadOps.ResourceAccess {
 
         private final net.minecraft.resources.ResourceKey<?> key;
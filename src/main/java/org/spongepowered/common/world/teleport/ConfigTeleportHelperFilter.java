@@ -55,6 +55,7 @@ public static void invalidateCache() {
         ConfigTeleportHelperFilter.floorBlockStates = null;
         ConfigTeleportHelperFilter.bodyBlockStates = null;
         ConfigTeleportHelperFilter.bodyBlockTypes = null;
+        SpongeTeleportHelper.invalidateSafetyCache();
     }
 
     private static void updateCacheIfNecessary() {
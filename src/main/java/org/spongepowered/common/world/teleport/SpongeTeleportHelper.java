@@ -24,193 +24,284 @@
  */
 package org.spongepowered.common.world.teleport;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.google.common.base.Preconditions;
 import com.google.common.collect.Sets;
 import com.google.inject.Singleton;
-import net.minecraft.world.level.border.WorldBorder;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.util.Tristate;
-import org.spongepowered.api.world.World;
 import org.spongepowered.api.world.server.ServerLocation;
 import org.spongepowered.api.world.server.ServerWorld;
 import org.spongepowered.api.world.teleport.TeleportHelper;
 import org.spongepowered.api.world.teleport.TeleportHelperFilter;
 import org.spongepowered.api.world.teleport.TeleportHelperFilters;
+import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
-import org.spongepowered.math.GenericMath;
 import org.spongepowered.math.vector.Vector3i;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Stream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Singleton
 public final class SpongeTeleportHelper implements TeleportHelper {
 
+    private static final byte SAFE_FLOOR = 0b01;
+    private static final byte SAFE_BODY = 0b10;
+    private static final byte SAFE_ALL = SpongeTeleportHelper.SAFE_FLOOR | SpongeTeleportHelper.SAFE_BODY;
+    private static final byte UNSAFE = 0;
+
+    // The material checks of a filter only depend on the block state, so they are shared between searches.
+    private static final LoadingCache<TeleportHelperFilter, Map<BlockState, Byte>> SAFETY_CACHE = Caffeine.newBuilder()
+            .weakKeys()
+            .build(filter -> new ConcurrentHashMap<>());
+
+    /**
+     * Discards the cached material checks of all filters, so they are
+     * queried again on the next search.
+     */
+    public static void invalidateSafetyCache() {
+        SpongeTeleportHelper.SAFETY_CACHE.invalidateAll();
+    }
+
     @Override
     public Optional<ServerLocation> findSafeLocation(ServerLocation location, int height, int width, int distanceToDrop,
             TeleportHelperFilter filter, TeleportHelperFilter... additionalFilters) {
         final ServerWorld world = location.world();
-        final Set<TeleportHelperFilter> filters = Sets.newHashSet(additionalFilters);
-        filters.add(filter);
-
-        if (SpongeConfigs.getCommon().get().teleportHelper.forceBlacklist) {
-            // Always force this into the set if the user has requested it.
-            filters.add(TeleportHelperFilters.CONFIG.get());
-        }
+        final Set<TeleportHelperFilter> filters = this.filters(filter, additionalFilters);
 
         // Get the vectors to check, and get the block types with them.
-        // The vectors should be sorted by distance from the centre of the checking region, so
+        // The vectors are ordered by distance from the centre of the checking region, so
         // this makes it easier to try to get close, because we can just iterate and get progressively further out.
-        Optional<Vector3i> result = this.getSafeLocation(world, this.getBlockLocations(location, height, width), distanceToDrop, filters);
-        return result.map(vector3i -> ServerLocation.of(world, vector3i.toDouble().add(0.5, 0, 0.5)));
+        final TeleportSearchOrder positions = new TeleportSearchArea(location, height, width).order();
+        // We cache the various block lookups so we don't read a block twice.
+        final WorldBlocks blocks = new WorldBlocks(world);
+        final List<TeleportHelperFilter> undefinedResults = new ArrayList<>();
+        while (positions.hasNext()) {
+            final Vector3i currentTarget = positions.next();
+            if (this.isSafeLocation(world, currentTarget, distanceToDrop, filters, undefinedResults, blocks, null)) {
+                return Optional.of(this.toLocation(world, currentTarget));
+            }
+        }
+        return Optional.empty();
     }
 
-    private Stream<Vector3i> getBlockLocations(ServerLocation worldLocation, int height, int width) {
-        // We don't want to warp outside of the world border, so we want to check that we're within it.
-        final WorldBorder.Settings worldBorder = (WorldBorder.Settings) worldLocation.world().properties().worldBorder();
-        final double radius = worldBorder.getSize() / 2.0D;
-        int worldBorderMinX = GenericMath.floor(worldBorder.getCenterX() - radius);
-        int worldBorderMinZ = GenericMath.floor(worldBorder.getCenterZ() - radius);
-        int worldBorderMaxX = GenericMath.floor(worldBorder.getCenterX() + radius);
-        int worldBorderMaxZ = GenericMath.floor(worldBorder.getCenterZ() + radius);
-
-        // Get the World and get the maximum Y value.
-        int worldMaxY = worldLocation.world().max().y();
-
-        Vector3i vectorLocation = worldLocation.blockPosition();
-
-        // We use clamp to remain within the world confines, so we don't waste time checking blocks outside of the
-        // world border and the world height.
-        int minY = GenericMath.clamp(vectorLocation.y() - height, 0, worldMaxY);
-        int maxY = GenericMath.clamp(vectorLocation.y() + height, 0, worldMaxY);
-
-        int minX = GenericMath.clamp(vectorLocation.x() - width, worldBorderMinX, worldBorderMaxX);
-        int maxX = GenericMath.clamp(vectorLocation.x() + width, worldBorderMinX, worldBorderMaxX);
-
-        int minZ = GenericMath.clamp(vectorLocation.z() - width, worldBorderMinZ, worldBorderMaxZ);
-        int maxZ = GenericMath.clamp(vectorLocation.z() + width, worldBorderMinZ, worldBorderMaxZ);
-
-        // We now iterate over all possible x, y and z positions to get all possible vectors.
-        List<Vector3i> vectors = new ArrayList<>();
-        for (int y = minY; y <= maxY; y++) {
-            for (int x = minX; x <= maxX; x++) {
-                for (int z = minZ; z <= maxZ; z++) {
-                    vectors.add(new Vector3i(x, y, z));
-                }
-            }
+    /**
+     * Finds safe locations around each of the given locations, as
+     * {@link #findSafeLocation(ServerLocation, int, int, int, TeleportHelperFilter, TeleportHelperFilter...)}
+     * does.
+     *
+     * <p>The blocks around each location are copied out of their chunks on
+     * the calling thread, which must be the main thread. The material checks
+     * of the filters are then evaluated against these copies off the main
+     * thread, and the search itself completes on the main thread, as
+     * {@link TeleportHelperFilter#isValidLocation(ServerWorld, Vector3i)} may
+     * inspect the world.</p>
+     *
+     * @return The safe locations, in the same order as the given locations
+     */
+    public CompletableFuture<List<Optional<ServerLocation>>> findSafeLocations(final List<ServerLocation> locations, final int height,
+            final int width, final int distanceToDrop, final TeleportHelperFilter filter, final TeleportHelperFilter... additionalFilters) {
+        Preconditions.checkState(SpongeCommon.server().isSameThread(), "Safe locations may only be searched for on the main thread");
+        final Set<TeleportHelperFilter> filters = this.filters(filter, additionalFilters);
+        final List<TeleportSearchArea> areas = new ArrayList<>(locations.size());
+        for (final ServerLocation location : locations) {
+            final TeleportSearchArea area = new TeleportSearchArea(location, height, width);
+            area.snapshot(distanceToDrop);
+            areas.add(area);
         }
 
-        Comparator<Vector3i> c = Comparator.comparingInt(vectorLocation::distanceSquared);
+        return SpongeCommon.asyncScheduler().submit(() -> {
+            final List<SnapshotBlocks> snapshots = new ArrayList<>(areas.size());
+            for (final TeleportSearchArea area : areas) {
+                snapshots.add(new SnapshotBlocks(area, distanceToDrop, filters));
+            }
+            return snapshots;
+        }).thenApplyAsync(snapshots -> {
+            final List<Optional<ServerLocation>> results = new ArrayList<>(snapshots.size());
+            final List<TeleportHelperFilter> undefinedResults = new ArrayList<>();
+            for (final SnapshotBlocks snapshot : snapshots) {
+                final ServerWorld world = snapshot.area.world;
+                final TeleportSearchOrder positions = snapshot.area.order();
+                Optional<ServerLocation> result = Optional.empty();
+                while (positions.hasNext()) {
+                    final Vector3i currentTarget = positions.next();
+                    if (this.isSafeLocation(world, currentTarget, distanceToDrop, filters, undefinedResults, snapshot, snapshot)) {
+                        result = Optional.of(this.toLocation(world, currentTarget));
+                        break;
+                    }
+                }
+                results.add(result);
+            }
+            return results;
+        }, SpongeCommon.server());
+    }
 
-        // The compiler seems to need this to be a new line.
-        // We check to see what the y location is, preferring changes in Y over X and Z, and higher over lower locations.
-        c = c.thenComparing(x -> -Math.abs(vectorLocation.y() - x.y())).thenComparing(x -> -x.y());
+    private Set<TeleportHelperFilter> filters(final TeleportHelperFilter filter, final TeleportHelperFilter... additionalFilters) {
+        final Set<TeleportHelperFilter> filters = Sets.newHashSet(additionalFilters);
+        filters.add(filter);
 
-        // Sort them according to the distance to the provided worldLocation.
-        return vectors.stream().sorted(c);
+        if (SpongeConfigs.getCommon().get().teleportHelper.forceBlacklist) {
+            // Always force this into the set if the user has requested it.
+            filters.add(TeleportHelperFilters.CONFIG.get());
+        }
+        return filters;
     }
 
-    private Optional<Vector3i> getSafeLocation(ServerWorld world, Stream<Vector3i> positionsToCheck, int floorDistanceCheck,
-            Collection<TeleportHelperFilter> filters) {
-        // We cache the various block lookup results so we don't check a block twice.
-        final Map<Vector3i, BlockData> blockCache = new HashMap<>();
-
-        return positionsToCheck.filter(currentTarget -> {
-            List<TeleportHelperFilter> undefinedResults = new ArrayList<>();
-            for (TeleportHelperFilter filter : filters) {
-                // If any return Tristate.FALSE, we're not safe.
-                Tristate isValid = filter.isValidLocation(world, currentTarget);
-                if (isValid == Tristate.FALSE) {
-                    // Completely fails the AND check at this point.
-                    return false;
-                }
+    private ServerLocation toLocation(final ServerWorld world, final Vector3i position) {
+        // Get the center of the block to spawn into.
+        return ServerLocation.of(world, position.toDouble().add(0.5, 0, 0.5));
+    }
 
-                if (isValid == Tristate.UNDEFINED) {
-                    undefinedResults.add(filter);
-                }
+    private boolean isSafeLocation(final ServerWorld world, final Vector3i currentTarget, final int floorDistanceCheck,
+            final Collection<TeleportHelperFilter> filters, final List<TeleportHelperFilter> undefinedResults, final BlockSource blocks,
+            final @Nullable SnapshotBlocks precomputed) {
+        undefinedResults.clear();
+        for (final TeleportHelperFilter filter : filters) {
+            // If any return Tristate.FALSE, we're not safe.
+            final Tristate isValid = filter.isValidLocation(world, currentTarget);
+            if (isValid == Tristate.FALSE) {
+                // Completely fails the AND check at this point.
+                return false;
             }
 
-            // If we don't have any undefined results, then we return true here.
-            if (undefinedResults.isEmpty()) {
-                return true;
+            if (isValid == Tristate.UNDEFINED) {
+                undefinedResults.add(filter);
             }
+        }
 
-            // Get the block, add it to the cache.
-            BlockData block = this.getBlockData(currentTarget, world, blockCache, undefinedResults);
-
-            // If the block isn't safe, no point in continuing on this run.
-            if (block.isSafeBody) {
+        // If we don't have any undefined results, then we return true here.
+        if (undefinedResults.isEmpty()) {
+            return true;
+        }
 
-                // Check the block ABOVE is safe for the body, and the two BELOW are safe too.
-                if (this.getBlockData(
-                    currentTarget.add(0, 1, 0), world, blockCache, undefinedResults).isSafeBody
-                        && (floorDistanceCheck <= 0 || this.isFloorSafe(currentTarget, world, blockCache, undefinedResults, floorDistanceCheck))) {
+        // The material checks against every filter were already done off the main thread.
+        if (precomputed != null && undefinedResults.size() == filters.size()) {
+            return precomputed.isSafe(currentTarget.x(), currentTarget.y(), currentTarget.z());
+        }
 
-                    // This position should be safe. Get the center of the block to spawn into.
-                    return true;
-                }
-            }
+        return SpongeTeleportHelper.isSafeColumn(currentTarget.x(), currentTarget.y(), currentTarget.z(), floorDistanceCheck, undefinedResults, blocks);
+    }
 
-            return false;
-        }).findFirst();
+    private static boolean isSafeColumn(final int x, final int y, final int z, final int floorDistanceCheck,
+            final Collection<TeleportHelperFilter> filters, final BlockSource blocks) {
+        // If the block isn't safe, no point in continuing on this run.
+        // Check the block ABOVE is safe for the body, and the ones BELOW are safe too.
+        return (SpongeTeleportHelper.safety(x, y, z, filters, blocks) & SpongeTeleportHelper.SAFE_BODY) != 0
+                && (SpongeTeleportHelper.safety(x, y + 1, z, filters, blocks) & SpongeTeleportHelper.SAFE_BODY) != 0
+                && (floorDistanceCheck <= 0 || SpongeTeleportHelper.isFloorSafe(x, y, z, filters, blocks, floorDistanceCheck));
     }
 
-    private boolean isFloorSafe(Vector3i currentTarget, World world, Map<Vector3i, BlockData> blockCache, Collection<TeleportHelperFilter> filters,
-            int floorDistanceCheck) {
+    private static boolean isFloorSafe(final int x, final int y, final int z, final Collection<TeleportHelperFilter> filters, final BlockSource blocks,
+            final int floorDistanceCheck) {
         for (int i = 1; i < floorDistanceCheck; ++i) {
-            BlockData data = this.getBlockData(currentTarget.sub(0, i, 0), world, blockCache, filters);
+            final byte safety = SpongeTeleportHelper.safety(x, y - i, z, filters, blocks);
 
             // If it's a safe floor, we can just say yes now.
-            if (data.isSafeFloor) {
+            if ((safety & SpongeTeleportHelper.SAFE_FLOOR) != 0) {
                 return true;
             }
 
             // If it's not safe for the body, then we don't want to go through it anyway.
-            if (!data.isSafeBody) {
+            if ((safety & SpongeTeleportHelper.SAFE_BODY) == 0) {
                 return false;
             }
         }
 
         // Check the next block down, if it's a floor, then we're good to go, otherwise we'd fall too far for our liking.
-        return this.getBlockData(currentTarget.sub(0, floorDistanceCheck, 0), world, blockCache, filters).isSafeFloor;
+        return (SpongeTeleportHelper.safety(x, y - floorDistanceCheck, z, filters, blocks) & SpongeTeleportHelper.SAFE_FLOOR) != 0;
     }
 
-    private BlockData getBlockData(Vector3i vector3i, World world, Map<Vector3i, BlockData> cache, Collection<TeleportHelperFilter> filters) {
-        if (vector3i.y() < 0) {
+    private static byte safety(final int x, final int y, final int z, final Collection<TeleportHelperFilter> filters, final BlockSource blocks) {
+        if (y < 0) {
             // Anything below this isn't safe, no point going further.
-            return new BlockData();
+            return SpongeTeleportHelper.UNSAFE;
         }
+        final @Nullable BlockState state = blocks.block(x, y, z);
+        return state == null ? SpongeTeleportHelper.UNSAFE : SpongeTeleportHelper.safety(state, filters);
+    }
 
-        if (cache.containsKey(vector3i)) {
-            return cache.get(vector3i);
+    private static byte safety(final BlockState state, final Collection<TeleportHelperFilter> filters) {
+        byte safety = SpongeTeleportHelper.SAFE_ALL;
+        for (final TeleportHelperFilter filter : filters) {
+            final Map<BlockState, Byte> cache = SpongeTeleportHelper.SAFETY_CACHE.get(filter);
+            @Nullable Byte filterSafety = cache.get(state);
+            if (filterSafety == null) {
+                filterSafety = (byte) ((filter.isSafeFloorMaterial(state) ? SpongeTeleportHelper.SAFE_FLOOR : 0)
+                        | (filter.isSafeBodyMaterial(state) ? SpongeTeleportHelper.SAFE_BODY : 0));
+                cache.put(state, filterSafety);
+            }
+            safety &= filterSafety;
+            if (safety == SpongeTeleportHelper.UNSAFE) {
+                break;
+            }
         }
+        return safety;
+    }
+
+    private interface BlockSource {
 
-        BlockData data = new BlockData(world.block(vector3i), filters);
-        cache.put(vector3i, data);
-        return data;
+        @Nullable BlockState block(int x, int y, int z);
     }
 
-    private class BlockData {
+    private static final class WorldBlocks implements BlockSource {
 
-        private final boolean isSafeFloor;
-        private final boolean isSafeBody;
+        private final ServerWorld world;
+        private final Long2ObjectOpenHashMap<BlockState> cache = new Long2ObjectOpenHashMap<>();
 
-        private BlockData() {
-            this.isSafeFloor = false;
-            this.isSafeBody = false;
+        WorldBlocks(final ServerWorld world) {
+            this.world = world;
         }
 
-        private BlockData(BlockState blockState, Collection<TeleportHelperFilter> filters) {
-            this.isSafeFloor = filters.stream().allMatch(x -> x.isSafeFloorMaterial(blockState));
-            this.isSafeBody = filters.stream().allMatch(x -> x.isSafeBodyMaterial(blockState));
+        @Override
+        public BlockState block(final int x, final int y, final int z) {
+            final long key = BlockPos.asLong(x, y, z);
+            BlockState state = this.cache.get(key);
+            if (state == null) {
+                state = this.world.block(x, y, z);
+                this.cache.put(key, state);
+            }
+            return state;
         }
-
     }
 
+    private static final class SnapshotBlocks implements BlockSource {
+
+        final TeleportSearchArea area;
+        private final boolean[] safe;
+
+        SnapshotBlocks(final TeleportSearchArea area, final int floorDistanceCheck, final Collection<TeleportHelperFilter> filters) {
+            this.area = area;
+            final int sizeX = area.maxX - area.minX + 1;
+            final int sizeZ = area.maxZ - area.minZ + 1;
+            this.safe = new boolean[Math.max(0, sizeX * sizeZ * (area.maxY - area.minY + 1))];
+            int index = 0;
+            for (int y = area.minY; y <= area.maxY; y++) {
+                for (int z = area.minZ; z <= area.maxZ; z++) {
+                    for (int x = area.minX; x <= area.maxX; x++) {
+                        this.safe[index++] = SpongeTeleportHelper.isSafeColumn(x, y, z, floorDistanceCheck, filters, this);
+                    }
+                }
+            }
+        }
+
+        boolean isSafe(final int x, final int y, final int z) {
+            return this.safe[((y - this.area.minY) * (this.area.maxZ - this.area.minZ + 1) + (z - this.area.minZ))
+                    * (this.area.maxX - this.area.minX + 1) + (x - this.area.minX)];
+        }
+
+        @Override
+        public @Nullable BlockState block(final int x, final int y, final int z) {
+            return this.area.snapshotBlock(x, y, z);
+        }
+    }
 }
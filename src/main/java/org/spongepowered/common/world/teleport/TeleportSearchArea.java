@@ -0,0 +1,154 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.teleport;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.border.WorldBorder;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.world.server.ServerLocation;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.math.GenericMath;
+import org.spongepowered.math.vector.Vector3i;
+
+/**
+ * The box of positions searched for a safe location around a target,
+ * clamped to the world border and the world height.
+ */
+final class TeleportSearchArea {
+
+    final ServerWorld world;
+    final Vector3i center;
+    final int minX;
+    final int maxX;
+    final int minY;
+    final int maxY;
+    final int minZ;
+    final int maxZ;
+
+    private int snapshotMinY;
+    private int snapshotSizeY;
+    private BlockState @Nullable [] snapshot;
+
+    TeleportSearchArea(final ServerLocation location, final int height, final int width) {
+        this.world = location.world();
+
+        // We don't want to warp outside of the world border, so we want to check that we're within it.
+        final WorldBorder.Settings worldBorder = (WorldBorder.Settings) this.world.properties().worldBorder();
+        final double radius = worldBorder.getSize() / 2.0D;
+        final int worldBorderMinX = GenericMath.floor(worldBorder.getCenterX() - radius);
+        final int worldBorderMinZ = GenericMath.floor(worldBorder.getCenterZ() - radius);
+        final int worldBorderMaxX = GenericMath.floor(worldBorder.getCenterX() + radius);
+        final int worldBorderMaxZ = GenericMath.floor(worldBorder.getCenterZ() + radius);
+
+        // Get the World and get the maximum Y value.
+        final int worldMaxY = this.world.max().y();
+
+        this.center = location.blockPosition();
+
+        // We use clamp to remain within the world confines, so we don't waste time checking blocks outside of the
+        // world border and the world height.
+        this.minY = GenericMath.clamp(this.center.y() - height, 0, worldMaxY);
+        this.maxY = GenericMath.clamp(this.center.y() + height, 0, worldMaxY);
+
+        this.minX = GenericMath.clamp(this.center.x() - width, worldBorderMinX, worldBorderMaxX);
+        this.maxX = GenericMath.clamp(this.center.x() + width, worldBorderMinX, worldBorderMaxX);
+
+        this.minZ = GenericMath.clamp(this.center.z() - width, worldBorderMinZ, worldBorderMaxZ);
+        this.maxZ = GenericMath.clamp(this.center.z() + width, worldBorderMinZ, worldBorderMaxZ);
+    }
+
+    /**
+     * Gets the positions of this area in the order they should be checked.
+     *
+     * @return The search order
+     */
+    TeleportSearchOrder order() {
+        return new TeleportSearchOrder(this.center, this.minX, this.maxX, this.minY, this.maxY, this.minZ, this.maxZ);
+    }
+
+    /**
+     * Copies the block states of this area out of the chunk sections, so the
+     * area can be inspected from another thread. The copy extends down by
+     * {@code floorDistanceCheck} blocks, and up by one block for the head of
+     * the highest candidate position.
+     *
+     * <p>This must be called on the main thread.</p>
+     *
+     * @param floorDistanceCheck The distance to check for a floor
+     */
+    void snapshot(final int floorDistanceCheck) {
+        final ServerLevel level = (ServerLevel) this.world;
+        this.snapshotMinY = Math.max(0, this.minY - Math.max(0, floorDistanceCheck));
+        final int snapshotMaxY = this.maxY + 1;
+        this.snapshotSizeY = Math.max(0, snapshotMaxY - this.snapshotMinY + 1);
+        final int sizeX = this.maxX - this.minX + 1;
+        final int sizeZ = this.maxZ - this.minZ + 1;
+        final BlockState[] states = new BlockState[Math.max(0, sizeX * sizeZ * this.snapshotSizeY)];
+        final BlockState air = (BlockState) Blocks.AIR.defaultBlockState();
+        for (int chunkX = this.minX >> 4; chunkX <= this.maxX >> 4; chunkX++) {
+            for (int chunkZ = this.minZ >> 4; chunkZ <= this.maxZ >> 4; chunkZ++) {
+                final LevelChunkSection[] sections = level.getChunk(chunkX, chunkZ).getSections();
+                final int fromX = Math.max(this.minX, chunkX << 4);
+                final int toX = Math.min(this.maxX, (chunkX << 4) + 15);
+                final int fromZ = Math.max(this.minZ, chunkZ << 4);
+                final int toZ = Math.min(this.maxZ, (chunkZ << 4) + 15);
+                for (int y = this.snapshotMinY; y <= snapshotMaxY; y++) {
+                    // Anything above the top of the world is air
+                    final @Nullable LevelChunkSection section = y >> 4 < sections.length ? sections[y >> 4] : null;
+                    final boolean empty = LevelChunkSection.isEmpty(section);
+                    for (int x = fromX; x <= toX; x++) {
+                        for (int z = fromZ; z <= toZ; z++) {
+                            states[this.index(x, y, z)] = empty ? air : (BlockState) section.getBlockState(x & 15, y & 15, z & 15);
+                        }
+                    }
+                }
+            }
+        }
+        this.snapshot = states;
+    }
+
+    /**
+     * Gets the block state at the given position from the
+     * {@link #snapshot(int) snapshot} of this area.
+     *
+     * @return The block state, or null if the position is outside of the
+     *     snapshot
+     */
+    @Nullable BlockState snapshotBlock(final int x, final int y, final int z) {
+        final BlockState @Nullable [] states = this.snapshot;
+        if (states == null || x < this.minX || x > this.maxX || z < this.minZ || z > this.maxZ || y < this.snapshotMinY
+                || y >= this.snapshotMinY + this.snapshotSizeY) {
+            return null;
+        }
+        return states[this.index(x, y, z)];
+    }
+
+    private int index(final int x, final int y, final int z) {
+        return ((y - this.snapshotMinY) * (this.maxZ - this.minZ + 1) + (z - this.minZ)) * (this.maxX - this.minX + 1) + (x - this.minX);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.teleport;
+
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Lazily yields the positions of a search box in the order the teleport
+ * helper checks them: by distance from the centre, then preferring larger
+ * changes in Y, then higher positions.
+ *
+ * <p>Rather than sorting every position of the box up front, each
+ * {@code (x, y)} line of the box walks outwards along the Z axis, and the
+ * lines are merged through a priority queue. Only one entry per line is held
+ * at any time, and positions are only created as they are consumed.</p>
+ */
+final class TeleportSearchOrder implements Iterator<Vector3i> {
+
+    private static final Comparator<Line> ORDER = Comparator.<Line>comparingLong(line -> line.distanceSquared)
+            // Prefer changes in Y over X and Z, and higher over lower locations
+            .thenComparingInt(line -> -line.absoluteDeltaY)
+            .thenComparingInt(line -> -line.y)
+            .thenComparingInt(line -> line.x)
+            .thenComparingInt(line -> line.z);
+
+    private final int centerZ;
+    private final int minZ;
+    private final int maxZ;
+    private final int maxOffset;
+    private final PriorityQueue<Line> queue;
+
+    TeleportSearchOrder(final Vector3i center, final int minX, final int maxX, final int minY, final int maxY, final int minZ,
+            final int maxZ) {
+        this.centerZ = center.z();
+        this.minZ = minZ;
+        this.maxZ = maxZ;
+        this.maxOffset = Math.max(Math.abs(minZ - this.centerZ), Math.abs(maxZ - this.centerZ));
+        this.queue = new PriorityQueue<>(Math.max(1, (maxX - minX + 1) * (maxY - minY + 1)), TeleportSearchOrder.ORDER);
+        if (minZ > maxZ) {
+            return;
+        }
+
+        final int startOffset = Math.max(0, Math.max(minZ - this.centerZ, this.centerZ - maxZ));
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
+                final long deltaX = x - center.x();
+                final long deltaY = y - center.y();
+                final Line line = new Line(x, y, deltaX * deltaX + deltaY * deltaY, Math.abs(y - center.y()), startOffset);
+                if (line.advance()) {
+                    this.queue.add(line);
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !this.queue.isEmpty();
+    }
+
+    @Override
+    public Vector3i next() {
+        final Line line = this.queue.poll();
+        if (line == null) {
+            throw new NoSuchElementException();
+        }
+        final Vector3i next = new Vector3i(line.x, line.y, line.z);
+        if (line.advance()) {
+            this.queue.add(line);
+        }
+        return next;
+    }
+
+    private final class Line {
+
+        final int x;
+        final int y;
+        final long planarDistanceSquared;
+        final int absoluteDeltaY;
+        int z;
+        long distanceSquared;
+        private int offset;
+        private boolean negative = true;
+
+        Line(final int x, final int y, final long planarDistanceSquared, final int absoluteDeltaY, final int startOffset) {
+            this.x = x;
+            this.y = y;
+            this.planarDistanceSquared = planarDistanceSquared;
+            this.absoluteDeltaY = absoluteDeltaY;
+            this.offset = startOffset;
+        }
+
+        /**
+         * Moves to the next Z position of this line within the box, nearest to
+         * the centre first and lower Z first for equal distances.
+         *
+         * @return False if the line has no positions left
+         */
+        boolean advance() {
+            final TeleportSearchOrder order = TeleportSearchOrder.this;
+            while (this.offset <= order.maxOffset) {
+                final int nextZ;
+                if (this.offset == 0) {
+                    nextZ = order.centerZ;
+                    this.offset = 1;
+                } else if (this.negative) {
+                    nextZ = order.centerZ - this.offset;
+                    this.negative = false;
+                } else {
+                    nextZ = order.centerZ + this.offset;
+                    this.negative = true;
+                    this.offset++;
+                }
+                if (nextZ >= order.minZ && nextZ <= order.maxZ) {
+                    final long deltaZ = nextZ - order.centerZ;
+                    this.z = nextZ;
+                    this.distanceSquared = this.planarDistanceSquared + deltaZ * deltaZ;
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
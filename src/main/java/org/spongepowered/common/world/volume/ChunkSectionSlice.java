@@ -0,0 +1,143 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import org.spongepowered.api.world.volume.Volume;
+import org.spongepowered.api.world.volume.stream.VolumeElement;
+import org.spongepowered.math.vector.Vector3d;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The part of a single {@link LevelChunkSection} that falls within the
+ * bounds of a volume stream. Slices are the unit of work of section based
+ * block streams, so parallel streams are split at section boundaries and
+ * every block state is read straight from the section palette.
+ */
+final class ChunkSectionSlice {
+
+    private final LevelChunkSection section;
+    private final int baseX;
+    private final int baseY;
+    private final int baseZ;
+    private final int xStart;
+    private final int xEnd;
+    private final int yStart;
+    private final int yEnd;
+    private final int zStart;
+    private final int zEnd;
+
+    private ChunkSectionSlice(final LevelChunkSection section, final int baseX, final int baseY, final int baseZ,
+        final int xStart, final int xEnd, final int yStart, final int yEnd, final int zStart, final int zEnd
+    ) {
+        this.section = section;
+        this.baseX = baseX;
+        this.baseY = baseY;
+        this.baseZ = baseZ;
+        this.xStart = xStart;
+        this.xEnd = xEnd;
+        this.yStart = yStart;
+        this.yEnd = yEnd;
+        this.zStart = zStart;
+        this.zEnd = zEnd;
+    }
+
+    /**
+     * Gets the slices of the non empty sections of the given chunk that are
+     * within {@code min} and {@code max}, ordered from the bottom up.
+     */
+    static List<ChunkSectionSlice> slices(final ChunkAccess chunk, final ChunkCursor min, final ChunkCursor max) {
+        final int chunkX = chunk.getPos().x;
+        final int chunkZ = chunk.getPos().z;
+        final int xStart = chunkX == min.chunkX ? min.xOffset : 0;
+        final int xEnd = chunkX == max.chunkX ? max.xOffset + 1 : 16;
+        final int zStart = chunkZ == min.chunkZ ? min.zOffset : 0;
+        final int zEnd = chunkZ == max.chunkZ ? max.zOffset + 1 : 16;
+
+        final LevelChunkSection[] sections = chunk.getSections();
+        final List<ChunkSectionSlice> slices = new ArrayList<>(sections.length);
+        for (final LevelChunkSection section : sections) {
+            if (section == null) {
+                continue;
+            }
+            final int sectionY = section.bottomBlockY();
+            if (sectionY < min.ySection || sectionY > max.ySection) {
+                continue;
+            }
+            final int yStart = sectionY == min.ySection ? min.yOffset : 0;
+            final int yEnd = sectionY == max.ySection ? max.yOffset + 1 : 16;
+            slices.add(new ChunkSectionSlice(section, chunkX << 4, sectionY, chunkZ << 4, xStart, xEnd, yStart, yEnd, zStart, zEnd));
+        }
+        return slices;
+    }
+
+    int size() {
+        return (this.xEnd - this.xStart) * (this.yEnd - this.yStart) * (this.zEnd - this.zStart);
+    }
+
+    /**
+     * Streams the block states of this slice in z, x, y order, matching the
+     * order of the position based streams.
+     */
+    @SuppressWarnings("unchecked")
+    <R extends Volume> Stream<VolumeElement<R, org.spongepowered.api.block.BlockState>> blockStates(final Supplier<R> volume) {
+        return StreamSupport.stream(new Spliterators.AbstractSpliterator<VolumeElement<R, org.spongepowered.api.block.BlockState>>(
+            this.size(), Spliterator.SIZED | Spliterator.NONNULL | Spliterator.ORDERED) {
+            private int z = ChunkSectionSlice.this.zStart;
+            private int x = ChunkSectionSlice.this.xStart;
+            private int y = ChunkSectionSlice.this.yStart;
+
+            @Override
+            public boolean tryAdvance(final Consumer<? super VolumeElement<R, org.spongepowered.api.block.BlockState>> action) {
+                final ChunkSectionSlice slice = ChunkSectionSlice.this;
+                if (this.z >= slice.zEnd) {
+                    return false;
+                }
+                final BlockState state = slice.section.getBlockState(this.x, this.y, this.z);
+                final org.spongepowered.api.block.BlockState apiState = (org.spongepowered.api.block.BlockState) state;
+                action.accept(VolumeElement.of(volume, () -> apiState,
+                    new Vector3d(slice.baseX + this.x, slice.baseY + this.y, slice.baseZ + this.z)));
+                if (++this.y >= slice.yEnd) {
+                    this.y = slice.yStart;
+                    if (++this.x >= slice.xEnd) {
+                        this.x = slice.xStart;
+                        this.z++;
+                    }
+                }
+                return true;
+            }
+        }, false);
+    }
+}
@@ -40,6 +40,7 @@
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
+import org.spongepowered.math.vector.Vector3d;
 
 import java.util.Iterator;
 import java.util.Optional;
@@ -47,6 +48,7 @@
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class SpongeVolumeStream<V extends Volume, T> implements VolumeStream<V, T> {
@@ -69,15 +71,10 @@ public V volume() {
     @Override
     public VolumeStream<V, T> filter(final VolumePredicate<V, T> predicate) {
         return new SpongeVolumeStream<>(this.stream
-            .filter(element ->
-                predicate.test(
-                    this.volumeSupplier.get(),
-                    element::type,
-                    element.position().x(),
-                    element.position().y(),
-                    element.position().z()
-                )
-            ), this.volumeSupplier);
+            .filter(element -> {
+                final Vector3d position = element.position();
+                return predicate.test(this.volumeSupplier.get(), element::type, position.x(), position.y(), position.z());
+            }), this.volumeSupplier);
     }
 
     @Override
@@ -87,15 +84,11 @@ public VolumeStream<V, T> filter(final Predicate<VolumeElement<V, ? super T>> pr
 
     @Override
     public <Out> VolumeStream<V, Out> map(final VolumeMapper<V, T, Out> mapper) {
-        return new SpongeVolumeStream<>(this.stream.map(element ->
-            VolumeElement.of(this.volumeSupplier.get(), mapper.map(
-                this.volumeSupplier.get(),
-                element::type,
-                element.position().x(),
-                element.position().y(),
-                element.position().z()
-            ), element.position())
-        ), this.volumeSupplier);
+        return new SpongeVolumeStream<>(this.stream.map(element -> {
+            final V volume = this.volumeSupplier.get();
+            final Vector3d position = element.position();
+            return VolumeElement.of(volume, mapper.map(volume, element::type, position.x(), position.y(), position.z()), position);
+        }), this.volumeSupplier);
     }
 
     @Override
@@ -217,7 +210,7 @@ public <W extends MutableVolume> void apply(final VolumeCollector<W, T, ?> colle
             if (context != null) {
                 context.buildAndSwitch();
             }
-            this.stream.forEach(element -> {
+            final Consumer<VolumeElement<V, T>> applicator = element -> {
                 final W targetVolume = collector.target().get();
                 final VolumeElement<W, T> transformed = collector.positionTransform().apply(VolumeElement.of(
                     collector.target(),
@@ -226,7 +219,13 @@ public <W extends MutableVolume> void apply(final VolumeCollector<W, T, ?> colle
                 ));
                 collector.applicator()
                     .apply(targetVolume, transformed);
-            });
+            };
+            if (this.stream.isParallel()) {
+                // The elements are resolved in parallel, but the target may only be modified from this thread
+                this.stream.collect(Collectors.toList()).forEach(applicator);
+            } else {
+                this.stream.forEach(applicator);
+            }
         }
     }
 
@@ -249,13 +248,10 @@ public <W extends MutableVolume, R> void applyUntil(final VolumeCollector<W, T,
 
     @Override
     public void forEach(final VolumeConsumer<V, T> visitor) {
-        this.stream.forEach(element -> visitor.consume(
-            element.volume(),
-            element.type(),
-            element.position().x(),
-            element.position().y(),
-            element.position().z()
-        ));
+        this.stream.forEach(element -> {
+            final Vector3d position = element.position();
+            visitor.consume(element.volume(), element.type(), position.x(), position.y(), position.z());
+        });
     }
 
     @Override
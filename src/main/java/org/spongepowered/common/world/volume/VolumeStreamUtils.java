@@ -62,6 +62,7 @@
 import org.spongepowered.common.world.volume.buffer.block.ArrayMutableBlockBuffer;
 import org.spongepowered.common.world.volume.buffer.blockentity.ObjectArrayMutableBlockEntityBuffer;
 import org.spongepowered.common.world.volume.buffer.entity.ObjectArrayMutableEntityBuffer;
+import org.spongepowered.common.world.volume.stream.SpongeStreamOptions;
 import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3i;
 
@@ -70,6 +71,7 @@
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -79,6 +81,7 @@
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -420,6 +423,9 @@ public static <W extends Region<W>> VolumeStream<W, org.spongepowered.api.block.
             Objects.requireNonNull(options, "options"));
 
         final boolean shouldCarbonCopy = options.carbonCopy();
+        if (!shouldCarbonCopy) {
+            return VolumeStreamUtils.generateSectionBlockStream(reader, min, max, options);
+        }
         final Vector3i size = max.sub(min).add(1, 1 ,1);
         final @MonotonicNonNull ArrayMutableBlockBuffer backingVolume;
         if (shouldCarbonCopy) {
@@ -446,6 +452,46 @@ public static <W extends Region<W>> VolumeStream<W, org.spongepowered.api.block.
         );
     }
 
+    /**
+     * Streams the block states between {@code min} and {@code max} straight
+     * from the palettes of the chunk sections, without going through
+     * per-position lookups. With {@link SpongeStreamOptions#parallel()} the
+     * sections are processed by the common fork-join pool, the chunks
+     * themselves are always resolved on the calling thread first.
+     */
+    @SuppressWarnings("unchecked")
+    private static <W extends Region<W>> VolumeStream<W, org.spongepowered.api.block.BlockState> generateSectionBlockStream(
+        final LevelReader reader, final Vector3i min, final Vector3i max, final StreamOptions options
+    ) {
+        final Supplier<W> worldSupplier = VolumeStreamUtils.createWeaklyReferencedSupplier((W) reader, "World");
+        final BiFunction<W, ChunkPos, @Nullable ChunkAccess> chunkAccessor = VolumeStreamUtils.getChunkAccessorByStatus(reader,
+            options.loadingStyle().generateArea());
+        final ChunkCursor minCursor = new ChunkCursor(min);
+        final ChunkCursor maxCursor = new ChunkCursor(max);
+        final boolean parallel = VolumeStreamUtils.isParallel(options);
+
+        final Stream<ChunkSectionSlice> slices = IntStream.range(minCursor.chunkX, maxCursor.chunkX + 1)
+            .mapToObj(x -> IntStream.range(minCursor.chunkZ, maxCursor.chunkZ + 1).mapToObj(z -> new ChunkPos(x, z)))
+            .flatMap(Function.identity())
+            .map(pos -> chunkAccessor.apply((W) reader, pos))
+            .filter(Objects::nonNull)
+            .flatMap(chunk -> ChunkSectionSlice.slices(chunk, minCursor, maxCursor).stream());
+
+        final Stream<ChunkSectionSlice> sectionStream;
+        if (parallel || options.loadingStyle().immediateLoading()) {
+            // Chunk loading is not thread safe, so chunks are resolved before any work is handed off
+            final List<ChunkSectionSlice> resolved = slices.collect(Collectors.toList());
+            sectionStream = parallel ? resolved.parallelStream() : resolved.stream();
+        } else {
+            sectionStream = slices;
+        }
+        return new SpongeVolumeStream<>(sectionStream.flatMap(slice -> slice.<W>blockStates(worldSupplier)), worldSupplier);
+    }
+
+    public static boolean isParallel(final StreamOptions options) {
+        return options instanceof SpongeStreamOptions && ((SpongeStreamOptions) options).parallel();
+    }
+
     public static <R extends Region<R>> VolumeStream<R, BlockEntity> getBlockEntityStream(final LevelReader reader, final Vector3i min, final Vector3i max, final StreamOptions options) {
         VolumeStreamUtils.validateStreamArgs(Objects.requireNonNull(min, "min"), Objects.requireNonNull(max, "max"),
             Objects.requireNonNull(options, "options"));
@@ -105,6 +105,17 @@ private SpongeArchetypeVolume(final Vector3i start, final Vector3i size, final P
         this.entities = new ObjectArrayMutableEntityArchetypeBuffer(start, size);
     }
 
+    /**
+     * Gets the buffer holding the blocks of this volume, for readers that
+     * set many blocks at once. Setting blocks through it does not touch the
+     * block entities of this volume.
+     *
+     * @return The block buffer
+     */
+    public ArrayMutableBlockBuffer blockBuffer() {
+        return this.blocks;
+    }
+
     @Override
     public Optional<BlockEntityArchetype> blockEntityArchetype(final int x, final int y, final int z) {
         return Optional.empty();
@@ -127,19 +127,55 @@ public boolean setBlock(final int x, final int y, final int z, final BlockState
         this.checkRange(x, y, z);
         final int id = this.palette.orAssign(block);
         if (id > this.data.getMax()) {
-
-            final int highId = this.palette.highestId();
-            final int dataSize = this.area();
-            final BlockBackingData newdata = new BlockBackingData.PackedBackingData(dataSize, highId);
-            for (int i = 0; i < dataSize; i++) {
-                newdata.set(i, this.data.get(i));
-            }
-            this.data = newdata;
+            this.resize(this.palette.highestId());
         }
         this.data.set(this.getIndex(x, y, z), id);
         return true;
     }
 
+    /**
+     * Assigns all the given states in the palette of this buffer, and grows
+     * the backing data once to fit them all. The returned ids can then be
+     * set with {@link #setId(int, int, int, int)}, which never has to grow
+     * the backing data, unlike setting the states one by one.
+     *
+     * @param states The states, which may contain nulls
+     * @return The palette id of each state, or -1 for nulls
+     */
+    public int[] assignAll(final @Nullable BlockState[] states) {
+        final int[] ids = new int[states.length];
+        for (int i = 0; i < states.length; i++) {
+            ids[i] = states[i] == null ? -1 : this.palette.orAssign(states[i]);
+        }
+        if (this.palette.highestId() > this.data.getMax()) {
+            this.resize(this.palette.highestId());
+        }
+        return ids;
+    }
+
+    /**
+     * Sets the block at the given position to a palette id returned by
+     * {@link #assignAll(BlockState[])}.
+     *
+     * @param x The x position
+     * @param y The y position
+     * @param z The z position
+     * @param id The palette id
+     */
+    public void setId(final int x, final int y, final int z, final int id) {
+        this.checkRange(x, y, z);
+        this.data.set(this.getIndex(x, y, z), id);
+    }
+
+    private void resize(final int highId) {
+        final int dataSize = this.area();
+        final BlockBackingData newdata = new BlockBackingData.PackedBackingData(dataSize, highId);
+        for (int i = 0; i < dataSize; i++) {
+            newdata.set(i, this.data.get(i));
+        }
+        this.data = newdata;
+    }
+
     @Override
     public boolean removeBlock(final int x, final int y, final int z) {
         this.checkRange(x, y, z);
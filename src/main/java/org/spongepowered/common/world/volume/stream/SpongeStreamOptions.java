@@ -34,11 +34,13 @@ public class SpongeStreamOptions implements StreamOptions {
 
     private final boolean copies;
     private final LoadingStyle loadingStyle;
+    private final boolean parallel;
 
     SpongeStreamOptions(final SpongeStreamOptionsBuilder builder) {
         Objects.requireNonNull(builder, "Builder cannot be null!");
         this.loadingStyle = builder.loadingStyle;
         this.copies = builder.copies;
+        this.parallel = builder.parallel;
     }
 
     @Override
@@ -51,6 +53,18 @@ public LoadingStyle loadingStyle() {
         return this.loadingStyle;
     }
 
+    /**
+     * Gets whether block streams created with these options are split by
+     * chunk section and evaluated in parallel. Filters, mappers and visitors
+     * may then be invoked concurrently, while applying the stream to a
+     * volume still happens on the calling thread.
+     *
+     * @return Whether streams are parallel
+     */
+    public boolean parallel() {
+        return this.parallel;
+    }
+
     @Override
     public boolean equals(final @Nullable Object o) {
         if (this == o) {
@@ -60,12 +74,12 @@ public boolean equals(final @Nullable Object o) {
             return false;
         }
         final SpongeStreamOptions that = (SpongeStreamOptions) o;
-        return this.copies == that.copies && this.loadingStyle == that.loadingStyle;
+        return this.copies == that.copies && this.parallel == that.parallel && this.loadingStyle == that.loadingStyle;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.copies, this.loadingStyle);
+        return Objects.hash(this.copies, this.parallel, this.loadingStyle);
     }
 
     @Override
@@ -77,6 +91,7 @@ public String toString() {
         )
             .add("copies=" + this.copies)
             .add("loadingStyle=" + this.loadingStyle)
+            .add("parallel=" + this.parallel)
             .toString();
     }
 }
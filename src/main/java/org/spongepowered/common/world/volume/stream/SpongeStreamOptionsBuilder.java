@@ -31,6 +31,7 @@
 public class SpongeStreamOptionsBuilder implements StreamOptions.Builder {
 
     boolean copies = false;
+    boolean parallel = false;
     StreamOptions.LoadingStyle loadingStyle = StreamOptions.LoadingStyle.LAZILY_UNGENERATED;
 
     @Override
@@ -45,9 +46,22 @@ public StreamOptions.Builder setLoadingStyle(final StreamOptions.LoadingStyle st
         return this;
     }
 
+    /**
+     * Sets whether block streams are split by chunk section and evaluated
+     * in parallel, see {@link SpongeStreamOptions#parallel()}.
+     *
+     * @param parallel Whether streams should be parallel
+     * @return This builder, for chaining
+     */
+    public SpongeStreamOptionsBuilder setParallel(final boolean parallel) {
+        this.parallel = parallel;
+        return this;
+    }
+
     @Override
     public StreamOptions.Builder reset() {
         this.copies = false;
+        this.parallel = false;
         this.loadingStyle = StreamOptions.LoadingStyle.LAZILY_UNGENERATED;
         return this;
     }
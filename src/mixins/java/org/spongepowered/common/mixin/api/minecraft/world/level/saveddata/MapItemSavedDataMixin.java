@@ -84,8 +84,13 @@ public MapItemSavedDataMixin(final String name) {
 
     @Override
     public void bridge$updateWholeMap() {
-        this.shadow$setDirty(0,0);
-        this.shadow$setDirty(Constants.Map.MAP_MAX_INDEX, Constants.Map.MAP_MAX_INDEX);
+        this.bridge$markDirty(0, 0, Constants.Map.MAP_MAX_INDEX, Constants.Map.MAP_MAX_INDEX);
+    }
+
+    @Override
+    public void bridge$markDirty(final int minX, final int minY, final int maxX, final int maxY) {
+        this.shadow$setDirty(minX, minY);
+        this.shadow$setDirty(maxX, maxY);
     }
 
     @SuppressWarnings("SuspiciousMethodCalls")
@@ -112,7 +112,9 @@
 import org.spongepowered.common.data.value.ImmutableSpongeValue;
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
+import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.event.tracking.context.transaction.effect.PreMergeItemDrops;
 import org.spongepowered.common.event.tracking.phase.entity.EntityPhase;
 import org.spongepowered.common.event.tracking.phase.entity.TeleportContext;
 import org.spongepowered.common.hooks.PlatformHooks;
@@ -1122,13 +1124,65 @@ public void stopRiding() {
                 cir.setReturnValue(null);
                 return;
             }
+            final @Nullable List<ItemEntity> drops = this.impl$getPreMergeDrops();
+            final @Nullable ItemEntity merged = drops == null ? null : this.impl$preMergeDrop(drops, item, posX, posY, posZ);
+            if (merged != null) {
+                cir.setReturnValue(merged);
+                return;
+            }
             final ItemEntity entityitem = new ItemEntity(this.level, posX, posY, posZ, item);
             entityitem.setDefaultPickUpDelay();
-            this.level.addFreshEntity(entityitem);
+            // Only items that are actually queued for spawning can take later drops
+            if (this.level.addFreshEntity(entityitem) && drops != null) {
+                drops.add(entityitem);
+            }
             cir.setReturnValue(entityitem);
         }
     }
 
+    /**
+     * Gets the items this entity dropped so far in the current phase, as long
+     * as that phase bulk captures entity spawns so that the spawn event sees
+     * the merged items.
+     *
+     * @return The drops to merge into, or null if drops aren't pre-merged
+     */
+    @Nullable
+    private List<ItemEntity> impl$getPreMergeDrops() {
+        if (!PreMergeItemDrops.isEnabled() || !PhaseTracker.SERVER.onSidedThread()) {
+            return null;
+        }
+        final PhaseContext<?> context = PhaseTracker.SERVER.getPhaseContext();
+        if (context.isEmpty() || !context.allowsBulkEntityCaptures()) {
+            return null;
+        }
+        return context.getPreMergeDrops((Entity) (Object) this);
+    }
+
+    /**
+     * Merges the dropped item into the items this entity already dropped at
+     * the same position in the current phase.
+     *
+     * @return The item entity the whole stack was merged into, if any
+     */
+    @Nullable
+    private ItemEntity impl$preMergeDrop(final List<ItemEntity> drops, final ItemStack item, final double x, final double y,
+        final double z) {
+        for (final ItemEntity drop : drops) {
+            if (!drop.isAlive() || drop.level != this.level || drop.getX() != x || drop.getY() != y || drop.getZ() != z) {
+                continue;
+            }
+            final ItemStack grown = drop.getItem().copy();
+            if (PreMergeItemDrops.mergeInto(grown, item)) {
+                drop.setItem(grown);
+                if (item.isEmpty()) {
+                    return drop;
+                }
+            }
+        }
+        return null;
+    }
+
     @org.checkerframework.checker.nullness.qual.Nullable
     @Override
     public BlockPos bridge$getLastCollidedBlockPos() {
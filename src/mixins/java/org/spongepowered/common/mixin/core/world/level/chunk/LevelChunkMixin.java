@@ -56,20 +56,17 @@
 import org.spongepowered.common.bridge.world.level.storage.PrimaryLevelDataBridge;
 import org.spongepowered.common.entity.PlayerTracker;
 import org.spongepowered.common.event.tracking.PhaseTracker;
-import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.DirectionUtil;
+import org.spongepowered.common.world.level.chunk.TrackedBlockTable;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.function.BiConsumer;
 import java.util.function.Consumer;
-import java.util.function.Function;
 
 import javax.annotation.Nullable;
 
@@ -94,8 +91,7 @@ public abstract class LevelChunkMixin implements LevelChunkBridge, CacheKeyBridg
     private boolean impl$isSpawning = false;
     private final net.minecraft.world.level.chunk.LevelChunk[] impl$neighbors = new net.minecraft.world.level.chunk.LevelChunk[4];
     private long impl$cacheKey;
-    private Map<Integer, PlayerTracker> impl$trackedIntBlockPositions = new HashMap<>();
-    private Map<Short, PlayerTracker> impl$trackedShortBlockPositions = new HashMap<>();
+    private final TrackedBlockTable impl$trackedBlocks = new TrackedBlockTable();
 
     @Inject(method = "<init>(Lnet/minecraft/world/level/Level;Lnet/minecraft/world/level/ChunkPos;Lnet/minecraft/world/level/chunk/ChunkBiomeContainer;Lnet/minecraft/world/level/chunk/UpgradeData;Lnet/minecraft/world/level/TickList;Lnet/minecraft/world/level/TickList;J[Lnet/minecraft/world/level/chunk/LevelChunkSection;Ljava/util/function/Consumer;)V",
             at = @At("RETURN"))
@@ -139,23 +135,8 @@ public abstract class LevelChunkMixin implements LevelChunkBridge, CacheKeyBridg
     // These methods are enabled in ChunkMixin_CreatorTracked as a Mixin plugin
 
     @Override
-    public Map<Integer, PlayerTracker> bridge$getTrackedIntPlayerPositions() {
-        return this.impl$trackedIntBlockPositions;
-    }
-
-    @Override
-    public Map<Short, PlayerTracker> bridge$getTrackedShortPlayerPositions() {
-        return this.impl$trackedShortBlockPositions;
-    }
-
-    @Override
-    public void bridge$setTrackedIntPlayerPositions(final Map<Integer, PlayerTracker> trackedPositions) {
-        this.impl$trackedIntBlockPositions = trackedPositions;
-    }
-
-    @Override
-    public void bridge$setTrackedShortPlayerPositions(final Map<Short, PlayerTracker> trackedPositions) {
-        this.impl$trackedShortBlockPositions = trackedPositions;
+    public TrackedBlockTable bridge$getTrackedBlockTable() {
+        return this.impl$trackedBlocks;
     }
 
     @Override
@@ -189,90 +170,67 @@ public abstract class LevelChunkMixin implements LevelChunkBridge, CacheKeyBridg
             }
         }
 
+        final int key = TrackedBlockTable.key(pos);
+        final int index = this.impl$indexFor(uuid);
         if (trackerType == PlayerTracker.Type.CREATOR) {
-            this.impl$setTrackedUUID(pos, uuid, trackerType, (pt, idx) -> {
-                pt.creatorindex = idx;
-                pt.notifierIndex = idx;
-            });
+            // A new creator is also the latest notifier, unless the position was untracked before
+            this.impl$trackedBlocks.set(key, index, this.impl$trackedBlocks.contains(key) ? index : TrackedBlockTable.UNTRACKED);
         } else {
-            this.impl$setTrackedUUID(pos, uuid, trackerType, (pt, idx) -> pt.notifierIndex = idx);
+            this.impl$trackedBlocks.setNotifier(key, index);
         }
     }
 
-    public Optional<UUID> bridge$trackedUUID(final BlockPos pos, final Function<PlayerTracker, Integer> func) {
+    @Override
+    public Optional<UUID> bridge$getBlockCreatorUUID(final BlockPos pos) {
         if (((LevelBridge) this.level).bridge$isFake()) {
             return Optional.empty();
         }
-
-        final int key = Constants.Sponge.blockPosToInt(pos);
-        final PlayerTracker intTracker = this.impl$trackedIntBlockPositions.get(key);
-        if (intTracker != null) {
-            final int ownerIndex = func.apply(intTracker);
-            return this.impl$getValidatedUUID(key, ownerIndex);
-        }
-        final short shortKey = Constants.Sponge.blockPosToShort(pos);
-        final PlayerTracker shortTracker = this.impl$trackedShortBlockPositions.get(shortKey);
-        if (shortTracker != null) {
-            final int ownerIndex = func.apply(shortTracker);
-            return this.impl$getValidatedUUID(shortKey, ownerIndex);
-        }
-        return Optional.empty();
-    }
-
-    @Override
-    public Optional<UUID> bridge$getBlockCreatorUUID(final BlockPos pos) {
-       return this.bridge$trackedUUID(pos, pt -> pt.creatorindex);
+        final int key = TrackedBlockTable.key(pos);
+        return this.impl$getValidatedUUID(key, this.impl$trackedBlocks.creator(key));
     }
 
     @Override
     public Optional<UUID> bridge$getBlockNotifierUUID(final BlockPos pos) {
-        return this.bridge$trackedUUID(pos, pt -> pt.notifierIndex);
-    }
-
-    private <T> void impl$computePlayerTracker(final Map<T, PlayerTracker> map, final T blockPos, final int index, final PlayerTracker.Type type, final BiConsumer<PlayerTracker, Integer> consumer) {
-        final PlayerTracker tracker = map.get(blockPos);
-        if (tracker != null) {
-            consumer.accept(tracker, index);
-        } else {
-            map.put(blockPos, new PlayerTracker(index, type));
+        if (((LevelBridge) this.level).bridge$isFake()) {
+            return Optional.empty();
         }
+        final int key = TrackedBlockTable.key(pos);
+        return this.impl$getValidatedUUID(key, this.impl$trackedBlocks.notifier(key));
     }
 
-    private void impl$setTrackedUUID(final BlockPos pos, final UUID uuid, final PlayerTracker.Type type, final BiConsumer<PlayerTracker, Integer> consumer) {
-        if (((LevelBridge) this.level).bridge$isFake()) {
-            return;
-        }
-        final PrimaryLevelDataBridge worldInfo = (PrimaryLevelDataBridge) this.level.getLevelData();
-        final int index = uuid == null ? -1 : worldInfo.bridge$getIndexForUniqueId(uuid);
-        if (pos.getY() <= 255) {
-            final short blockPos = Constants.Sponge.blockPosToShort(pos);
-            this.impl$computePlayerTracker(this.impl$trackedShortBlockPositions, blockPos, index, type, consumer);
-            return;
+    private int impl$indexFor(@Nullable final UUID uuid) {
+        if (uuid == null) {
+            return TrackedBlockTable.UNTRACKED;
         }
-        final int blockPos = Constants.Sponge.blockPosToInt(pos);
-        this.impl$computePlayerTracker(this.impl$trackedIntBlockPositions, blockPos, index, type, consumer);
+        return ((PrimaryLevelDataBridge) this.level.getLevelData()).bridge$getIndexForUniqueId(uuid);
     }
 
     @Override
     public void bridge$setBlockNotifier(final BlockPos pos, @Nullable final UUID uuid) {
-       this.impl$setTrackedUUID(pos, uuid, PlayerTracker.Type.NOTIFIER, (pt, idx) -> pt.notifierIndex = idx);
+        if (((LevelBridge) this.level).bridge$isFake()) {
+            return;
+        }
+        this.impl$trackedBlocks.setNotifier(TrackedBlockTable.key(pos), this.impl$indexFor(uuid));
     }
 
     @Override
     public void bridge$setBlockCreator(final BlockPos pos, @Nullable final UUID uuid) {
-        this.impl$setTrackedUUID(pos, uuid, PlayerTracker.Type.CREATOR, (pt, idx) -> pt.creatorindex = idx);
+        if (((LevelBridge) this.level).bridge$isFake()) {
+            return;
+        }
+        this.impl$trackedBlocks.setCreator(TrackedBlockTable.key(pos), this.impl$indexFor(uuid));
     }
 
     private Optional<UUID> impl$getValidatedUUID(final int key, final int ownerIndex) {
+        if (ownerIndex == TrackedBlockTable.UNTRACKED) {
+            return Optional.empty();
+        }
         final PrimaryLevelDataBridge worldInfo = (PrimaryLevelDataBridge) this.level.getLevelData();
         final UUID uuid = worldInfo.bridge$getUniqueIdForIndex(ownerIndex).orElse(null);
         if (uuid != null) {
             // Verify id is valid and not invalid
             if (SpongeConfigs.getCommon().get().world.invalidLookupUuids.contains(uuid)) {
-                if (key <= Short.MAX_VALUE) {
-                    this.impl$trackedShortBlockPositions.remove((short) key);
-                }
-                this.impl$trackedIntBlockPositions.remove(key);
+                this.impl$trackedBlocks.remove(key);
                 return Optional.empty();
             }
 
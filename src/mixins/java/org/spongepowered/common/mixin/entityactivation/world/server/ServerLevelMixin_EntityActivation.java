@@ -25,6 +25,7 @@
 package org.spongepowered.common.mixin.entityactivation.world.server;
 
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.Entity;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
@@ -32,6 +33,7 @@
 import org.spongepowered.asm.mixin.injection.Slice;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.bridge.activation.ActivationCapabilityBridge;
+import org.spongepowered.common.entity.activation.ActivationRangeIndex;
 import org.spongepowered.common.mixin.core.world.level.LevelMixin;
 import org.spongepowered.common.mixin.plugin.entityactivation.EntityActivationRange;
 
@@ -40,13 +42,15 @@
 @Mixin(value = ServerLevel.class, priority = 1005)
 public abstract class ServerLevelMixin_EntityActivation extends LevelMixin {
 
+    private final ActivationRangeIndex<ServerPlayer> activation$rangeIndex = new ActivationRangeIndex<>(ServerPlayer::getBoundingBox);
+
     @Inject(method = "tick",
         at = @At(value = "INVOKE", target = "Lnet/minecraft/util/profiling/ProfilerFiller;popPush(Ljava/lang/String;)V"),
         slice = @Slice(
                 from = @At(value = "INVOKE", target = "Lnet/minecraft/server/level/ServerLevel;runBlockEvents()V"),
                 to = @At(value = "CONSTANT", args = "stringValue=entities", shift = At.Shift.AFTER)))
     protected void activation$entityActivationCheck(final BooleanSupplier var1, final CallbackInfo ci) {
-        EntityActivationRange.activateEntities(((ServerLevel) (Object) this));
+        EntityActivationRange.activateEntities(((ServerLevel) (Object) this), this.activation$rangeIndex);
     }
 
     @Inject(method = "tickNonPassenger", at = @At("HEAD"), cancellable = true)
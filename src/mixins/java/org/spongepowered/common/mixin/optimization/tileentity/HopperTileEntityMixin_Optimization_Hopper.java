@@ -24,16 +24,53 @@
  */
 package org.spongepowered.common.mixin.optimization.tileentity;
 
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.util.ClassInstanceMultiMap;
 import net.minecraft.world.Container;
+import net.minecraft.world.WorldlyContainer;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.HopperBlock;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.Hopper;
 import net.minecraft.world.level.block.entity.HopperBlockEntity;
+import net.minecraft.world.level.chunk.LevelChunk;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.block.entity.CachedBlockContainer;
+import org.spongepowered.common.bridge.optimization.HopperContainerCacheBridge;
 import org.spongepowered.common.bridge.optimization.HopperOptimizationBridge;
 
+import java.util.Collections;
+import java.util.List;
+
 @Mixin(value = HopperBlockEntity.class, priority = 1300)
-public abstract class HopperTileEntityMixin_Optimization_Hopper extends TileEntityMixin_Optimization_Hopper {
+public abstract class HopperTileEntityMixin_Optimization_Hopper extends TileEntityMixin_Optimization_Hopper implements HopperContainerCacheBridge {
+
+    private final CachedBlockContainer hopper$sourceContainer = new CachedBlockContainer();
+    private final CachedBlockContainer hopper$attachedContainer = new CachedBlockContainer();
+
+    @Override
+    public CachedBlockContainer hopperBridge$sourceContainer() {
+        return this.hopper$sourceContainer;
+    }
+
+    @Override
+    public CachedBlockContainer hopperBridge$attachedContainer() {
+        return this.hopper$attachedContainer;
+    }
+
+    @Override
+    public void hopperBridge$invalidateContainers() {
+        this.hopper$sourceContainer.invalidate();
+        this.hopper$attachedContainer.invalidate();
+    }
 
     @Redirect(method = "tryMoveInItem",
         at = @At(value = "INVOKE", target = "Lnet/minecraft/world/Container;setItem(ILnet/minecraft/world/item/ItemStack;)V"))
@@ -47,4 +84,110 @@ public abstract class HopperTileEntityMixin_Optimization_Hopper extends TileEnti
         }
     }
 
+    // Cache the containers above and in front of the hopper instead of looking them up on every transfer
+
+    @Inject(method = "getAttachedContainer", at = @At("HEAD"), cancellable = true)
+    private void hopper$useCachedAttachedContainer(final CallbackInfoReturnable<Container> cir) {
+        final Container container = this.hopper$attachedContainer.get(((BlockEntity) (Object) this).getLevel(), this.hopper$attachedPos());
+        if (container != null) {
+            cir.setReturnValue(container);
+        }
+    }
+
+    @Inject(method = "getAttachedContainer", at = @At("RETURN"))
+    private void hopper$cacheAttachedContainer(final CallbackInfoReturnable<Container> cir) {
+        this.hopper$attachedContainer.set(((BlockEntity) (Object) this).getLevel(), this.hopper$attachedPos(), cir.getReturnValue());
+    }
+
+    private BlockPos hopper$attachedPos() {
+        final BlockEntity blockEntity = (BlockEntity) (Object) this;
+        return blockEntity.getBlockPos().relative(blockEntity.getBlockState().getValue(HopperBlock.FACING));
+    }
+
+    @Inject(method = "getSourceContainer", at = @At("HEAD"), cancellable = true)
+    private static void hopper$useCachedSourceContainer(final Hopper hopper, final CallbackInfoReturnable<Container> cir) {
+        if (hopper instanceof HopperContainerCacheBridge) {
+            final BlockEntity blockEntity = (BlockEntity) hopper;
+            final Container container = ((HopperContainerCacheBridge) hopper).hopperBridge$sourceContainer()
+                .get(blockEntity.getLevel(), blockEntity.getBlockPos().above());
+            if (container != null) {
+                cir.setReturnValue(container);
+            }
+        }
+    }
+
+    @Inject(method = "getSourceContainer", at = @At("RETURN"))
+    private static void hopper$cacheSourceContainer(final Hopper hopper, final CallbackInfoReturnable<Container> cir) {
+        if (hopper instanceof HopperContainerCacheBridge) {
+            final BlockEntity blockEntity = (BlockEntity) hopper;
+            ((HopperContainerCacheBridge) hopper).hopperBridge$sourceContainer()
+                .set(blockEntity.getLevel(), blockEntity.getBlockPos().above(), cir.getReturnValue());
+        }
+    }
+
+    // Skip the slot scans of containers that have not changed since they were last found empty or full.
+    // Sided containers are left alone, as their answer depends on the side they are accessed from.
+
+    @Inject(method = "isEmptyContainer", at = @At("HEAD"), cancellable = true)
+    private static void hopper$skipKnownEmptyContainer(final Container container, final Direction direction,
+        final CallbackInfoReturnable<Boolean> cir) {
+        if (container instanceof HopperOptimizationBridge && !(container instanceof WorldlyContainer)
+            && ((HopperOptimizationBridge) container).hopperBridge$isKnownEmpty()) {
+            cir.setReturnValue(true);
+        }
+    }
+
+    @Inject(method = "isEmptyContainer", at = @At("RETURN"))
+    private static void hopper$rememberEmptyContainer(final Container container, final Direction direction,
+        final CallbackInfoReturnable<Boolean> cir) {
+        if (cir.getReturnValueZ() && container instanceof HopperOptimizationBridge && !(container instanceof WorldlyContainer)) {
+            ((HopperOptimizationBridge) container).hopperBridge$markEmpty();
+        }
+    }
+
+    @Inject(method = "isFullContainer", at = @At("HEAD"), cancellable = true)
+    private void hopper$skipKnownFullContainer(final Container container, final Direction direction,
+        final CallbackInfoReturnable<Boolean> cir) {
+        if (container instanceof HopperOptimizationBridge && !(container instanceof WorldlyContainer)
+            && ((HopperOptimizationBridge) container).hopperBridge$isKnownFull()) {
+            cir.setReturnValue(true);
+        }
+    }
+
+    @Inject(method = "isFullContainer", at = @At("RETURN"))
+    private void hopper$rememberFullContainer(final Container container, final Direction direction,
+        final CallbackInfoReturnable<Boolean> cir) {
+        if (cir.getReturnValueZ() && container instanceof HopperOptimizationBridge && !(container instanceof WorldlyContainer)) {
+            ((HopperOptimizationBridge) container).hopperBridge$markFull();
+        }
+    }
+
+    @Inject(method = "getItemsAtAndAbove", at = @At("HEAD"), cancellable = true)
+    private static void hopper$skipScanWithoutItems(final Hopper hopper, final CallbackInfoReturnable<List<ItemEntity>> cir) {
+        if (!(hopper instanceof HopperBlockEntity)) {
+            return;
+        }
+        final Level level = hopper.getLevel();
+        final BlockPos pos = ((HopperBlockEntity) hopper).getBlockPos();
+        // Covers the chunks and sections the entity lookup would search: the suck area reaches two blocks
+        // above the hopper, and the lookup pads its area by two more blocks in every direction
+        final int minSection = (pos.getY() - 2) >> 4;
+        final int maxSection = (pos.getY() + 4) >> 4;
+        for (int chunkX = (pos.getX() - 2) >> 4; chunkX <= (pos.getX() + 3) >> 4; chunkX++) {
+            for (int chunkZ = (pos.getZ() - 2) >> 4; chunkZ <= (pos.getZ() + 3) >> 4; chunkZ++) {
+                final LevelChunk chunk = level.getChunkSource().getChunkNow(chunkX, chunkZ);
+                if (chunk == null) {
+                    continue;
+                }
+                final ClassInstanceMultiMap<Entity>[] sections = chunk.getEntitySections();
+                for (int section = Math.max(minSection, 0); section <= Math.min(maxSection, sections.length - 1); section++) {
+                    if (!sections[section].find(ItemEntity.class).isEmpty()) {
+                        return;
+                    }
+                }
+            }
+        }
+        cir.setReturnValue(Collections.emptyList());
+    }
+
 }
@@ -35,14 +35,39 @@
 public abstract class TileEntityMixin_Optimization_Hopper implements HopperOptimizationBridge {
 
     private boolean hopper$shouldCancelDirtyUpdate = false;
+    // Bumped on every setChanged, even cancelled ones, so hoppers can tell whether the contents may have changed
+    private int hopper$changeCount = 0;
+    private int hopper$emptyAtChange = -1;
+    private int hopper$fullAtChange = -1;
 
     @Override
     public void hopperBridge$setCancelDirtyUpdate(final boolean canMarkDirty) {
         this.hopper$shouldCancelDirtyUpdate = canMarkDirty;
     }
 
+    @Override
+    public boolean hopperBridge$isKnownEmpty() {
+        return this.hopper$emptyAtChange == this.hopper$changeCount;
+    }
+
+    @Override
+    public void hopperBridge$markEmpty() {
+        this.hopper$emptyAtChange = this.hopper$changeCount;
+    }
+
+    @Override
+    public boolean hopperBridge$isKnownFull() {
+        return this.hopper$fullAtChange == this.hopper$changeCount;
+    }
+
+    @Override
+    public void hopperBridge$markFull() {
+        this.hopper$fullAtChange = this.hopper$changeCount;
+    }
+
     @Inject(method = "setChanged", at = @At("HEAD"), cancellable = true)
     private void hopper$DoNotUpdateIfMarked(final CallbackInfo ci) {
+        this.hopper$changeCount++;
         if (this.hopper$shouldCancelDirtyUpdate) {
             ci.cancel();
         }
@@ -0,0 +1,145 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.world.level.block;
+
+import com.google.common.collect.Sets;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.RedStoneWireBlock;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.IntegerProperty;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Overwrite;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.common.applaunch.config.common.EigenRedstoneCategory;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.util.Constants;
+import org.spongepowered.common.world.level.redstone.LevelRedstoneWires;
+import org.spongepowered.common.world.level.redstone.RedstoneWireSettler;
+import org.spongepowered.common.world.level.redstone.RedstoneWires;
+
+import java.util.Map;
+import java.util.Set;
+
+@Mixin(RedStoneWireBlock.class)
+public abstract class RedStoneWireBlockMixin_Optimization_Eigen {
+
+    // The order in which Level#updateNeighborsAt notifies its neighbors
+    private static final Direction[] eigen$UPDATE_ORDER = {Direction.WEST, Direction.EAST, Direction.DOWN, Direction.UP, Direction.NORTH, Direction.SOUTH};
+
+    // @formatter:off
+    @Shadow @Final public static IntegerProperty POWER;
+
+    @Shadow private boolean shouldSignal;
+
+    @Shadow private int shadow$calculateTargetStrength(final Level level, final BlockPos pos) {
+        return 0;
+    }
+    // @formatter:on
+
+    /**
+     * @author theosib - redstone algorithm, rewritten October 18th, 2026 - 1.16.5
+     * @reason Vanilla recomputes a wire and notifies all neighbors of every
+     * wire it touches recursively, revisiting the same wires and blocks many
+     * times over (MC-81098) in an order that depends on the hash of their
+     * positions (MC-11193). Instead, all affected wires are settled first
+     * breadth first, then every block around them is notified exactly once,
+     * in the order the wires changed.
+     *
+     * @param level The level
+     * @param pos The position of the wire
+     * @param state The state of the wire
+     */
+    @Overwrite
+    private void updatePowerStrength(final Level level, final BlockPos pos, final BlockState state) {
+        final EigenRedstoneCategory config = SpongeConfigs.getCommon().get().optimizations.eigenRedstone;
+        if (config.vanillaSearch) {
+            this.eigen$vanillaUpdatePowerStrength(level, pos, state);
+            return;
+        }
+
+        final ObjectLinkedOpenHashSet<BlockPos> changed = new ObjectLinkedOpenHashSet<>();
+        final RedstoneWires wires = new LevelRedstoneWires(level, (Block) (Object) this, wire -> this.eigen$blockPower(level, wire));
+        RedstoneWireSettler.settle(wires, pos, config.vanillaDecrement, changed);
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        // Gather everything vanilla would notify through Level#updateNeighborsAt, once per position
+        final Map<BlockPos, BlockPos> notifications = new Object2ObjectLinkedOpenHashMap<>();
+        for (final BlockPos wire : changed) {
+            this.eigen$addNotifications(wire, notifications);
+            for (final Direction direction : RedStoneWireBlockMixin_Optimization_Eigen.eigen$UPDATE_ORDER) {
+                this.eigen$addNotifications(wire.relative(direction), notifications);
+            }
+        }
+        // The changed wires are already settled, notifying them again would only recompute the same power
+        for (final BlockPos wire : changed) {
+            notifications.remove(wire);
+        }
+        final Block block = (Block) (Object) this;
+        for (final Map.Entry<BlockPos, BlockPos> notification : notifications.entrySet()) {
+            // Routed through the level so the phase tracker captures the neighbor notifications as usual
+            level.neighborChanged(notification.getKey(), block, notification.getValue());
+        }
+    }
+
+    private void eigen$vanillaUpdatePowerStrength(final Level level, final BlockPos pos, final BlockState state) {
+        final int power = this.shadow$calculateTargetStrength(level, pos);
+        if (state.getValue(RedStoneWireBlockMixin_Optimization_Eigen.POWER) != power) {
+            if (level.getBlockState(pos) == state) {
+                level.setBlock(pos, state.setValue(RedStoneWireBlockMixin_Optimization_Eigen.POWER, power), Constants.BlockChangeFlags.NOTIFY_CLIENTS);
+            }
+
+            final Set<BlockPos> toUpdate = Sets.newHashSet();
+            toUpdate.add(pos);
+            for (final Direction direction : Direction.values()) {
+                toUpdate.add(pos.relative(direction));
+            }
+            for (final BlockPos updatePos : toUpdate) {
+                level.updateNeighborsAt(updatePos, (Block) (Object) this);
+            }
+        }
+    }
+
+    private int eigen$blockPower(final Level level, final BlockPos pos) {
+        this.shouldSignal = false;
+        final int power = level.getBestNeighborSignal(pos);
+        this.shouldSignal = true;
+        return power;
+    }
+
+    private void eigen$addNotifications(final BlockPos center, final Map<BlockPos, BlockPos> notifications) {
+        for (final Direction direction : RedStoneWireBlockMixin_Optimization_Eigen.eigen$UPDATE_ORDER) {
+            notifications.putIfAbsent(center.relative(direction), center);
+        }
+    }
+
+}
@@ -56,11 +56,15 @@ public boolean shouldApplyMixin(final String targetClassName, final String mixin
             .put("org.spongepowered.common.mixin.optimization.general.DataFixersMixin_Optimization_LazyDFU", optimizationCategory -> optimizationCategory.enableLazyDFU)
             .put("org.spongepowered.common.mixin.optimization.entity.EntityMixin_Optimization_Collision", optimizationCategory -> optimizationCategory.useActiveChunksForCollisions)
             .put("org.spongepowered.common.mixin.optimization.world.entity.TamableAnimalMixin_Optimization_Owner", optimizationCategory -> optimizationCategory.cacheTameableOwners)
+            .put("org.spongepowered.common.mixin.optimization.world.level.block.RedStoneWireBlockMixin_Optimization_Eigen",
+                    optimizationCategory -> optimizationCategory.eigenRedstone.enabled)
+            .put("org.spongepowered.common.mixin.optimization.tileentity.TileEntityMixin_Optimization_Hopper",
+                    optimizationCategory -> optimizationCategory.optimizeHoppers)
+            .put("org.spongepowered.common.mixin.optimization.tileentity.HopperTileEntityMixin_Optimization_Hopper",
+                    optimizationCategory -> optimizationCategory.optimizeHoppers)
+            .put("org.spongepowered.common.mixin.optimization.world.level.block.HopperBlockMixin_Optimization_Hopper",
+                    optimizationCategory -> optimizationCategory.optimizeHoppers)
 // TODO investigate what is still relevant and add them back
-//            .put("org.spongepowered.common.mixin.optimization.SpongeImplHooksMixin_Item_Pre_Merge",
-//                    optimizationCategory -> optimizationCategory.dropsPreMerge)
-//            .put("org.spongepowered.common.mixin.optimization.mcp.block.BlockRedstoneWireMixin_Eigen", optimizationCategory -> optimizationCategory.eigenRedstone.enabled)
-//            .put("org.spongepowered.common.accessor.block.BlockRedstoneWireAccessor_Eigen", optimizationCategory -> optimizationCategory.eigenRedstone.enabled)
 //            .put("org.spongepowered.common.mixin.optimization.mcp.entity.passive.TameableEntity_Optimization_Owner",
 //                    optimizationCategory -> optimizationCategory.cacheTameableOwners)
 //            .put("org.spongepowered.common.mixin.optimization.mcp.entity.item.ItemFrameEntityMixin_Optimization_Map",
@@ -75,10 +79,6 @@ public boolean shouldApplyMixin(final String targetClassName, final String mixin
 //                    optimizationCategory -> optimizationCategory.optimizeMaps)
 //            .put("org.spongepowered.common.mixin.optimization.mcp.server.MinecraftServerMixin_MapOptimization",
 //                    optimizationCategory -> optimizationCategory.optimizeMaps)
-//            .put("org.spongepowered.common.mixin.optimization.mcp.tileentity.TileEntityMixin_Optimization_Hopper",
-//                    optimizationCategory -> optimizationCategory.optimizeHoppers)
-//            .put("org.spongepowered.common.mixin.optimization.mcp.tileentity.HopperTileEntityMixin_Optimization_Hopper",
-//                    optimizationCategory -> optimizationCategory.optimizeHoppers)
 //            .put("org.spongepowered.common.mixin.optimization.mcp.entity.EntityMixin_UseActiveChunkForCollisions",
 //                    optimizationCategory -> optimizationCategory.useActiveChunksForCollisions)
 //            .put("org.spongepowered.common.mixin.optimization.mcp.world.WorldMixin_UseActiveChunkForCollisions",
@@ -24,12 +24,11 @@
  */
 package org.spongepowered.common.mixin.plugin.entityactivation;
 
-import com.google.common.collect.ImmutableMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.util.ClassInstanceMultiMap;
-import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.LightningBolt;
@@ -52,6 +51,7 @@
 import net.minecraft.world.entity.projectile.AbstractHurtingProjectile;
 import net.minecraft.world.entity.projectile.FireworkRocketEntity;
 import net.minecraft.world.entity.projectile.ThrowableProjectile;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.phys.AABB;
 import org.spongepowered.api.data.Keys;
@@ -69,32 +69,30 @@
 import org.spongepowered.common.bridge.world.level.chunk.ActiveChunkReferantBridge;
 import org.spongepowered.common.bridge.world.level.chunk.LevelChunkBridge;
 import org.spongepowered.common.config.SpongeGameConfigs;
+import org.spongepowered.common.entity.activation.ActivationRangeIndex;
 import org.spongepowered.common.config.inheritable.EntityActivationRangeCategory;
 import org.spongepowered.common.config.inheritable.GlobalConfig;
 import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
 import org.spongepowered.common.config.inheritable.WorldConfig;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.List;
 
 public final class EntityActivationRange {
 
-    private static final ImmutableMap<Byte, String> activationTypeMappings = new ImmutableMap.Builder<Byte, String>()
-        .put((byte) 1, "monster")
-        .put((byte) 2, "creature")
-        .put((byte) 3, "aquatic")
-        .put((byte) 4, "ambient")
-        .put((byte) 5, "misc")
-        .build();
-
-    static AABB maxBB = new AABB(0, 0, 0, 0, 0, 0);
-    static AABB miscBB = new AABB(0, 0, 0, 0, 0, 0);
-    static AABB creatureBB = new AABB(0, 0, 0, 0, 0, 0);
-    static AABB monsterBB = new AABB(0, 0, 0, 0, 0, 0);
-    static AABB aquaticBB = new AABB(0, 0, 0, 0, 0, 0);
-    static AABB ambientBB = new AABB(0, 0, 0, 0, 0, 0);
-    static AABB tileEntityBB = new AABB(0, 0, 0, 0, 0, 0);
-    static Map<Byte, Integer> maxActivationRanges = new HashMap<>();
+    private static final String[] activationTypeNames = new String[256];
+
+    static {
+        Arrays.fill(EntityActivationRange.activationTypeNames, "misc");
+        EntityActivationRange.activationTypeNames[1] = "monster";
+        EntityActivationRange.activationTypeNames[2] = "creature";
+        EntityActivationRange.activationTypeNames[3] = "aquatic";
+        EntityActivationRange.activationTypeNames[4] = "ambient";
+    }
+
+    // Indexed by the unsigned activation type
+    static final int[] maxActivationRanges = new int[256];
+    static int maxActivationRange = 0;
 
     /**
      * Initializes an entities type on construction to specify what group this
@@ -151,7 +149,7 @@ public static void initializeEntityActivationState(final Entity entity) {
         final EntityTypeBridge type = (EntityTypeBridge) entity.getType();
         final ResourceLocation key = EntityType.getKey(entity.getType());
         final byte activationType = spongeEntity.activation$getActivationType();
-        final String activationTypeName = EntityActivationRange.activationTypeMappings.getOrDefault(activationType, "misc");
+        final String activationTypeName = EntityActivationRange.activationTypeNames[activationType & 0xFF];
         if (!type.bridge$isActivationRangeInitialized()) {
             EntityActivationRange.addEntityToConfig(config.autoPopulate, key, activationType, activationTypeName);
             type.bridge$setActivationRangeInitialized(true);
@@ -213,53 +211,67 @@ public static AABB growBb(final AABB target, final AABB source, final int x, fin
      * Find what entities are in range of the players in the world and set
      * active if in range.
      *
+     * <p>Each chunk covered by the index is visited once, and its entities
+     * are only tested against the players covering that chunk. Entities whose
+     * activation range reaches across the whole chunk from the nearest of
+     * those players are activated without any test against the players.</p>
+     *
      * @param world The world to perform activation checks in
+     * @param index The activation index of the world
      */
-    public static void activateEntities(final ServerLevel world) {
+    public static void activateEntities(final ServerLevel world, final ActivationRangeIndex<ServerPlayer> index) {
         if (((LevelBridge) world).bridge$isFake()) {
             return;
         }
 
-        for (final ServerPlayer player : world.players()) {
-            int maxRange = 0;
-            for (final Integer range : EntityActivationRange.maxActivationRanges.values()) {
-                if (range > maxRange) {
-                    maxRange = range;
-                }
-            }
+        final long currentTick = SpongeCommon.server().getTickCount();
+        final List<ServerPlayer> players = world.players();
+        for (final ServerPlayer player : players) {
+            ((ActivationCapabilityBridge) player).activation$setActivatedTick(currentTick);
+        }
 
-            maxRange = Math.min((((ServerWorld) world).properties().viewDistance() << 4) - 8, maxRange);
-            ((ActivationCapabilityBridge) player).activation$setActivatedTick(SpongeCommon.server().getTickCount());
-            final AABB aabb = EntityActivationRange.maxBB;
-            EntityActivationRange.growBb(aabb, player.getBoundingBox(), maxRange, 256, maxRange);
-
-            final int i = Mth.floor(aabb.minX / 16.0D);
-            final int j = Mth.floor(aabb.maxX / 16.0D);
-            final int k = Mth.floor(aabb.minZ / 16.0D);
-            final int l = Mth.floor(aabb.maxZ / 16.0D);
-
-            for (int i1 = i; i1 <= j; ++i1) {
-                for (int j1 = k; j1 <= l; ++j1) {
-                    final LevelChunk chunk = world.getChunkSource().getChunkNow(i1, j1);
-                    if (chunk != null) {
-                        EntityActivationRange.activateChunkEntities(player, chunk);
-                    }
+        final int maxRange = Math.min((((ServerWorld) world).properties().viewDistance() << 4) - 8, EntityActivationRange.maxActivationRange);
+        index.update(players, maxRange);
+
+        for (final Long2ObjectMap.Entry<List<ServerPlayer>> entry : index.coveredChunks().long2ObjectEntrySet()) {
+            final long key = entry.getLongKey();
+            final int chunkX = ChunkPos.getX(key);
+            final int chunkZ = ChunkPos.getZ(key);
+            final LevelChunk chunk = world.getChunkSource().getChunkNow(chunkX, chunkZ);
+            if (chunk == null) {
+                continue;
+            }
+            final List<ServerPlayer> covering = entry.getValue();
+            AABB coveringBox = covering.get(0).getBoundingBox();
+            int coveringRange = ActivationRangeIndex.coveringRange(coveringBox, chunkX, chunkZ);
+            for (int i = 1, size = covering.size(); i < size; i++) {
+                final AABB box = covering.get(i).getBoundingBox();
+                final int range = ActivationRangeIndex.coveringRange(box, chunkX, chunkZ);
+                if (range < coveringRange) {
+                    coveringBox = box;
+                    coveringRange = range;
                 }
             }
+            EntityActivationRange.activateChunkEntities(covering, coveringBox, coveringRange, chunk, currentTick);
         }
     }
 
     /**
      * Checks for the activation state of all entities in this chunk.
      *
+     * @param players The players whose activation range covers the chunk
+     * @param coveringBox The bounding box of the player nearest to covering
+     *     the whole chunk
+     * @param coveringRange The activation range at which that player covers
+     *     the whole chunk
      * @param chunk Chunk to check for activation
+     * @param currentTick The current server tick
      */
-    private static void activateChunkEntities(final Player player, final LevelChunk chunk) {
-
+    private static void activateChunkEntities(final List<ServerPlayer> players, final AABB coveringBox, final int coveringRange,
+            final LevelChunk chunk, final long currentTick) {
         for (final ClassInstanceMultiMap<Entity> entitySection : chunk.getEntitySections()) {
             for (final Entity entity : entitySection) {
                 final ActivationCapabilityBridge spongeEntity = (ActivationCapabilityBridge) entity;
-                final long currentTick = SpongeCommon.server().getTickCount();
                 if (!((TrackableBridge) entity).bridge$shouldTick()) {
                     continue;
                 }
@@ -277,36 +289,34 @@ private static void activateChunkEntities(final Player player, final LevelChunk
                     spongeEntity.activation$requiresActivationCacheRefresh(false);
                 }
 
-                // check for entity type overrides
-                final AABB aabb;
-                switch (spongeEntity.activation$getActivationType()) {
-                    case 5:
-                        aabb = EntityActivationRange.miscBB;
-                        break;
-                    case 4:
-                        aabb = EntityActivationRange.ambientBB;
-                        break;
-                    case 3:
-                        aabb = EntityActivationRange.aquaticBB;
-                        break;
-                    case 2:
-                        aabb = EntityActivationRange.creatureBB;
-                        break;
-                    default:
-                        aabb = EntityActivationRange.monsterBB;
-                        break;
-                }
-
                 final int bbActivationRange = spongeEntity.activation$getActivationRange();
-                EntityActivationRange.growBb(aabb, player.getBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                if (aabb.intersects(entity.getBoundingBox())) {
+                final AABB entityBox = entity.getBoundingBox();
+                if (bbActivationRange >= coveringRange
+                    && coveringBox.minY - 256 < entityBox.maxY && coveringBox.maxY + 256 > entityBox.minY) {
                     spongeEntity.activation$setActivatedTick(currentTick);
+                    continue;
+                }
+                for (int i = 0, size = players.size(); i < size; i++) {
+                    if (EntityActivationRange.intersectsGrown(players.get(i).getBoundingBox(), bbActivationRange, entityBox)) {
+                        spongeEntity.activation$setActivatedTick(currentTick);
+                        break;
+                    }
                 }
             }
-
         }
     }
 
+    /**
+     * Equivalent to growing {@code source} by {@code range} horizontally and
+     * 256 vertically and testing it against {@code target}, without mutating
+     * or allocating a box.
+     */
+    private static boolean intersectsGrown(final AABB source, final int range, final AABB target) {
+        return source.minX - range < target.maxX && source.maxX + range > target.minX
+            && source.minY - 256 < target.maxY && source.maxY + 256 > target.minY
+            && source.minZ - range < target.maxZ && source.maxZ + range > target.minZ;
+    }
+
     /**
      * If an entity is not in range, do some more checks to see if we should
      * give it a shot.
@@ -445,9 +455,13 @@ public static void addEntityToConfig(
         }
 
         // check max ranges
-        final int newRange = range;
-        EntityActivationRange.maxActivationRanges
-            .compute(activationType, (k, maxRange) -> maxRange == null || newRange > maxRange ? newRange : maxRange);
+        final int typeIndex = activationType & 0xFF;
+        if (range > EntityActivationRange.maxActivationRanges[typeIndex]) {
+            EntityActivationRange.maxActivationRanges[typeIndex] = range;
+            if (range > EntityActivationRange.maxActivationRange) {
+                EntityActivationRange.maxActivationRange = range;
+            }
+        }
 
         if (autoPopulate && requiresSave) {
             globalConfig.save();
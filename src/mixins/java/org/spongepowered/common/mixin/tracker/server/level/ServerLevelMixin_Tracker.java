@@ -630,7 +630,7 @@ public boolean destroyBlock(final BlockPos pos, final boolean doDrops, @Nullable
         // and if so, log the tile entity removal (may associate with an existing transaction,
         // or create a new transaction.
         final PhaseContext<@NonNull ?> current = PhaseTracker.SERVER.getPhaseContext();
-        if (current.getTransactor().logTileRemoval(tileentity, () -> (ServerLevel) (Object) this)) {
+        if (!current.elidesBlockCaptures() && current.getTransactor().logTileRemoval(tileentity, () -> (ServerLevel) (Object) this)) {
             final TileEntityPipeline pipeline = TileEntityPipeline.kickOff((ServerLevel) (Object) this, immutable)
                 .addEffect(RemoveTileEntityFromWorldEffect.getInstance())
                 .addEffect(RemoveTileEntityFromChunkEffect.getInstance())
@@ -653,7 +653,7 @@ public boolean destroyBlock(final BlockPos pos, final boolean doDrops, @Nullable
         // and if so, log the tile entity removal (may associate with an existing transaction,
         // or create a new transaction.
         final PhaseContext<@NonNull ?> current = PhaseTracker.SERVER.getPhaseContext();
-        if (current.doesBlockEventTracking()) {
+        if (current.doesBlockEventTracking() && !current.elidesBlockCaptures()) {
             final BlockPos immutable = tileEntity.getBlockPos().immutable();
             if (tileEntity.getLevel() != (ServerLevel) (Object) this) {
                 tileEntity.setLevelAndPosition((ServerLevel) (Object) this, immutable);
@@ -700,7 +700,7 @@ public boolean destroyBlock(final BlockPos pos, final boolean doDrops, @Nullable
         // and if so, log the tile entity removal (may associate with an existing transaction,
         // or create a new transaction.
         final PhaseContext<@NonNull ?> current = PhaseTracker.SERVER.getPhaseContext();
-        if (current.doesBlockEventTracking()) {
+        if (current.doesBlockEventTracking() && !current.elidesBlockCaptures()) {
             final net.minecraft.world.level.block.entity.@Nullable BlockEntity existing = this.shadow$getChunkAt(immutable).getBlockEntity(immutable);
             if (current.getTransactor().logTileReplacement(immutable, existing, proposed, () -> (ServerLevel) (Object) this)) {
                 final TileEntityPipeline pipeline = TileEntityPipeline.kickOff((ServerLevel) (Object) this, immutable)
@@ -756,12 +756,14 @@ public boolean destroyBlock(final BlockPos pos, final boolean doDrops, @Nullable
 
         //  try { // Vanilla - We need to push the effect transactor so that it always pops
         try {
-            final Supplier<ServerLevel> worldSupplier = VolumeStreamUtils.createWeaklyReferencedSupplier((ServerLevel) (Object) this, "ServerWorld");
-            final net.minecraft.world.level.block.entity.@Nullable BlockEntity existingTile = targetChunk.getBlockEntity(
-                immutableTarget,
-                LevelChunk.EntityCreationType.CHECK
-            );
-            peek.getTransactor().logNeighborNotification(worldSupplier, immutableFrom, blockIn, immutableTarget, targetBlockState, existingTile);
+            if (!peek.elidesBlockCaptures()) {
+                final Supplier<ServerLevel> worldSupplier = VolumeStreamUtils.createWeaklyReferencedSupplier((ServerLevel) (Object) this, "ServerWorld");
+                final net.minecraft.world.level.block.entity.@Nullable BlockEntity existingTile = targetChunk.getBlockEntity(
+                    immutableTarget,
+                    LevelChunk.EntityCreationType.CHECK
+                );
+                peek.getTransactor().logNeighborNotification(worldSupplier, immutableFrom, blockIn, immutableTarget, targetBlockState, existingTile);
+            }
 
             peek.associateNeighborStateNotifier(immutableFrom, targetBlockState.getBlock(), immutableTarget, ((ServerLevel) (Object) this), PlayerTracker.Type.NOTIFIER);
             // Sponge End
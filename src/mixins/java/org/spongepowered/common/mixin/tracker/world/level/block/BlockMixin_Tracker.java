@@ -26,6 +26,7 @@
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Registry;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
@@ -38,6 +39,7 @@
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.bridge.RegistryBackedTrackableBridge;
 import org.spongepowered.common.bridge.world.level.block.TrackableBlockBridge;
@@ -46,8 +48,11 @@
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.context.transaction.EffectTransactor;
+import org.spongepowered.common.event.tracking.context.transaction.effect.PreMergeItemDrops;
 import org.spongepowered.common.util.ReflectionUtil;
 
+import java.util.List;
+
 @Mixin(Block.class)
 public abstract class BlockMixin_Tracker implements TrackableBlockBridge, RegistryBackedTrackableBridge<Block> {
 
@@ -160,6 +165,35 @@ public abstract class BlockMixin_Tracker implements TrackableBlockBridge, Regist
         context.getTransactor().completeBlockDrops(BlockMixin_Tracker.tracker$effectTransactorForDrops);
     }
 
+    /**
+     * Merges the drops before they are popped, so that fewer item entities
+     * are captured and spawned. This happens in between the drops being
+     * logged and completed above, so the merged items are still recorded
+     * as the drops of the block.
+     */
+    @Redirect(
+        method = {
+            "dropResources(Lnet/minecraft/world/level/block/state/BlockState;Lnet/minecraft/world/level/Level;Lnet/minecraft/core/BlockPos;)V",
+            "dropResources(Lnet/minecraft/world/level/block/state/BlockState;Lnet/minecraft/world/level/LevelAccessor;Lnet/minecraft/core/BlockPos;Lnet/minecraft/world/level/block/entity/BlockEntity;)V"
+        },
+        at = @At(value = "INVOKE",
+            target = "Lnet/minecraft/world/level/block/Block;getDrops(Lnet/minecraft/world/level/block/state/BlockState;Lnet/minecraft/server/level/ServerLevel;Lnet/minecraft/core/BlockPos;Lnet/minecraft/world/level/block/entity/BlockEntity;)Ljava/util/List;")
+    )
+    private static List<ItemStack> tracker$preMergeDrops(final BlockState state, final ServerLevel level, final BlockPos pos,
+        final @Nullable BlockEntity blockEntity) {
+        return PreMergeItemDrops.merge(Block.getDrops(state, level, pos, blockEntity));
+    }
+
+    @Redirect(
+        method = "dropResources(Lnet/minecraft/world/level/block/state/BlockState;Lnet/minecraft/world/level/Level;Lnet/minecraft/core/BlockPos;Lnet/minecraft/world/level/block/entity/BlockEntity;Lnet/minecraft/world/entity/Entity;Lnet/minecraft/world/item/ItemStack;)V",
+        at = @At(value = "INVOKE",
+            target = "Lnet/minecraft/world/level/block/Block;getDrops(Lnet/minecraft/world/level/block/state/BlockState;Lnet/minecraft/server/level/ServerLevel;Lnet/minecraft/core/BlockPos;Lnet/minecraft/world/level/block/entity/BlockEntity;Lnet/minecraft/world/entity/Entity;Lnet/minecraft/world/item/ItemStack;)Ljava/util/List;")
+    )
+    private static List<ItemStack> tracker$preMergeDrops(final BlockState state, final ServerLevel level, final BlockPos pos,
+        final @Nullable BlockEntity blockEntity, final @Nullable Entity entity, final ItemStack tool) {
+        return PreMergeItemDrops.merge(Block.getDrops(state, level, pos, blockEntity, entity, tool));
+    }
+
     @Override
     public TrackerCategory bridge$trackerCategory() {
         return SpongeGameConfigs.getTracker().get().block;
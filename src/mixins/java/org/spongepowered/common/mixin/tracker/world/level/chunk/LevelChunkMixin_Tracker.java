@@ -142,6 +142,16 @@ public abstract class LevelChunkMixin_Tracker implements TrackedLevelChunkBridge
 
         // Sponge Start - Build out the BlockTransaction
         final PhaseContext<@NonNull ?> context = PhaseTracker.getInstance().getPhaseContext();
+        if (context.elidesBlockCaptures()) {
+            // Nothing observes the block changes of this phase, skip snapshotting and recording the change
+            final ChunkPipeline.Builder builder = ChunkPipeline.builder()
+                .kickOffUncaptured(flag)
+                .chunk((LevelChunk) (Object) this)
+                .chunkSection(chunksection)
+                .world((ServerLevel) this.level);
+            ChangeBlock.populateChunkEffects(builder);
+            return builder.build();
+        }
         final @Nullable BlockEntity existing = this.shadow$getBlockEntity(pos, LevelChunk.EntityCreationType.CHECK);
         // Build a transaction maybe?
         final WeakReference<ServerLevel> ref = new WeakReference<>((ServerLevel) this.level);
@@ -169,7 +179,7 @@ public abstract class LevelChunkMixin_Tracker implements TrackedLevelChunkBridge
             .world((ServerLevel) this.level);
 
         // Populate the effects
-        transaction.populateChunkEffects(builder);
+        ChangeBlock.populateChunkEffects(builder);
 
         return builder.build();
     }
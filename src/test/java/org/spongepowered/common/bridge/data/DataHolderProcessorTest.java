@@ -0,0 +1,139 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.bridge.data;
+
+import com.google.common.collect.Multimap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.spongepowered.api.data.DataManipulator;
+import org.spongepowered.api.data.DataTransactionResult;
+import org.spongepowered.api.data.Key;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataView;
+import org.spongepowered.api.data.value.Value;
+import org.spongepowered.common.data.DataUtil;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+final class DataHolderProcessorTest {
+
+    @SuppressWarnings("unchecked")
+    private static final Key<Value<String>> KEY = Mockito.mock(Key.class);
+
+    @Test
+    void testOfferAndRemoveSyncEachChange() {
+        final StubDataHolder holder = new StubDataHolder();
+        try (final MockedStatic<DataUtil> dataUtil = Mockito.mockStatic(DataUtil.class)) {
+            Assertions.assertTrue(holder.bridge$offer(DataHolderProcessorTest.KEY, "first").isSuccessful());
+            Assertions.assertEquals("first", holder.values.get(DataHolderProcessorTest.KEY));
+            dataUtil.verify(() -> DataUtil.syncDataToTag(holder), Mockito.times(1));
+
+            Assertions.assertTrue(holder.bridge$remove(DataHolderProcessorTest.KEY).isSuccessful());
+            Assertions.assertFalse(holder.values.containsKey(DataHolderProcessorTest.KEY));
+            dataUtil.verify(() -> DataUtil.syncDataToTag(holder), Mockito.times(2));
+        }
+    }
+
+    @Test
+    void testBatchSyncsOnceAfterwards() {
+        final StubDataHolder holder = new StubDataHolder();
+        try (final MockedStatic<DataUtil> dataUtil = Mockito.mockStatic(DataUtil.class)) {
+            final DataTransactionResult result = DataHolderProcessor.batch(() -> {
+                holder.bridge$offer(DataHolderProcessorTest.KEY, "first");
+                holder.bridge$offer(DataHolderProcessorTest.KEY, "second");
+                final DataTransactionResult removed = holder.bridge$remove(DataHolderProcessorTest.KEY);
+                holder.bridge$offer(DataHolderProcessorTest.KEY, "third");
+                dataUtil.verify(() -> DataUtil.syncDataToTag(ArgumentMatchers.any()), Mockito.never());
+                return removed;
+            });
+            Assertions.assertTrue(result.isSuccessful());
+            Assertions.assertEquals("third", holder.values.get(DataHolderProcessorTest.KEY));
+            dataUtil.verify(() -> DataUtil.syncDataToTag(holder), Mockito.times(1));
+
+            // Outside of the batch every change is synced right away again
+            holder.bridge$remove(DataHolderProcessorTest.KEY);
+            dataUtil.verify(() -> DataUtil.syncDataToTag(holder), Mockito.times(2));
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final class StubDataHolder implements SpongeDataHolderBridge {
+
+        final Map<Key<?>, Object> values = new HashMap<>();
+        final DataManipulator.Mutable manipulator = Mockito.mock(DataManipulator.Mutable.class);
+
+        StubDataHolder() {
+            Mockito.when(this.manipulator.getValue(ArgumentMatchers.any())).thenAnswer(invocation -> {
+                final Key<?> key = invocation.getArgument(0);
+                if (!this.values.containsKey(key)) {
+                    return Optional.empty();
+                }
+                final Value value = Mockito.mock(Value.class);
+                Mockito.when(value.asImmutable()).thenReturn(Mockito.mock(Value.Immutable.class));
+                return Optional.of(value);
+            });
+            Mockito.when(this.manipulator.set(ArgumentMatchers.any(Key.class), ArgumentMatchers.any())).thenAnswer(invocation -> {
+                this.values.put(invocation.getArgument(0), invocation.getArgument(1));
+                return this.manipulator;
+            });
+            Mockito.when(this.manipulator.remove(ArgumentMatchers.any(Key.class))).thenAnswer(invocation -> {
+                this.values.remove(invocation.<Key<?>>getArgument(0));
+                return this.manipulator;
+            });
+        }
+
+        @Override
+        public void bridge$mergeDeserialized(final DataManipulator.Mutable manipulator) {
+        }
+
+        @Override
+        public void bridge$clear() {
+            this.values.clear();
+        }
+
+        @Override
+        public DataManipulator.Mutable bridge$getManipulator() {
+            return this.manipulator;
+        }
+
+        @Override
+        public Multimap<DataQuery, DataView> bridge$getFailedData() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void bridge$invalidateFailedData() {
+        }
+
+        @Override
+        public void bridge$addFailedData(final DataQuery nameSpace, final DataView keyedData) {
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import net.minecraft.nbt.ByteTag;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.IntTag;
+import net.minecraft.nbt.ListTag;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataView;
+import org.spongepowered.common.data.MemoryDataContainer;
+import org.spongepowered.common.data.MemoryDataView;
+import org.spongepowered.common.data.SpongeDataManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+final class NBTTranslatorTest {
+
+    private static SpongeDataManager previousDataManager;
+
+    @BeforeAll
+    static void installDataManager() {
+        // Setting values looks up translators, which none of the NBT types have
+        NBTTranslatorTest.previousDataManager = SpongeDataManager.INSTANCE;
+        SpongeDataManager.INSTANCE = Mockito.mock(SpongeDataManager.class);
+    }
+
+    @AfterAll
+    static void restoreDataManager() {
+        SpongeDataManager.INSTANCE = NBTTranslatorTest.previousDataManager;
+    }
+
+    private static CompoundTag createCompound(final boolean withViewList) {
+        final CompoundTag inner = new CompoundTag();
+        inner.putInt("value", 5);
+        final CompoundTag nested = new CompoundTag();
+        nested.put("inner", inner);
+        nested.putString("label", "nested");
+
+        final ListTag ints = new ListTag();
+        ints.add(IntTag.valueOf(1));
+        ints.add(IntTag.valueOf(2));
+
+        final CompoundTag compound = new CompoundTag();
+        compound.putString("name", "root");
+        compound.put("nested", nested);
+        compound.put("ints", ints);
+        compound.put("flag$Boolean", ByteTag.valueOf(true));
+        if (withViewList) {
+            final ListTag views = new ListTag();
+            for (int id = 1; id <= 2; id++) {
+                final CompoundTag element = new CompoundTag();
+                element.putInt("id", id);
+                views.add(element);
+            }
+            compound.put("views", views);
+        }
+        return compound;
+    }
+
+    @Test
+    void testLazyReadOfNestedViewsAndLists() {
+        final DataContainer container = NBTTranslator.INSTANCE.translateLazily(NBTTranslatorTest.createCompound(true));
+        Assertions.assertNotNull(((MemoryDataView) container).unreadCompound());
+
+        Assertions.assertEquals(5, container.getInt(DataQuery.of("nested", "inner", "value")).get());
+        Assertions.assertNull(((MemoryDataView) container).unreadCompound());
+        Assertions.assertEquals("nested", container.getString(DataQuery.of("nested", "label")).get());
+        Assertions.assertTrue(container.getBoolean(DataQuery.of("flag")).get());
+        Assertions.assertEquals(Arrays.asList(1, 2), container.getIntegerList(DataQuery.of("ints")).get());
+
+        final List<DataView> views = container.getViewList(DataQuery.of("views")).get();
+        Assertions.assertEquals(2, views.size());
+        Assertions.assertNotNull(((MemoryDataView) views.get(1)).unreadCompound());
+        Assertions.assertEquals(2, views.get(1).getInt(DataQuery.of("id")).get());
+        Assertions.assertNull(((MemoryDataView) views.get(1)).unreadCompound());
+    }
+
+    @Test
+    void testSetAndRemoveAfterLazyRead() {
+        final CompoundTag compound = NBTTranslatorTest.createCompound(true);
+        final DataContainer container = NBTTranslator.INSTANCE.translateLazily(compound);
+        Assertions.assertEquals("root", container.getString(DataQuery.of("name")).get());
+
+        container.set(DataQuery.of("name"), "changed");
+        container.set(DataQuery.of("nested", "inner", "other"), 7);
+        container.remove(DataQuery.of("nested", "label"));
+        container.remove(DataQuery.of("ints"));
+
+        final CompoundTag written = NBTTranslator.INSTANCE.translate(container);
+        Assertions.assertEquals("changed", written.getString("name"));
+        Assertions.assertEquals(5, written.getCompound("nested").getCompound("inner").getInt("value"));
+        Assertions.assertEquals(7, written.getCompound("nested").getCompound("inner").getInt("other"));
+        Assertions.assertFalse(written.getCompound("nested").contains("label"));
+        Assertions.assertFalse(written.contains("ints"));
+        Assertions.assertEquals(compound.get("views"), written.get("views"));
+        // The compound that was read through is left untouched
+        Assertions.assertEquals(NBTTranslatorTest.createCompound(true), compound);
+    }
+
+    @Test
+    void testDeepKeys() {
+        final DataContainer container = NBTTranslator.INSTANCE.translateLazily(NBTTranslatorTest.createCompound(true));
+        final Set<DataQuery> keys = container.keys(true);
+        Assertions.assertTrue(keys.contains(DataQuery.of("name")));
+        Assertions.assertTrue(keys.contains(DataQuery.of("flag")));
+        Assertions.assertTrue(keys.contains(DataQuery.of("views")));
+        Assertions.assertTrue(keys.contains(DataQuery.of("nested")));
+        Assertions.assertTrue(keys.contains(DataQuery.of("nested", "inner")));
+        Assertions.assertTrue(keys.contains(DataQuery.of("nested", "inner", "value")));
+        Assertions.assertEquals(8, keys.size());
+    }
+
+    @Test
+    void testLazyMatchesEagerTranslation() {
+        // Lists of compounds are left out, the eager translation creates their views through the API factory
+        final CompoundTag compound = NBTTranslatorTest.createCompound(false);
+        final DataView eager = NBTTranslator.INSTANCE.addTo(compound, new MemoryDataContainer(DataView.SafetyMode.NO_DATA_CLONED));
+        final DataContainer lazy = NBTTranslator.INSTANCE.translateLazily(compound);
+
+        Assertions.assertEquals(compound, NBTTranslator.INSTANCE.translate(lazy));
+        Assertions.assertEquals(eager, lazy);
+        Assertions.assertEquals(compound, NBTTranslator.INSTANCE.translate(lazy));
+        Assertions.assertEquals(NBTTranslator.INSTANCE.translate(eager), NBTTranslator.INSTANCE.translate(lazy));
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity.activation;
+
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.phys.AABB;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+final class ActivationRangeIndexTest {
+
+    private static AABB box(final double x, final double z) {
+        return new AABB(x - 0.3D, 64.0D, z - 0.3D, x + 0.3D, 65.8D, z + 0.3D);
+    }
+
+    @Test
+    void testAddMoveRemove() {
+        final ActivationRangeIndex<Viewer> index = new ActivationRangeIndex<>(viewer -> viewer.box);
+        final Viewer first = new Viewer(ActivationRangeIndexTest.box(8.0D, 8.0D));
+        final Viewer second = new Viewer(ActivationRangeIndexTest.box(24.0D, 8.0D));
+        final List<Viewer> players = new ArrayList<>(Arrays.asList(first, second));
+
+        // A range of 4 keeps each volume inside its own chunk
+        index.update(players, 4);
+        Assertions.assertEquals(2, index.coveredChunks().size());
+        Assertions.assertEquals(Collections.singletonList(first), index.coveredChunks().get(ChunkPos.asLong(0, 0)));
+        Assertions.assertEquals(Collections.singletonList(second), index.coveredChunks().get(ChunkPos.asLong(1, 0)));
+
+        // Moving within the chunk keeps the coverage, moving across shares the chunk
+        first.box = ActivationRangeIndexTest.box(9.0D, 9.0D);
+        second.box = ActivationRangeIndexTest.box(8.0D, 7.0D);
+        index.update(players, 4);
+        Assertions.assertEquals(1, index.coveredChunks().size());
+        Assertions.assertEquals(Arrays.asList(first, second), index.coveredChunks().get(ChunkPos.asLong(0, 0)));
+
+        // Growing the range covers the neighbors of every covered chunk
+        index.update(players, 16);
+        Assertions.assertEquals(9, index.coveredChunks().size());
+        Assertions.assertEquals(2, index.coveredChunks().get(ChunkPos.asLong(-1, 1)).size());
+
+        players.remove(first);
+        index.update(players, 16);
+        Assertions.assertEquals(9, index.coveredChunks().size());
+        Assertions.assertEquals(Collections.singletonList(second), index.coveredChunks().get(ChunkPos.asLong(0, 0)));
+
+        players.clear();
+        index.update(players, 16);
+        Assertions.assertTrue(index.coveredChunks().isEmpty());
+    }
+
+    @Test
+    void testCoveringRange() {
+        final AABB box = ActivationRangeIndexTest.box(8.0D, 8.0D);
+        // The farthest edge of the chunk plus its margin is 9.7 blocks away from the box
+        Assertions.assertEquals(10, ActivationRangeIndex.coveringRange(box, 0, 0));
+        Assertions.assertEquals(26, ActivationRangeIndex.coveringRange(box, 1, 0));
+        Assertions.assertEquals(26, ActivationRangeIndex.coveringRange(box, -1, -1));
+    }
+
+    private static final class Viewer {
+
+        AABB box;
+
+        Viewer(final AABB box) {
+            this.box = box;
+        }
+    }
+
+}
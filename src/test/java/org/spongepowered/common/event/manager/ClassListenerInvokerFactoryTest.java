@@ -0,0 +1,105 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+class ClassListenerInvokerFactoryTest {
+
+    private static List<RegisteredListener<?>> createListeners(final int count, final List<Integer> calls) {
+        final PluginContainer plugin = Mockito.mock(PluginContainer.class);
+        final List<RegisteredListener<?>> listeners = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final int index = i;
+            listeners.add(new RegisteredListener<>(plugin, new EventType<>(Event.class), Order.DEFAULT, event -> calls.add(index), false));
+        }
+        return listeners;
+    }
+
+    private static ClassListenerInvokerFactory createFactory() {
+        return new ClassListenerInvokerFactory("org.spongepowered.common.event.invoker",
+            ClassListenerInvokerFactoryTest.class.getClassLoader());
+    }
+
+    @Test
+    void invokesListenersByIndex() throws Exception {
+        final List<Integer> calls = new ArrayList<>();
+        final ListenerInvoker invoker = ClassListenerInvokerFactoryTest.createFactory()
+            .create(ClassListenerInvokerFactoryTest.createListeners(10, calls));
+        assertNotEquals(ListenerInvoker.Simple.class, invoker.getClass());
+        assertEquals(10, invoker.size());
+
+        final Event event = Mockito.mock(Event.class);
+        for (int i = invoker.size() - 1; i >= 0; i--) {
+            invoker.invoke(i, event);
+        }
+        assertEquals(Arrays.asList(9, 8, 7, 6, 5, 4, 3, 2, 1, 0), calls);
+        assertThrows(IndexOutOfBoundsException.class, () -> invoker.invoke(10, event));
+    }
+
+    @Test
+    void generatesClassPerListenerList() {
+        final ClassListenerInvokerFactory factory = ClassListenerInvokerFactoryTest.createFactory();
+        final List<Integer> calls = new ArrayList<>();
+        final List<RegisteredListener<?>> listeners = ClassListenerInvokerFactoryTest.createListeners(3, calls);
+        final ListenerInvoker first = factory.create(listeners);
+        final ListenerInvoker other = factory.create(ClassListenerInvokerFactoryTest.createListeners(3, calls));
+        assertNotSame(first.getClass(), other.getClass());
+        // Each class can be unloaded on its own
+        assertNotSame(first.getClass().getClassLoader(), other.getClass().getClassLoader());
+
+        // Baking the same listeners again reuses the class
+        final ListenerInvoker rebaked = factory.create(new ArrayList<>(listeners));
+        assertSame(first.getClass(), rebaked.getClass());
+    }
+
+    @Test
+    void fallsBackToArrayDispatchForLargeListenerCounts() throws Exception {
+        final List<Integer> calls = new ArrayList<>();
+        final int count = ClassListenerInvokerFactory.MAX_GENERATED_LISTENERS + 1;
+        final ListenerInvoker invoker = ClassListenerInvokerFactoryTest.createFactory()
+            .create(ClassListenerInvokerFactoryTest.createListeners(count, calls));
+        assertEquals(ListenerInvoker.Simple.class, invoker.getClass());
+
+        invoker.invoke(count - 1, Mockito.mock(Event.class));
+        assertEquals(Collections.singletonList(count - 1), calls);
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.spongepowered.api.entity.living.player.server.ServerPlayer;
+import org.spongepowered.api.event.block.ChangeBlockEvent;
+import org.spongepowered.api.event.block.NotifyNeighborBlockEvent;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.SpongeGame;
+import org.spongepowered.common.applaunch.config.common.CommonConfig;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.event.ShouldFire;
+import org.spongepowered.common.event.manager.SpongeEventManager;
+import org.spongepowered.common.event.tracking.context.StubPhaseState;
+import org.spongepowered.common.test.UnitTestExtension;
+
+import java.util.UUID;
+
+@ExtendWith(UnitTestExtension.class)
+final class BlockCaptureElisionTest {
+
+    private final SpongeEventManager eventManager = Mockito.mock(SpongeEventManager.class);
+    private MockedStatic<SpongeCommon> common;
+
+    private static PhaseContext<@NonNull ?> createContext() {
+        return StubPhaseState.getInstance().createPhaseContext(PhaseTracker.getInstance());
+    }
+
+    private static void setEnabled(final boolean optimizations, final boolean elide) {
+        final CommonConfig config = SpongeConfigs.getCommon().get();
+        config.modules.optimizations = optimizations;
+        config.optimizations.elideUnobservedBlockCaptures = elide;
+    }
+
+    private static void setShouldFire(final boolean all, final boolean post, final boolean notifyNeighbor) {
+        ShouldFire.CHANGE_BLOCK_EVENT_ALL = all;
+        ShouldFire.CHANGE_BLOCK_EVENT_POST = post;
+        ShouldFire.NOTIFY_NEIGHBOR_BLOCK_EVENT = notifyNeighbor;
+    }
+
+    @BeforeEach
+    void setUp() {
+        final SpongeGame game = Mockito.mock(SpongeGame.class);
+        Mockito.when(game.eventManager()).thenReturn(this.eventManager);
+        this.common = Mockito.mockStatic(SpongeCommon.class);
+        this.common.when(SpongeCommon::game).thenReturn(game);
+        BlockCaptureElisionTest.setEnabled(true, true);
+        BlockCaptureElisionTest.setShouldFire(false, false, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.common.close();
+        BlockCaptureElisionTest.setEnabled(true, false);
+        BlockCaptureElisionTest.setShouldFire(false, false, false);
+    }
+
+    @Test
+    void testDisabledConfigKeepsCaptures() {
+        BlockCaptureElisionTest.setEnabled(true, false);
+        Assertions.assertFalse(BlockCaptureElision.canElide(BlockCaptureElisionTest.createContext()));
+        BlockCaptureElisionTest.setEnabled(false, true);
+        Assertions.assertFalse(BlockCaptureElision.canElide(BlockCaptureElisionTest.createContext()));
+
+        BlockCaptureElisionTest.setEnabled(true, true);
+        Assertions.assertTrue(BlockCaptureElision.canElide(BlockCaptureElisionTest.createContext()));
+    }
+
+    @Test
+    void testTrackedOwnersForceCaptures() {
+        Assertions.assertFalse(BlockCaptureElision.canElide(BlockCaptureElisionTest.createContext().creator(UUID.randomUUID())));
+        Assertions.assertFalse(BlockCaptureElision.canElide(BlockCaptureElisionTest.createContext().notifier(UUID.randomUUID())));
+        Assertions.assertFalse(BlockCaptureElision.canElide(BlockCaptureElisionTest.createContext().source(Mockito.mock(ServerPlayer.class))));
+        Assertions.assertTrue(BlockCaptureElision.canElide(BlockCaptureElisionTest.createContext().source(new Object())));
+    }
+
+    @Test
+    void testRaisedShouldFireWithoutListenersElides() {
+        BlockCaptureElisionTest.setShouldFire(true, true, true);
+        Assertions.assertFalse(BlockCaptureElision.isObserved());
+        Assertions.assertTrue(BlockCaptureElision.canElide(BlockCaptureElisionTest.createContext()));
+    }
+
+    @Test
+    void testListenersKeepCaptures() {
+        BlockCaptureElisionTest.setShouldFire(true, true, true);
+        Mockito.when(this.eventManager.hasListeners(ChangeBlockEvent.Post.class)).thenReturn(true);
+        Assertions.assertTrue(BlockCaptureElision.isObserved());
+        Assertions.assertFalse(BlockCaptureElision.canElide(BlockCaptureElisionTest.createContext()));
+
+        Mockito.when(this.eventManager.hasListeners(ChangeBlockEvent.Post.class)).thenReturn(false);
+        Mockito.when(this.eventManager.hasListeners(NotifyNeighborBlockEvent.class)).thenReturn(true);
+        Assertions.assertFalse(BlockCaptureElision.canElide(BlockCaptureElisionTest.createContext()));
+
+        // Listeners are only looked up for the flags that are raised
+        BlockCaptureElisionTest.setShouldFire(true, true, false);
+        Assertions.assertTrue(BlockCaptureElision.canElide(BlockCaptureElisionTest.createContext()));
+    }
+
+    @Test
+    void testBuildAndSwitchDecidesElision() {
+        final PhaseContext<@NonNull ?> elided = BlockCaptureElisionTest.createContext();
+        Assertions.assertFalse(elided.elidesBlockCaptures());
+        elided.buildAndSwitch();
+        Assertions.assertTrue(elided.elidesBlockCaptures());
+
+        final PhaseContext<@NonNull ?> captured = BlockCaptureElisionTest.createContext().creator(UUID.randomUUID());
+        captured.buildAndSwitch();
+        Assertions.assertFalse(captured.elidesBlockCaptures());
+    }
+
+}
@@ -0,0 +1,151 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.inventory.query;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.item.inventory.Inventory;
+import org.spongepowered.common.inventory.EmptyInventoryImpl;
+import org.spongepowered.common.inventory.adapter.InventoryAdapter;
+import org.spongepowered.common.inventory.fabric.Fabric;
+import org.spongepowered.common.inventory.lens.Lens;
+import org.spongepowered.common.inventory.lens.impl.AbstractLens;
+
+import java.util.Objects;
+
+final class SpongeDepthQueryTest {
+
+    private static InventoryAdapter adapter(final Lens rootLens) {
+        final InventoryAdapter adapter = Mockito.mock(InventoryAdapter.class);
+        Mockito.when(adapter.inventoryAdapter$getFabric()).thenReturn(Mockito.mock(Fabric.class));
+        Mockito.when(adapter.inventoryAdapter$getRootLens()).thenReturn(rootLens);
+        return adapter;
+    }
+
+    @Test
+    void testCompiledQueryIsReusedUntilLensChanges() {
+        final TestLens root = new TestLens(0, 4);
+        final TestLens first = new TestLens(0, 2);
+        final TestLens second = new TestLens(2, 2);
+        root.add(first);
+        root.add(second);
+        final InventoryAdapter adapter = SpongeDepthQueryTest.adapter(root);
+        final Inventory inventory = Mockito.mock(Inventory.class);
+
+        final CountingQuery query = new CountingQuery(second);
+        Assertions.assertSame(second.adapter, query.execute(inventory, adapter));
+        final int compileMatches = query.matched;
+        Assertions.assertTrue(compileMatches > 0);
+        Assertions.assertEquals(1, root.compiledQueries().size());
+
+        // Hit: neither the same query nor an equal one searches the lens tree again
+        Assertions.assertSame(second.adapter, query.execute(inventory, adapter));
+        Assertions.assertEquals(compileMatches, query.matched);
+        final CountingQuery equalQuery = new CountingQuery(second);
+        Assertions.assertSame(second.adapter, equalQuery.execute(inventory, adapter));
+        Assertions.assertEquals(0, equalQuery.matched);
+
+        // Invalidation: a new child drops the compiled result and the query now finds the new lens
+        final TestLens replacement = new TestLens(2, 2);
+        root.add(replacement);
+        Assertions.assertTrue(root.compiledQueries().isEmpty());
+        final CountingQuery replacementQuery = new CountingQuery(replacement);
+        Assertions.assertSame(replacement.adapter, replacementQuery.execute(inventory, adapter));
+        Assertions.assertTrue(replacementQuery.matched > 0);
+        Assertions.assertSame(second.adapter, query.execute(inventory, adapter));
+        Assertions.assertTrue(query.matched > compileMatches);
+    }
+
+    @Test
+    void testEmptyResultIsCompiled() {
+        final TestLens root = new TestLens(0, 4);
+        root.add(new TestLens(0, 2));
+        root.add(new TestLens(2, 2));
+        final InventoryAdapter adapter = SpongeDepthQueryTest.adapter(root);
+
+        final CountingQuery query = new CountingQuery(new TestLens(0, 1));
+        Assertions.assertTrue(query.execute(Mockito.mock(Inventory.class), adapter) instanceof EmptyInventoryImpl);
+        final int compileMatches = query.matched;
+        Assertions.assertTrue(query.execute(Mockito.mock(Inventory.class), adapter) instanceof EmptyInventoryImpl);
+        Assertions.assertEquals(compileMatches, query.matched);
+    }
+
+    private static final class TestLens extends AbstractLens {
+
+        final Inventory adapter = Mockito.mock(Inventory.class);
+
+        TestLens(final int base, final int size) {
+            super(base, size, Inventory.class);
+        }
+
+        void add(final Lens child) {
+            this.addSpanningChild(child);
+        }
+
+        @Override
+        public Inventory getAdapter(final Fabric fabric, final Inventory parent) {
+            return this.adapter;
+        }
+    }
+
+    private static final class CountingQuery extends SpongeDepthQuery {
+
+        private final Lens target;
+        int matched;
+
+        CountingQuery(final Lens target) {
+            this.target = target;
+        }
+
+        @Override
+        public boolean matches(final Lens lens, final Lens parent, final Inventory inventory) {
+            this.matched++;
+            return this.target.equals(lens);
+        }
+
+        @Override
+        public boolean isStructural() {
+            return true;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || this.getClass() != o.getClass()) {
+                return false;
+            }
+            return this.target.equals(((CountingQuery) o).target);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.target);
+        }
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.map.canvas;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import net.minecraft.world.level.saveddata.maps.MapItemSavedData;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.spongepowered.common.bridge.world.storage.MapItemSavedDataBridge;
+import org.spongepowered.common.util.Constants;
+
+import java.util.Arrays;
+
+class MapCanvasDiffTest {
+
+    private static final int PIXELS = Constants.Map.MAP_PIXELS;
+
+    private static MapItemSavedData createMapData() {
+        final MapItemSavedData mapData = Mockito.mock(MapItemSavedData.class, Mockito.withSettings().extraInterfaces(MapItemSavedDataBridge.class));
+        mapData.colors = new byte[MapCanvasDiffTest.PIXELS * MapCanvasDiffTest.PIXELS];
+        return mapData;
+    }
+
+    @Test
+    void unchangedCanvasMarksNothing() {
+        final MapItemSavedData mapData = MapCanvasDiffTest.createMapData();
+        final byte[] canvas = new byte[mapData.colors.length];
+
+        assertFalse(MapCanvasDiff.apply(canvas, mapData));
+        Mockito.verify((MapItemSavedDataBridge) mapData, Mockito.never())
+            .bridge$markDirty(Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt());
+    }
+
+    @Test
+    void singlePixelMarksOnlyThatPixel() {
+        final MapItemSavedData mapData = MapCanvasDiffTest.createMapData();
+        final byte[] canvas = new byte[mapData.colors.length];
+        canvas[7 * MapCanvasDiffTest.PIXELS + 5] = 34;
+
+        assertTrue(MapCanvasDiff.apply(canvas, mapData));
+        Mockito.verify((MapItemSavedDataBridge) mapData).bridge$markDirty(5, 7, 5, 7);
+        assertArrayEquals(canvas, mapData.colors);
+    }
+
+    @Test
+    void scatteredPixelsMarkTheirBoundingBox() {
+        final MapItemSavedData mapData = MapCanvasDiffTest.createMapData();
+        final byte[] canvas = new byte[mapData.colors.length];
+        canvas[10 * MapCanvasDiffTest.PIXELS + 90] = 12;
+        canvas[40 * MapCanvasDiffTest.PIXELS + 3] = 12;
+
+        assertTrue(MapCanvasDiff.apply(canvas, mapData));
+        Mockito.verify((MapItemSavedDataBridge) mapData).bridge$markDirty(3, 10, 90, 40);
+        assertArrayEquals(canvas, mapData.colors);
+    }
+
+    @Test
+    void fullChangeMarksWholeMap() {
+        final MapItemSavedData mapData = MapCanvasDiffTest.createMapData();
+        final byte[] canvas = new byte[mapData.colors.length];
+        Arrays.fill(canvas, (byte) 18);
+
+        assertTrue(MapCanvasDiff.apply(canvas, mapData));
+        final int last = MapCanvasDiffTest.PIXELS - 1;
+        Mockito.verify((MapItemSavedDataBridge) mapData).bridge$markDirty(0, 0, last, last);
+        assertEquals((byte) 18, mapData.colors[mapData.colors.length - 1]);
+        assertArrayEquals(canvas, mapData.colors);
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.map.color;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import it.unimi.dsi.fastutil.bytes.ByteOpenHashSet;
+import it.unimi.dsi.fastutil.bytes.ByteSet;
+import net.minecraft.world.level.material.MaterialColor;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.map.color.MapColorType;
+import org.spongepowered.api.map.color.MapShade;
+import org.spongepowered.api.registry.Registry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+class MapColorPaletteTest {
+
+    private static final MaterialColor[] MATERIAL_COLORS = {
+        MaterialColor.NONE, MaterialColor.GRASS, MaterialColor.SAND, MaterialColor.WOOL, MaterialColor.FIRE, MaterialColor.ICE,
+        MaterialColor.METAL, MaterialColor.PLANT, MaterialColor.SNOW, MaterialColor.WATER, MaterialColor.COLOR_ORANGE,
+        MaterialColor.COLOR_MAGENTA, MaterialColor.COLOR_YELLOW, MaterialColor.COLOR_GRAY, MaterialColor.COLOR_RED,
+        MaterialColor.COLOR_BLUE, MaterialColor.COLOR_GREEN, MaterialColor.COLOR_BLACK, MaterialColor.GOLD, MaterialColor.DIAMOND
+    };
+
+    private static final List<SpongeMapColor> colors = new ArrayList<>();
+    private static MapColorPalette palette;
+
+    @BeforeAll
+    @SuppressWarnings("unchecked")
+    static void createPalette() {
+        final List<MapColorType> types = new ArrayList<>();
+        for (final MaterialColor materialColor : MapColorPaletteTest.MATERIAL_COLORS) {
+            types.add(new SpongeMapColorType(materialColor));
+        }
+        final List<MapShade> shades = Arrays.asList(
+            new SpongeMapShade(0, 180), new SpongeMapShade(1, 220), new SpongeMapShade(2, 255), new SpongeMapShade(3, 135));
+        for (final MapColorType type : types) {
+            if (((SpongeMapColorType) type).getColorIndex() == 0) {
+                continue;
+            }
+            for (final MapShade shade : shades) {
+                MapColorPaletteTest.colors.add(new SpongeMapColor(type, shade));
+            }
+        }
+
+        final Registry<MapColorType> colorTypes = Mockito.mock(Registry.class);
+        Mockito.when(colorTypes.stream()).thenAnswer(invocation -> types.stream());
+        final Registry<MapShade> mapShades = Mockito.mock(Registry.class);
+        Mockito.when(mapShades.stream()).thenAnswer(invocation -> shades.stream());
+        MapColorPaletteTest.palette = new MapColorPalette(colorTypes, mapShades);
+    }
+
+    private static int redmean(final int first, final int second) {
+        final int red1 = (first >> 16) & 0xFF;
+        final int red2 = (second >> 16) & 0xFF;
+        final int meanRed = (red1 + red2) >> 1;
+        final int deltaRed = red1 - red2;
+        final int deltaGreen = ((first >> 8) & 0xFF) - ((second >> 8) & 0xFF);
+        final int deltaBlue = (first & 0xFF) - (second & 0xFF);
+        return (((512 + meanRed) * deltaRed * deltaRed) >> 8) + 4 * deltaGreen * deltaGreen
+            + (((767 - meanRed) * deltaBlue * deltaBlue) >> 8);
+    }
+
+    @Test
+    void exactColorsRoundTrip() {
+        for (final SpongeMapColor color : MapColorPaletteTest.colors) {
+            final int rgb = color.color().rgb() & 0xFFFFFF;
+            assertEquals(rgb, MapColorPaletteTest.palette.rgb(color.getMCColor()));
+            // Distinct map colors may share an RGB value, either one is exact
+            assertEquals(rgb, MapColorPaletteTest.palette.rgb(MapColorPaletteTest.palette.nearest(rgb)));
+        }
+    }
+
+    @Test
+    void nearestMatchesBruteForceSearch() {
+        final Random random = new Random(42L);
+        for (int i = 0; i < 2000; i++) {
+            // The lookup table is exact at the center of each quantized cell
+            final int red = (random.nextInt(64) << 2) | 2;
+            final int green = (random.nextInt(64) << 2) | 2;
+            final int blue = (random.nextInt(64) << 2) | 2;
+            final int rgb = (red << 16) | (green << 8) | blue;
+            int best = Integer.MAX_VALUE;
+            for (final SpongeMapColor color : MapColorPaletteTest.colors) {
+                best = Math.min(best, MapColorPaletteTest.redmean(color.color().rgb() & 0xFFFFFF, rgb));
+            }
+            final byte nearest = MapColorPaletteTest.palette.nearest(rgb);
+            assertEquals(best, MapColorPaletteTest.redmean(MapColorPaletteTest.palette.rgb(nearest), rgb),
+                () -> "Nearest map color of " + Integer.toHexString(rgb));
+        }
+    }
+
+    @Test
+    void ditheringStaysInsidePalette() {
+        final ByteSet valid = new ByteOpenHashSet();
+        for (final SpongeMapColor color : MapColorPaletteTest.colors) {
+            valid.add(color.getMCColor());
+        }
+        final int width = 128;
+        final int[] pixels = new int[width * width];
+        final Random random = new Random(7L);
+        for (int i = 0; i < pixels.length; i++) {
+            final int x = i % width;
+            final int y = i / width;
+            // A noisy gradient, with extremes mixed in to push the error out of range
+            if (i % 97 == 0) {
+                pixels[i] = random.nextBoolean() ? 0xFFFFFF : 0x000000;
+            } else {
+                pixels[i] = ((x * 2) << 16) | ((y * 2) << 8) | random.nextInt(256);
+            }
+        }
+        final byte[] canvas = new byte[pixels.length];
+        MapColorPaletteTest.palette.convert(pixels, width, canvas, true);
+        for (final byte color : canvas) {
+            // The transparent map color is never part of the palette either
+            assertTrue(valid.contains(color), () -> "Map color " + (color & 0xFF) + " isn't part of the palette");
+        }
+    }
+
+}
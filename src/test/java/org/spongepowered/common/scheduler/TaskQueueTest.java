@@ -0,0 +1,166 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.scheduler.ScheduledTask;
+import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+class TaskQueueTest {
+
+    private static SpongeScheduledTask createTask(final String name) {
+        final SpongeTask task = new SpongeTask(Mockito.mock(PluginContainer.class), t -> {}, 0L, 0L, false, false);
+        return new SpongeScheduledTask(Mockito.mock(SpongeScheduler.class), task, name);
+    }
+
+    @Test
+    void pollsOnlyDueTasksInOrder() {
+        final TaskQueue queue = new TaskQueue();
+        final SpongeScheduledTask late = TaskQueueTest.createTask("late");
+        final SpongeScheduledTask early = TaskQueueTest.createTask("early");
+        final SpongeScheduledTask tick = TaskQueueTest.createTask("tick");
+        queue.add(late, 200L, false);
+        queue.add(early, 100L, false);
+        queue.add(tick, 5L, true);
+
+        assertNull(queue.pollDue(4L, 99L));
+        assertEquals(1L, queue.nextDelay(4L, 99L));
+        assertSame(tick, queue.pollDue(5L, 150L));
+        assertSame(early, queue.pollDue(5L, 150L));
+        assertNull(queue.pollDue(5L, 150L));
+        assertEquals(50L, queue.nextDelay(5L, 150L));
+        assertSame(late, queue.pollDue(5L, 200L));
+        assertEquals(Long.MAX_VALUE, queue.nextDelay(5L, 200L));
+    }
+
+    @Test
+    void keepsSubmissionOrderForEqualTimestamps() {
+        final TaskQueue queue = new TaskQueue();
+        final SpongeScheduledTask first = TaskQueueTest.createTask("first");
+        final SpongeScheduledTask second = TaskQueueTest.createTask("second");
+        queue.add(first, 10L, false);
+        queue.add(second, 10L, false);
+
+        assertSame(first, queue.pollDue(0L, 10L));
+        assertSame(second, queue.pollDue(0L, 10L));
+    }
+
+    @Test
+    void holdsBackTasksAddedWhileDraining() {
+        final TaskQueue queue = new TaskQueue();
+        final SpongeScheduledTask task = TaskQueueTest.createTask("task");
+        queue.add(task, 10L, true);
+
+        queue.beginDrain();
+        assertSame(task, queue.pollDue(10L, 0L));
+        // Queued again with no delay while it is being processed
+        queue.add(task, 10L, true);
+        assertNull(queue.pollDue(10L, 0L));
+        assertEquals(1, queue.size());
+        queue.endDrain();
+
+        assertSame(task, queue.pollDue(10L, 0L));
+    }
+
+    @Test
+    void runsSelfResubmittingTaskOncePerTick() {
+        final TestScheduler scheduler = new TestScheduler();
+        final PluginContainer plugin = Mockito.mock(PluginContainer.class);
+        final AtomicInteger runs = new AtomicInteger();
+        final Consumer<ScheduledTask> resubmit = new Consumer<ScheduledTask>() {
+            @Override
+            public void accept(final ScheduledTask scheduledTask) {
+                runs.incrementAndGet();
+                scheduler.submit(new SpongeTask(plugin, this, 0L, 0L, true, false), "resubmit");
+            }
+        };
+        scheduler.submit(new SpongeTask(plugin, resubmit, 0L, 0L, true, false), "resubmit");
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), scheduler::tick);
+        assertEquals(1, runs.get());
+        assertTimeoutPreemptively(Duration.ofSeconds(10), scheduler::tick);
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    void purgesCancelledTasks() {
+        final TaskQueue queue = new TaskQueue();
+        final SpongeScheduledTask kept = TaskQueueTest.createTask("kept");
+        final SpongeScheduledTask cancelled = TaskQueueTest.createTask("cancelled");
+        queue.add(kept, 10L, false);
+        queue.add(cancelled, 20L, false);
+        cancelled.cancel();
+        queue.onCancelled();
+
+        queue.purgeCancelled();
+        assertEquals(1, queue.size());
+        assertSame(kept, queue.pollDue(0L, 20L));
+    }
+
+    @Test
+    void dropsCancelledTasksWhenPolling() {
+        final TaskQueue queue = new TaskQueue();
+        final SpongeScheduledTask first = TaskQueueTest.createTask("first");
+        final SpongeScheduledTask second = TaskQueueTest.createTask("second");
+        final SpongeScheduledTask kept = TaskQueueTest.createTask("kept");
+        queue.add(first, 10L, true);
+        queue.add(second, 20L, false);
+        queue.add(kept, 30L, false);
+        first.cancel();
+        queue.onCancelled();
+        second.cancel();
+        queue.onCancelled();
+        assertEquals(2, queue.cancelledCount());
+
+        assertSame(kept, queue.pollDue(10L, 30L));
+        assertEquals(0, queue.cancelledCount());
+        assertEquals(0, queue.size());
+    }
+
+    private static final class TestScheduler extends SyncScheduler {
+
+        TestScheduler() {
+            super("T");
+        }
+
+        @Override
+        protected @Nullable PhaseContext<?> createContext(final SpongeScheduledTask task, final PluginContainer plugin) {
+            return null;
+        }
+    }
+
+}
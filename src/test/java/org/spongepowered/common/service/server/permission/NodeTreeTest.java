@@ -30,6 +30,7 @@
 import org.spongepowered.api.service.permission.NodeTree;
 import org.spongepowered.api.util.Tristate;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -110,4 +111,36 @@ public void testCreateFromValues() throws Exception {
         Assertions.assertEquals(Tristate.FALSE, nodes.get("generate.thunderstorm.explosive"));
         Assertions.assertEquals(Tristate.UNDEFINED, nodes.get("random.perm"));
     }
+
+    @Test
+    public void testSplit() {
+        Assertions.assertArrayEquals(new String[] {"generate"}, SpongeNodeTree.split("generate"));
+        Assertions.assertArrayEquals(new String[] {"generate", "rainbow"}, SpongeNodeTree.split("generate.rainbow"));
+        Assertions.assertArrayEquals(new String[] {"generate", "", "rainbow", ""}, SpongeNodeTree.split("generate..rainbow."));
+    }
+
+    @Test
+    public void testFlatten() {
+        final Map<String, Boolean> childPermissions = new HashMap<>();
+        childPermissions.put("generate", true);
+        childPermissions.put("generate.sunset.red", false);
+
+        final Map<String, Boolean> parentPermissions = new HashMap<>();
+        parentPermissions.put("generate.sunset", false);
+        parentPermissions.put("generate.rainbow.double", false);
+        parentPermissions.put("random.perm", true);
+
+        final NodeTree child = NodeTreeTest.FACTORY.ofBooleans(childPermissions, Tristate.UNDEFINED);
+        final NodeTree parent = NodeTreeTest.FACTORY.ofBooleans(parentPermissions, Tristate.UNDEFINED);
+        final NodeTree flattened = SpongeNodeTree.flatten(Arrays.asList(child, parent));
+
+        for (final String node : new String[] {"generate", "generate.sunset", "generate.sunset.red", "generate.sunset.red.dark",
+                "generate.rainbow.double", "random", "random.perm.sub", "other"}) {
+            Tristate expected = child.get(node);
+            if (expected == Tristate.UNDEFINED) {
+                expected = parent.get(node);
+            }
+            Assertions.assertEquals(expected, flattened.get(node), node);
+        }
+    }
 }
@@ -35,7 +35,7 @@
 public class TestLaunch extends Launch {
     private final SpongeMappingManager mappingManager = new TestMappingsManager();
 
-    protected TestLaunch(final PluginPlatform pluginPlatform) {
+    public TestLaunch(final PluginPlatform pluginPlatform) {
         super(pluginPlatform);
     }
 
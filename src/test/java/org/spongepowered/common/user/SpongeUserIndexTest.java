@@ -0,0 +1,102 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.user;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.UUID;
+
+final class SpongeUserIndexTest {
+
+    @Test
+    void testRoundTrip(@TempDir final Path dir) throws IOException {
+        final UUID named = UUID.randomUUID();
+        final UUID unnamed = UUID.randomUUID();
+        final SpongeUserIndex index = new SpongeUserIndex();
+        index.update(named, "Notch", 1234L);
+        index.add(unnamed);
+        Assertions.assertTrue(index.isDirty());
+
+        final Path file = dir.resolve("index.dat");
+        index.write(file);
+        Assertions.assertFalse(index.isDirty());
+
+        final SpongeUserIndex read = new SpongeUserIndex();
+        read.read(file);
+        Assertions.assertEquals(2, read.size());
+        Assertions.assertEquals("Notch", read.name(named));
+        Assertions.assertEquals(1234L, read.lastModified(named));
+        Assertions.assertNull(read.name(unnamed));
+        Assertions.assertEquals(0L, read.lastModified(unnamed));
+    }
+
+    @Test
+    void testUpdateKeepsKnownName() {
+        final UUID uniqueId = UUID.randomUUID();
+        final SpongeUserIndex index = new SpongeUserIndex();
+        index.update(uniqueId, "Notch", 10L);
+        index.update(uniqueId, null, 5L);
+        Assertions.assertEquals("Notch", index.name(uniqueId));
+        Assertions.assertEquals(10L, index.lastModified(uniqueId));
+    }
+
+    @Test
+    void testReconcile() {
+        final UUID kept = UUID.randomUUID();
+        final UUID removed = UUID.randomUUID();
+        final UUID added = UUID.randomUUID();
+        final SpongeUserIndex index = new SpongeUserIndex();
+        index.update(kept, "Kept", 1L);
+        index.add(removed);
+
+        index.reconcile(Arrays.asList(kept, added));
+        Assertions.assertTrue(index.contains(kept));
+        Assertions.assertTrue(index.contains(added));
+        Assertions.assertFalse(index.contains(removed));
+        Assertions.assertEquals("Kept", index.name(kept));
+    }
+
+    @Test
+    void testReconcileKeepsUsersChangedWhileListing() {
+        final UUID addedMeanwhile = UUID.randomUUID();
+        final UUID removedMeanwhile = UUID.randomUUID();
+        final SpongeUserIndex index = new SpongeUserIndex();
+        index.add(removedMeanwhile);
+
+        index.beginReconcile();
+        // The listing only sees the user that's removed afterwards
+        index.add(addedMeanwhile);
+        index.remove(removedMeanwhile);
+        index.reconcile(Arrays.asList(removedMeanwhile));
+
+        Assertions.assertTrue(index.contains(addedMeanwhile));
+        Assertions.assertFalse(index.contains(removedMeanwhile));
+    }
+}
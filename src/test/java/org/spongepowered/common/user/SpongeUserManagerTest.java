@@ -0,0 +1,83 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.spongepowered.common.entity.player.SpongeUserData;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class SpongeUserManagerTest {
+
+    private static SpongeUserData user(final UUID uuid) {
+        final SpongeUserData user = Mockito.mock(SpongeUserData.class);
+        Mockito.when(user.uniqueId()).thenReturn(uuid);
+        Mockito.when(user.weight()).thenReturn(10);
+        return user;
+    }
+
+    @Test
+    void testDirtyUserIsNotEvicted() {
+        final Set<SpongeUserData> dirtyUsers = ConcurrentHashMap.newKeySet();
+        final Cache<UUID, SpongeUserData> cache = SpongeUserManager.createUserCache(15L, dirtyUsers);
+
+        final SpongeUserData dirty = SpongeUserManagerTest.user(UUID.randomUUID());
+        dirtyUsers.add(dirty);
+        cache.put(dirty.uniqueId(), dirty);
+        for (int i = 0; i < 4; i++) {
+            final SpongeUserData user = SpongeUserManagerTest.user(UUID.randomUUID());
+            cache.put(user.uniqueId(), user);
+        }
+        cache.cleanUp();
+
+        Assertions.assertSame(dirty, cache.getIfPresent(dirty.uniqueId()));
+        Assertions.assertEquals(2, cache.estimatedSize());
+    }
+
+    @Test
+    void testSavedUserCanBeEvicted() {
+        final Set<SpongeUserData> dirtyUsers = ConcurrentHashMap.newKeySet();
+        final Cache<UUID, SpongeUserData> cache = SpongeUserManager.createUserCache(15L, dirtyUsers);
+
+        final SpongeUserData saved = SpongeUserManagerTest.user(UUID.randomUUID());
+        dirtyUsers.add(saved);
+        cache.put(saved.uniqueId(), saved);
+        dirtyUsers.remove(saved);
+        cache.asMap().replace(saved.uniqueId(), saved, saved);
+        for (int i = 0; i < 4; i++) {
+            final SpongeUserData user = SpongeUserManagerTest.user(UUID.randomUUID());
+            cache.put(user.uniqueId(), user);
+        }
+        cache.cleanUp();
+
+        Assertions.assertEquals(1, cache.estimatedSize());
+    }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util.raytrace;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.math.vector.Vector3d;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+final class RayTraceCursorTest {
+
+    private static final double EPSILON = 1.0E-9;
+
+    private static List<Vector3d> traceSegmentEnds(final Vector3d start, final Vector3d end, final List<Vector3i> blocks) {
+        final RayTraceCursor cursor = new RayTraceCursor(Mockito.mock(ServerWorld.class));
+        cursor.start(start, end);
+        final List<Vector3d> ends = new ArrayList<>();
+        while (true) {
+            final boolean lastStep = cursor.step();
+            ends.add(new Vector3d(cursor.toX, cursor.toY, cursor.toZ));
+            blocks.add(new Vector3i(cursor.blockX, cursor.blockY, cursor.blockZ));
+            if (lastStep) {
+                return ends;
+            }
+            cursor.advance();
+        }
+    }
+
+    /**
+     * The stepping done before the cursor, which went through immutable
+     * vectors for every step.
+     */
+    private static List<Vector3d> oldSegmentEnds(final Vector3d start, final Vector3d end) {
+        final Vector3d directionWithLength = end.sub(start);
+        final double length = directionWithLength.length();
+        final Vector3d direction = directionWithLength.normalize();
+        final Vector3i steps = new Vector3i(Math.signum(direction.x()), Math.signum(direction.y()), Math.signum(direction.z()));
+        double totalT = 0;
+        double tToX = RayTraceCursorTest.getT(start.x(), direction.x(), end.x());
+        double tToY = RayTraceCursorTest.getT(start.y(), direction.y(), end.y());
+        double tToZ = RayTraceCursorTest.getT(start.z(), direction.z(), end.z());
+        Vector3d currentLocation = start;
+        final List<Vector3d> ends = new ArrayList<>();
+        while (true) {
+            final double nextStep = Math.min(tToX, Math.min(tToY, tToZ));
+            if (totalT + nextStep > length) {
+                ends.add(end);
+                return ends;
+            }
+            currentLocation = currentLocation.add(direction.x() * nextStep, direction.y() * nextStep, direction.z() * nextStep);
+            ends.add(currentLocation);
+            totalT += nextStep;
+            tToX = tToX <= nextStep ? steps.x() / direction.x() : tToX - nextStep;
+            tToY = tToY <= nextStep ? steps.y() / direction.y() : tToY - nextStep;
+            tToZ = tToZ <= nextStep ? steps.z() / direction.z() : tToZ - nextStep;
+        }
+    }
+
+    private static double getT(final double start, final double direction, final double end) {
+        if (direction > 0) {
+            return (Math.min(end, Math.ceil(start)) - start) / direction;
+        } else if (direction < 0) {
+            return (Math.max(end, Math.floor(start)) - start) / direction;
+        }
+        return Double.POSITIVE_INFINITY;
+    }
+
+    private static void assertMatchesOldStepping(final Vector3d start, final Vector3d end, final List<Vector3i> blocks) {
+        final List<Vector3d> expected = RayTraceCursorTest.oldSegmentEnds(start, end);
+        final List<Vector3d> actual = RayTraceCursorTest.traceSegmentEnds(start, end, blocks);
+        Assertions.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertEquals(expected.get(i).x(), actual.get(i).x(), RayTraceCursorTest.EPSILON);
+            Assertions.assertEquals(expected.get(i).y(), actual.get(i).y(), RayTraceCursorTest.EPSILON);
+            Assertions.assertEquals(expected.get(i).z(), actual.get(i).z(), RayTraceCursorTest.EPSILON);
+        }
+    }
+
+    @Test
+    void testAxisAlignedTraversal() {
+        final List<Vector3i> east = new ArrayList<>();
+        RayTraceCursorTest.assertMatchesOldStepping(new Vector3d(0.5, 64.5, 0.5), new Vector3d(4.5, 64.5, 0.5), east);
+        Assertions.assertEquals(Arrays.asList(
+                new Vector3i(0, 64, 0), new Vector3i(1, 64, 0), new Vector3i(2, 64, 0), new Vector3i(3, 64, 0), new Vector3i(4, 64, 0)), east);
+
+        final List<Vector3i> north = new ArrayList<>();
+        RayTraceCursorTest.assertMatchesOldStepping(new Vector3d(0.5, 64.5, 0.5), new Vector3d(0.5, 64.5, -3.5), north);
+        Assertions.assertEquals(Arrays.asList(
+                new Vector3i(0, 64, 0), new Vector3i(0, 64, -1), new Vector3i(0, 64, -2), new Vector3i(0, 64, -3), new Vector3i(0, 64, -4)), north);
+
+        final List<Vector3i> down = new ArrayList<>();
+        RayTraceCursorTest.assertMatchesOldStepping(new Vector3d(3.5, 10.25, 3.5), new Vector3d(3.5, 7.75, 3.5), down);
+        Assertions.assertEquals(Arrays.asList(new Vector3i(3, 10, 3), new Vector3i(3, 9, 3), new Vector3i(3, 8, 3), new Vector3i(3, 7, 3)), down);
+    }
+
+    @Test
+    void testDiagonalTraversal() {
+        final Vector3d start = new Vector3d(0.2, 10.7, -3.1);
+        final Vector3d end = new Vector3d(7.9, 2.3, 5.4);
+        final List<Vector3i> blocks = new ArrayList<>();
+        RayTraceCursorTest.assertMatchesOldStepping(start, end, blocks);
+
+        Assertions.assertEquals(start.floor().toInt(), blocks.get(0));
+        Assertions.assertEquals(end.floor().toInt(), blocks.get(blocks.size() - 1));
+        // Every step moves into a voxel sharing a face with the previous one
+        for (int i = 1; i < blocks.size(); i++) {
+            final Vector3i delta = blocks.get(i).sub(blocks.get(i - 1)).abs();
+            Assertions.assertEquals(1, delta.x() + delta.y() + delta.z(), "Step " + i);
+        }
+        // One step per voxel boundary crossed, plus the starting voxel
+        Assertions.assertEquals(1 + 7 + 8 + 9, blocks.size());
+    }
+
+    @Test
+    void testDiagonalThroughEdges() {
+        final List<Vector3i> blocks = new ArrayList<>();
+        RayTraceCursorTest.assertMatchesOldStepping(new Vector3d(0.5, 0.5, 0.5), new Vector3d(3.5, 3.5, 0.5), blocks);
+        Assertions.assertEquals(new Vector3i(0, 0, 0), blocks.get(0));
+        Assertions.assertEquals(new Vector3i(3, 3, 0), blocks.get(blocks.size() - 1));
+    }
+
+}
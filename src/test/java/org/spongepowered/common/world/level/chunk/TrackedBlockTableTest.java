@@ -0,0 +1,90 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.level.chunk;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.common.util.Constants;
+
+final class TrackedBlockTableTest {
+
+    @Test
+    void testPackedIndices() {
+        final TrackedBlockTable table = new TrackedBlockTable();
+        final int key = TrackedBlockTable.key(new BlockPos(3, 70, 12));
+        Assertions.assertEquals(TrackedBlockTable.UNTRACKED, table.creator(key));
+        Assertions.assertEquals(TrackedBlockTable.UNTRACKED, table.notifier(key));
+
+        table.setCreator(key, 5);
+        Assertions.assertEquals(5, table.creator(key));
+        Assertions.assertEquals(TrackedBlockTable.UNTRACKED, table.notifier(key));
+
+        table.setNotifier(key, Integer.MAX_VALUE);
+        Assertions.assertEquals(5, table.creator(key));
+        Assertions.assertEquals(Integer.MAX_VALUE, table.notifier(key));
+
+        table.set(key, TrackedBlockTable.UNTRACKED, TrackedBlockTable.UNTRACKED);
+        Assertions.assertTrue(table.isEmpty());
+    }
+
+    @Test
+    void testRoundTrip() {
+        final TrackedBlockTable table = new TrackedBlockTable();
+        table.set(TrackedBlockTable.key(new BlockPos(0, 0, 0)), 1, 2);
+        table.set(TrackedBlockTable.key(new BlockPos(15, 300, 15)), 3, TrackedBlockTable.UNTRACKED);
+
+        final CompoundTag compound = new CompoundTag();
+        table.write(compound);
+        final TrackedBlockTable read = new TrackedBlockTable();
+        read.read(compound);
+
+        Assertions.assertEquals(2, read.size());
+        Assertions.assertEquals(2, read.notifier(TrackedBlockTable.key(new BlockPos(0, 0, 0))));
+        Assertions.assertEquals(3, read.creator(TrackedBlockTable.key(new BlockPos(15, 300, 15))));
+    }
+
+    @Test
+    void testLegacyShortKeysMigrate() {
+        final BlockPos pos = new BlockPos(7, 200, 9);
+        final CompoundTag entry = new CompoundTag();
+        entry.putShort("pos", Constants.Sponge.blockPosToShort(pos));
+        entry.putInt("owner", 4);
+        entry.putInt("notifier", 6);
+        final ListTag list = new ListTag();
+        list.add(entry);
+        final CompoundTag compound = new CompoundTag();
+        compound.put(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, list);
+
+        final TrackedBlockTable table = new TrackedBlockTable();
+        table.read(compound);
+
+        final int key = TrackedBlockTable.key(pos);
+        Assertions.assertEquals(4, table.creator(key));
+        Assertions.assertEquals(6, table.notifier(key));
+    }
+}
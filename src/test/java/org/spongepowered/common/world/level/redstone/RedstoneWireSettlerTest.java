@@ -0,0 +1,131 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.level.redstone;
+
+import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
+import net.minecraft.core.BlockPos;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Consumer;
+
+final class RedstoneWireSettlerTest {
+
+    private static final int LENGTH = 20;
+
+    @Test
+    void testUnchangedWireDoesNothing() {
+        final LineWires wires = new LineWires();
+        wires.source[0] = 15;
+        RedstoneWireSettler.settle(wires, new BlockPos(0, 0, 0), false, new ObjectLinkedOpenHashSet<>());
+        wires.sets = 0;
+
+        final ObjectLinkedOpenHashSet<BlockPos> changed = new ObjectLinkedOpenHashSet<>();
+        RedstoneWireSettler.settle(wires, new BlockPos(3, 0, 0), false, changed);
+        Assertions.assertTrue(changed.isEmpty());
+        Assertions.assertEquals(0, wires.sets);
+    }
+
+    @Test
+    void testTurnOnAndOff() {
+        for (final boolean vanillaDecrement : new boolean[] {false, true}) {
+            final LineWires wires = new LineWires();
+            wires.source[0] = 15;
+            final ObjectLinkedOpenHashSet<BlockPos> changed = new ObjectLinkedOpenHashSet<>();
+            RedstoneWireSettler.settle(wires, new BlockPos(0, 0, 0), vanillaDecrement, changed);
+            for (int x = 0; x < RedstoneWireSettlerTest.LENGTH; x++) {
+                Assertions.assertEquals(Math.max(0, 15 - x), wires.power[x]);
+            }
+            Assertions.assertEquals(15, changed.size());
+            Assertions.assertEquals(new BlockPos(0, 0, 0), changed.first());
+            Assertions.assertEquals(15, wires.sets);
+
+            wires.source[0] = 0;
+            wires.sets = 0;
+            changed.clear();
+            RedstoneWireSettler.settle(wires, new BlockPos(0, 0, 0), vanillaDecrement, changed);
+            for (int x = 0; x < RedstoneWireSettlerTest.LENGTH; x++) {
+                Assertions.assertEquals(0, wires.power[x]);
+            }
+            Assertions.assertEquals(15, changed.size());
+        }
+    }
+
+    @Test
+    void testRemainingSourceRaisesWiresBack() {
+        final LineWires wires = new LineWires();
+        wires.source[0] = 15;
+        wires.source[10] = 15;
+        RedstoneWireSettler.settle(wires, new BlockPos(0, 0, 0), false, new ObjectLinkedOpenHashSet<>());
+        RedstoneWireSettler.settle(wires, new BlockPos(10, 0, 0), false, new ObjectLinkedOpenHashSet<>());
+
+        wires.source[0] = 0;
+        RedstoneWireSettler.settle(wires, new BlockPos(0, 0, 0), false, new ObjectLinkedOpenHashSet<>());
+        for (int x = 0; x < RedstoneWireSettlerTest.LENGTH; x++) {
+            Assertions.assertEquals(Math.max(0, 15 - Math.abs(10 - x)), wires.power[x]);
+        }
+    }
+
+    /**
+     * A straight line of wires along the x axis.
+     */
+    private static final class LineWires implements RedstoneWires {
+
+        final int[] power = new int[RedstoneWireSettlerTest.LENGTH];
+        final int[] source = new int[RedstoneWireSettlerTest.LENGTH];
+        int sets;
+
+        private boolean isWire(final BlockPos pos) {
+            return pos.getY() == 0 && pos.getZ() == 0 && pos.getX() >= 0 && pos.getX() < RedstoneWireSettlerTest.LENGTH;
+        }
+
+        @Override
+        public int power(final BlockPos pos) {
+            return this.isWire(pos) ? this.power[pos.getX()] : -1;
+        }
+
+        @Override
+        public int blockPower(final BlockPos pos) {
+            return this.source[pos.getX()];
+        }
+
+        @Override
+        public void setPower(final BlockPos pos, final int power) {
+            this.power[pos.getX()] = power;
+            this.sets++;
+        }
+
+        @Override
+        public void forEachConnectedWire(final BlockPos pos, final Consumer<BlockPos> action) {
+            if (this.isWire(pos.west())) {
+                action.accept(pos.west());
+            }
+            if (this.isWire(pos.east())) {
+                action.accept(pos.east());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.teleport;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+final class TeleportSearchOrderTest {
+
+    private static List<Vector3i> sorted(final Vector3i center, final int minX, final int maxX, final int minY, final int maxY,
+            final int minZ, final int maxZ) {
+        final List<Vector3i> vectors = new ArrayList<>();
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    vectors.add(new Vector3i(x, y, z));
+                }
+            }
+        }
+        vectors.sort(Comparator.<Vector3i>comparingInt(center::distanceSquared)
+                .thenComparingInt(v -> -Math.abs(center.y() - v.y()))
+                .thenComparingInt(v -> -v.y()));
+        return vectors;
+    }
+
+    private static List<Vector3i> generated(final Vector3i center, final int minX, final int maxX, final int minY, final int maxY,
+            final int minZ, final int maxZ) {
+        final List<Vector3i> vectors = new ArrayList<>();
+        final TeleportSearchOrder order = new TeleportSearchOrder(center, minX, maxX, minY, maxY, minZ, maxZ);
+        while (order.hasNext()) {
+            vectors.add(order.next());
+        }
+        return vectors;
+    }
+
+    @Test
+    void matchesSortedOrder() {
+        final Vector3i center = new Vector3i(10, 64, -20);
+        Assertions.assertEquals(
+                TeleportSearchOrderTest.sorted(center, 5, 15, 61, 67, -25, -15),
+                TeleportSearchOrderTest.generated(center, 5, 15, 61, 67, -25, -15));
+    }
+
+    @Test
+    void matchesSortedOrderWhenClamped() {
+        // The centre lies outside of the box, as it does when clamped to the world border
+        final Vector3i center = new Vector3i(0, 2, 0);
+        Assertions.assertEquals(
+                TeleportSearchOrderTest.sorted(center, -3, 2, 0, 5, 4, 9),
+                TeleportSearchOrderTest.generated(center, -3, 2, 0, 5, 4, 9));
+    }
+
+    @Test
+    void emptyBox() {
+        Assertions.assertFalse(new TeleportSearchOrder(Vector3i.ZERO, 0, 0, 0, 0, 1, 0).hasNext());
+    }
+}